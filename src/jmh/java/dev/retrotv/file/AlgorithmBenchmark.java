@@ -0,0 +1,62 @@
+package dev.retrotv.file;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getHash() 메서드의 성능을 해시 알고리즘과 파일 크기별로 측정하는 벤치마크 입니다.
+ * 파일 크기는 KB 단위이며, 작은 파일에서는 파일을 여닫는 비용이, 큰 파일에서는 알고리즘의 처리량이 결과를 좌우합니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AlgorithmBenchmark {
+
+    @Param({"CRC32", "MD5", "SHA1", "SHA224", "SHA256", "SHA384", "SHA512", "SHA512224", "SHA512256",
+            "SHA3224", "SHA3256", "SHA3384", "SHA3512"})
+    public ExtendedFile.EHash hash;
+
+    @Param({"4", "1024", "65536"})
+    public int sizeInKilobytes;
+
+    private Path directory;
+    private ExtendedFile file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("extended-file-algorithm");
+        file = BenchmarkFixtures.createRandomFiles(directory, 1, sizeInKilobytes * 1024).get(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new ExtendedFile(directory.toString()).rm(true);
+    }
+
+    @Benchmark
+    public String getHash() throws IOException {
+        return file.getHash(hash);
+    }
+}
@@ -0,0 +1,93 @@
+package dev.retrotv.file;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크에서 사용할 파일과 디렉터리 트리를 생성하는 클래스 입니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+        throw new UnsupportedOperationException("인스턴스를 생성할 수 없는 클래스입니다.");
+    }
+
+    /**
+     * 디렉터리마다 childDirectories개의 하위 디렉터리와 filesPerDirectory개의 파일을 가진, 깊이 depth의 트리를 생성합니다.
+     *
+     * @param directory 트리를 생성할 디렉터리
+     * @param depth 트리의 깊이
+     * @param childDirectories 디렉터리마다 생성할 하위 디렉터리 개수
+     * @param filesPerDirectory 디렉터리마다 생성할 파일 개수
+     * @throws IOException 파일을 생성하는 과정에서 오류가 발생하면 던져짐
+     */
+    static void createTree(Path directory, int depth, int childDirectories, int filesPerDirectory) throws IOException {
+        for (int i = 0; i < filesPerDirectory; i++) {
+            Files.write(directory.resolve("file-" + i + ".txt"), ("file-" + i).getBytes());
+        }
+
+        if (depth == 0) {
+            return;
+        }
+
+        for (int i = 0; i < childDirectories; i++) {
+            Path child = Files.createDirectory(directory.resolve("dir-" + i));
+            createTree(child, depth - 1, childDirectories, filesPerDirectory);
+        }
+    }
+
+    /**
+     * 무작위 내용을 가진 파일을 count개 생성합니다.
+     * 희소 파일과 달리 실제로 디스크에 기록되므로, 읽기 성능을 측정할 때 사용합니다.
+     *
+     * @param directory 파일을 생성할 디렉터리
+     * @param count 생성할 파일 개수
+     * @param size 파일마다의 크기 (byte)
+     * @return 생성한 파일 목록
+     * @throws IOException 파일을 생성하는 과정에서 오류가 발생하면 던져짐
+     */
+    static List<ExtendedFile> createRandomFiles(Path directory, int count, int size) throws IOException {
+        Random random = new Random(count);
+        byte[] content = new byte[size];
+        List<ExtendedFile> files = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            random.nextBytes(content);
+            Path file = Files.write(directory.resolve("random-" + i + ".bin"), content);
+            files.add(new ExtendedFile(file.toString()));
+        }
+
+        return files;
+    }
+
+    /**
+     * 무작위 내용을 가진 파일 하나를 1MB씩 나누어 기록합니다.
+     * 크기와 관계없이 1MB의 버퍼만 사용하므로, 힙을 제한한 벤치마크에서도 힙보다 큰 파일을 생성할 수 있습니다.
+     *
+     * @param file 생성할 파일
+     * @param size 파일 크기 (byte)
+     * @return 생성한 파일
+     * @throws IOException 파일을 생성하는 과정에서 오류가 발생하면 던져짐
+     */
+    static ExtendedFile createRandomFile(Path file, long size) throws IOException {
+        Random random = new Random(size);
+        byte[] chunk = new byte[1024 * 1024];
+
+        try (OutputStream output = Files.newOutputStream(file)) {
+            for (long written = 0; written < size; written += chunk.length) {
+                random.nextBytes(chunk);
+                output.write(chunk, 0, (int) Math.min(chunk.length, size - written));
+            }
+        }
+
+        return new ExtendedFile(file.toString());
+    }
+}
@@ -0,0 +1,67 @@
+package dev.retrotv.file;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 64MB 파일을 내용 기준의 조각으로 나누는 Chunker의 성능을 측정하는 벤치마크 입니다.
+ * CRC32는 조각의 해시 코드 계산 비용이 작으므로 롤링 해시의 처리량을, SHA256은 실제 중복 제거 통계에 가까운 처리량을 보여줍니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ChunkBenchmark {
+
+    // 측정에 사용할 파일의 크기
+    private static final int SIZE = 64 * 1024 * 1024;
+
+    @Param({"CRC32", "SHA256"})
+    public ExtendedFile.EHash hash;
+
+    @Param({"8192", "65536"})
+    public int averageSize;
+
+    private Path directory;
+    private Path path;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("extended-file-chunk");
+        path = BenchmarkFixtures.createRandomFiles(directory, 1, SIZE).get(0).toPath();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new ExtendedFile(directory.toString()).rm(true);
+    }
+
+    @Benchmark
+    public long chunk() throws IOException {
+        long[] chunks = new long[1];
+        Chunker.chunk(path, hash, averageSize, (offset, length, digest) -> chunks[0]++);
+
+        return chunks[0];
+    }
+}
@@ -0,0 +1,82 @@
+package dev.retrotv.file;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 해시 코드 비교(matches)와 바이트 단위 비교(matchesDeep)의 성능을 비교하는 벤치마크 입니다.
+ * difference는 두 파일이 다른 위치이며, none은 같은 파일, first는 첫 바이트, last는 마지막 바이트만 다른 파일입니다.
+ * 바이트 단위 비교는 처음으로 다른 바이트에서 멈추므로, first에서는 파일 크기와 관계없이 빠르게 끝나야 합니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CompareBenchmark {
+
+    @Param({"1", "64"})
+    public int sizeInMegabytes;
+
+    @Param({"none", "first", "last"})
+    public String difference;
+
+    private Path directory;
+    private ExtendedFile file;
+    private ExtendedFile other;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("extended-file-compare");
+        file = BenchmarkFixtures.createRandomFiles(directory, 1, sizeInMegabytes * 1024 * 1024).get(0);
+
+        Path target = directory.resolve("other.bin");
+        Files.copy(file.toPath(), target);
+        other = new ExtendedFile(target.toString());
+
+        if (!"none".equals(difference)) {
+            try (RandomAccessFile raf = new RandomAccessFile(other, "rw")) {
+                raf.seek("first".equals(difference) ? 0 : raf.length() - 1);
+                int value = raf.read();
+                raf.seek(raf.getFilePointer() - 1);
+                raf.write(value ^ 0xFF);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new ExtendedFile(directory.toString()).rm(true);
+    }
+
+    @Benchmark
+    public boolean matches() throws IOException {
+        return file.matches(other);
+    }
+
+    @Benchmark
+    public boolean matchesDeep() throws IOException {
+        return file.matchesDeep(other);
+    }
+}
@@ -0,0 +1,64 @@
+package dev.retrotv.file;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * hashAll() 메서드의 처리량을 스레드 수별로 측정하는 벤치마크 입니다.
+ * 1MB 파일 256개의 해시 코드를 계산하며, threads가 1인 경우가 파일마다 getHash()를 순서대로 호출하는 경우에 해당합니다.
+ * 임시 디렉터리가 SSD에 있는 환경에서 측정해야 합니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HashAllBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private Path directory;
+    private List<ExtendedFile> files;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("extended-file-hash-all");
+        files = BenchmarkFixtures.createRandomFiles(directory, 256, 1024 * 1024);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new ExtendedFile(directory.toString()).rm(true);
+    }
+
+    @Benchmark
+    public long hashAll() {
+        try (Stream<Map.Entry<ExtendedFile, String>> stream = ExtendedFile.hashAll(files, ExtendedFile.EHash.SHA256, threads)) {
+            return stream.count();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package dev.retrotv.file;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getHash() 메서드의 메모리 사용량을 파일 크기별로 측정하는 벤치마크 입니다.
+ * 힙 크기를 64MB로 제한한 상태에서 8GB 파일까지 해시 코드를 계산하며,
+ * gc 프로파일러(-Pjmh.profilers=gc)의 gc.alloc.rate.norm 값이 파일 크기와 관계없이 일정해야 합니다.
+ * 파일은 무작위 내용으로 실제로 기록하므로 (8GB 파일은 그만큼의 디스크 공간이 필요), 측정 시간에는 실제 읽기 비용이 포함됩니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx64m")
+public class HashBenchmark {
+
+    @Param({"1", "64", "1024", "8192"})
+    public int sizeInMegabytes;
+
+    private Path directory;
+    private ExtendedFile file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("extended-file-hash");
+        file = BenchmarkFixtures.createRandomFile(directory.resolve("fixture.bin"), sizeInMegabytes * 1024L * 1024L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new ExtendedFile(directory.toString()).rm(true);
+    }
+
+    @Benchmark
+    public String getHash() throws IOException {
+        return file.getHash(ExtendedFile.EHash.SHA256);
+    }
+}
@@ -0,0 +1,98 @@
+package dev.retrotv.file;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * getMimeType() 메서드의 성능을 파일 유형별로 측정하는 벤치마크 입니다.
+ * text는 텍스트 파일, png는 PNG 시그니처로 시작하는 파일, zip은 항목 하나를 가진 ZIP 파일입니다.
+ * 메타데이터 캐시를 사용하지 않으므로, 매번 파일을 읽어들여서 판별합니다.
+ * tika는 기본 판별기인 [TikaMimeTypeDetector], tiered는 [TieredMimeTypeDetector], tiered-strict는 엄격 모드의 [TieredMimeTypeDetector]로 판별합니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MimeTypeBenchmark {
+
+    // PNG 파일 시그니처
+    private static final byte[] PNG_SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+
+    @Param({"text", "png", "zip"})
+    public String type;
+
+    @Param({"tika", "tiered", "tiered-strict"})
+    public String detector;
+
+    private Path directory;
+    private ExtendedFile file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("extended-file-mime");
+        Path path = directory.resolve("fixture." + ("text".equals(type) ? "txt" : type));
+        byte[] content = "extended-file benchmark fixture\n".getBytes(StandardCharsets.UTF_8);
+
+        try (OutputStream out = Files.newOutputStream(path)) {
+            if ("text".equals(type)) {
+                for (int i = 0; i < 256; i++) {
+                    out.write(content);
+                }
+            } else if ("png".equals(type)) {
+                out.write(PNG_SIGNATURE);
+                out.write(new byte[4096]);
+            } else {
+                try (ZipOutputStream zip = new ZipOutputStream(out)) {
+                    zip.putNextEntry(new ZipEntry("fixture.txt"));
+                    zip.write(content);
+                    zip.closeEntry();
+                }
+            }
+        }
+
+        file = new ExtendedFile(path.toString());
+        if (!"tika".equals(detector)) {
+            file.setMimeTypeDetector(new TieredMimeTypeDetector("tiered-strict".equals(detector)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new ExtendedFile(directory.toString()).rm(true);
+    }
+
+    @Benchmark
+    public String getMimeType() throws IOException {
+        return file.getMimeType();
+    }
+
+    @Benchmark
+    public boolean isImage() throws IOException {
+        return file.isImage();
+    }
+}
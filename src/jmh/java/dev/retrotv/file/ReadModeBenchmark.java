@@ -0,0 +1,73 @@
+package dev.retrotv.file;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 읽기 방식(HEAP, DIRECT, MAPPED)별로 getHash()와 matches() 메서드의 성능을 비교하는 벤치마크 입니다.
+ * gc 프로파일러(-Pjmh.profilers=gc)를 함께 사용하면 읽기 방식별 힙 할당량도 비교할 수 있습니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ReadModeBenchmark {
+
+    @Param({"HEAP", "DIRECT", "MAPPED"})
+    public ExtendedFile.EReadMode readMode;
+
+    @Param({"16", "256"})
+    public int sizeInMegabytes;
+
+    private Path directory;
+    private ExtendedFile file;
+    private ExtendedFile copy;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("extended-file-read-mode");
+        List<ExtendedFile> files = BenchmarkFixtures.createRandomFiles(directory, 1, sizeInMegabytes * 1024 * 1024);
+        file = files.get(0);
+
+        Path target = directory.resolve("copy.bin");
+        Files.copy(file.toPath(), target);
+        copy = new ExtendedFile(target.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new ExtendedFile(directory.toString()).rm(true);
+    }
+
+    @Benchmark
+    public String getHash() throws IOException {
+        return file.getHash(ExtendedFile.EHash.SHA256, readMode);
+    }
+
+    @Benchmark
+    public boolean matches() throws IOException {
+        return file.matches(copy, readMode);
+    }
+}
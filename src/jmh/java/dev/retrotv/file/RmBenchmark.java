@@ -0,0 +1,66 @@
+package dev.retrotv.file;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * rm(true) 메서드로 디렉터리 트리를 재귀적으로 삭제하는 성능을 측정하는 벤치마크 입니다.
+ * 삭제할 트리는 매번 새로 생성하며, 트리의 모양은 [WalkBenchmark]와 같습니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class RmBenchmark {
+
+    @Param({"wide", "deep"})
+    public String shape;
+
+    private ExtendedFile root;
+
+    @Setup(Level.Invocation)
+    public void setUp() throws IOException {
+        Path directory = Files.createTempDirectory("extended-file-rm");
+        root = new ExtendedFile(directory.toString());
+
+        if ("wide".equals(shape)) {
+            BenchmarkFixtures.createTree(directory, 1, 64, 256);
+        } else {
+            BenchmarkFixtures.createTree(directory, 7, 3, 8);
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        // 삭제에 실패한 경우에도 임시 디렉터리가 남지 않도록 다시 삭제
+        if (root.exists()) {
+            root.rm(true);
+        }
+    }
+
+    @Benchmark
+    public boolean rm() {
+        return root.rm(true);
+    }
+}
@@ -0,0 +1,75 @@
+package dev.retrotv.file;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 순차 탐색(walkFiles)과 병렬 탐색(walkFilesParallel), 그리고 목록을 만들지 않는 디스크 사용량 집계(getDiskUsage)의 성능을 비교하는 벤치마크 입니다.
+ * wide는 넓고 얕은 트리(디렉터리 64개 x 파일 256개), deep은 좁고 깊은 트리(깊이 7, 디렉터리마다 하위 디렉터리 3개와 파일 8개)입니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WalkBenchmark {
+
+    @Param({"wide", "deep"})
+    public String shape;
+
+    private Path directory;
+    private ExtendedFile root;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("extended-file-walk");
+        root = new ExtendedFile(directory.toString());
+
+        if ("wide".equals(shape)) {
+            BenchmarkFixtures.createTree(directory, 1, 64, 256);
+        } else {
+            BenchmarkFixtures.createTree(directory, 7, 3, 8);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        root.rm(true);
+    }
+
+    @Benchmark
+    public List<ExtendedFile> walkFiles() {
+        return root.walkFiles();
+    }
+
+    @Benchmark
+    public List<ExtendedFile> walkFilesParallel() {
+        return root.walkFilesParallel();
+    }
+
+    @Benchmark
+    public long getDiskUsage() {
+        return root.getDiskUsage().getBytes();
+    }
+}
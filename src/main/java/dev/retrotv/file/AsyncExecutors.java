@@ -0,0 +1,41 @@
+package dev.retrotv.file;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 메서드가 기본으로 사용하는 [Executor]를 제공하는 클래스 입니다.
+ * 파일 I/O 작업이 공용 [java.util.concurrent.ForkJoinPool]을 점유하지 않도록, 필요한 만큼 데몬 스레드를 생성하는 별도의 스레드 풀을 사용합니다.
+ *
+ * Java 21 이상에서는 Multi-Release JAR의 META-INF/versions/21 아래에 있는 같은 이름의 클래스가 대신 사용되며, 작업마다 가상 스레드를 생성합니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+final class AsyncExecutors {
+
+    private AsyncExecutors() {
+        throw new UnsupportedOperationException("인스턴스를 생성할 수 없는 클래스입니다.");
+    }
+
+    /**
+     * 비동기 메서드가 기본으로 사용하는 [Executor]를 반환합니다.
+     *
+     * @return 기본 [Executor]
+     */
+    static Executor defaultExecutor() {
+        return Holder.EXECUTOR;
+    }
+
+    // 처음 사용할 때 스레드 풀을 생성
+    private static final class Holder {
+        private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+        private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "extended-file-async-" + THREAD_NUMBER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,106 @@
+package dev.retrotv.file;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 취소하면 작업을 실행 중인 스레드를 인터럽트하는 [CompletableFuture] 입니다.
+ * 인터럽트된 스레드에서 [java.nio.channels.FileChannel]을 읽고 있으면 채널이 닫히면서 ClosedByInterruptException이 발생하므로,
+ * 취소와 동시에 진행 중인 읽기가 중단됩니다.
+ *
+ * 인터럽트는 [#cancel(boolean)]에 true를 전달한 경우에만 발생하며, thenApply 등으로 만든 다음 단계의 future를 취소해서는 작업이 중단되지 않습니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+final class AsyncTask<T> extends CompletableFuture<T> implements Runnable {
+    private final Body<T> body;
+    private final Object lock = new Object();
+
+    // 작업을 실행 중인 스레드 (lock으로 보호, 실행 중이 아니면 null)
+    private Thread runner;
+
+    private AsyncTask(@NonNull Body<T> body) {
+        this.body = body;
+    }
+
+    /**
+     * 비동기로 실행할 작업을 정의하는 인터페이스 입니다.
+     */
+    @FunctionalInterface
+    interface Body<T> {
+
+        /**
+         * 작업을 실행하고 결과를 반환합니다.
+         *
+         * @param cancelled 작업이 취소되었는지 여부를 반환하는 [BooleanSupplier] 객체
+         * @return 작업 결과
+         * @throws IOException 작업 도중에 오류가 발생하면 던져짐
+         */
+        T call(@NonNull BooleanSupplier cancelled) throws IOException;
+    }
+
+    /**
+     * 작업을 executor에 등록하고, 작업의 결과를 담을 future를 반환합니다.
+     * executor가 작업을 거부하면 예외로 완료된 future를 반환합니다.
+     *
+     * @param executor 작업을 실행할 [Executor]
+     * @param body 실행할 작업
+     * @return 작업의 결과를 담을 future
+     */
+    @NonNull static <T> CompletableFuture<T> submit(@NonNull Executor executor, @NonNull Body<T> body) {
+        AsyncTask<T> task = new AsyncTask<>(body);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.completeExceptionally(e);
+        }
+
+        return task;
+    }
+
+    @Override
+    public void run() {
+        synchronized (lock) {
+            if (isDone()) {
+                return;
+            }
+
+            runner = Thread.currentThread();
+        }
+
+        try {
+            complete(body.call(this::isCancelled));
+        } catch (Throwable e) {
+            completeExceptionally(e);
+        } finally {
+            synchronized (lock) {
+                runner = null;
+            }
+
+            // 취소로 인한 인터럽트가 스레드 풀의 다음 작업에 남지 않도록 해제
+            if (isCancelled()) {
+                Thread.interrupted();
+            }
+        }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        boolean cancelled = super.cancel(mayInterruptIfRunning);
+        if (cancelled && mayInterruptIfRunning) {
+            synchronized (lock) {
+                if (runner != null) {
+                    runner.interrupt();
+                }
+            }
+        }
+
+        return cancelled;
+    }
+}
@@ -0,0 +1,221 @@
+package dev.retrotv.file;
+
+import dev.retrotv.file.ExtendedFile.EReadMode;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 파일을 [EReadMode]에 따라 블록 단위로 읽어들이는 클래스 입니다.
+ * HEAP과 DIRECT는 스레드별로 재사용되는 버퍼에 읽어들이며, MAPPED는 [FileComparator#MAPPED_WINDOW] 크기 이하의 구간씩 메모리 매핑한 다음
+ * 사용이 끝나면 곧바로 해제하므로, 주소 공간을 과도하게 사용하거나 삭제할 파일이 잠기지 않습니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+final class BlockReader {
+
+    // 스레드별로 재사용되는 다이렉트 버퍼 (비교할 때는 두 개를 사용)
+    private static final ThreadLocal<ByteBuffer> DIRECT_BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(FileHasher.BUFFER_SIZE));
+    private static final ThreadLocal<ByteBuffer> OTHER_DIRECT_BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(FileHasher.BUFFER_SIZE));
+
+    // 비교 대상 파일을 읽어들일 스레드별 힙 버퍼 (다른 한쪽은 FileHasher의 버퍼를 사용)
+    private static final ThreadLocal<ByteBuffer> OTHER_BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocate(FileHasher.BUFFER_SIZE));
+
+    private BlockReader() {
+        throw new UnsupportedOperationException("인스턴스를 생성할 수 없는 클래스입니다.");
+    }
+
+    /**
+     * 읽어들인 블록을 전달받는 인터페이스 입니다.
+     */
+    @FunctionalInterface
+    interface BlockConsumer {
+
+        /**
+         * 블록을 전달받습니다. 블록의 position부터 limit까지가 읽어들인 데이터이며, 반환된 이후에는 블록을 사용해서는 안됩니다.
+         *
+         * @param block 읽어들인 블록
+         * @throws IOException 블록을 처리하는 과정에서 오류가 발생하면 던져짐
+         */
+        void accept(@NonNull ByteBuffer block) throws IOException;
+    }
+
+    /**
+     * 두 파일에서 같은 위치의 블록을 전달받는 인터페이스 입니다.
+     */
+    @FunctionalInterface
+    interface BlockPairConsumer {
+
+        /**
+         * 두 파일에서 같은 위치의 블록을 전달받습니다. 반환된 이후에는 블록을 사용해서는 안됩니다.
+         *
+         * @param source 비교할 파일의 블록
+         * @param target 비교 대상 파일의 블록
+         * @return 계속 읽어들일지 여부
+         * @throws IOException 블록을 처리하는 과정에서 오류가 발생하면 던져짐
+         */
+        boolean accept(@NonNull ByteBuffer source, @NonNull ByteBuffer target) throws IOException;
+    }
+
+    /**
+     * AUTO를 파일 크기에 맞는 방식으로 바꾸어 반환합니다.
+     * [FileComparator#MAPPED_THRESHOLD] 이상인 파일은 MAPPED, 그보다 작은 파일은 HEAP을 사용합니다.
+     *
+     * @param mode 읽기 방식
+     * @param size 파일 크기
+     * @return AUTO가 아닌 읽기 방식
+     */
+    @NonNull static EReadMode resolve(@NonNull EReadMode mode, long size) {
+        if (mode != EReadMode.AUTO) {
+            return mode;
+        }
+
+        return size >= FileComparator.MAPPED_THRESHOLD ? EReadMode.MAPPED : EReadMode.HEAP;
+    }
+
+    /**
+     * 채널의 현재 위치부터 끝까지 블록 단위로 읽어들여서 consumer에 전달합니다.
+     * permits를 지정하면 블록을 읽을 때마다(MAPPED는 구간을 처리하는 동안) 허가를 얻습니다.
+     *
+     * @param channel 읽어들일 채널
+     * @param mode 읽기 방식
+     * @param permits 읽기 동시성을 제한할 [Semaphore] (null이면 제한 없음)
+     * @param consumer 블록을 전달받을 [BlockConsumer] 객체
+     * @return 읽어들인 바이트 수
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하거나, 허가를 기다리는 도중에 인터럽트되면 던져짐
+     */
+    static long read(@NonNull FileChannel channel, @NonNull EReadMode mode, Semaphore permits, @NonNull BlockConsumer consumer) throws IOException {
+        long position = channel.position();
+        long size = channel.size();
+
+        if (resolve(mode, size - position) == EReadMode.MAPPED) {
+            long total = 0;
+            for (; position < size; position += FileComparator.MAPPED_WINDOW) {
+                long length = Math.min(FileComparator.MAPPED_WINDOW, size - position);
+
+                acquire(permits);
+                MappedByteBuffer window = null;
+                try {
+                    window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                    consumer.accept(window);
+                } finally {
+                    if (window != null) {
+                        MappedBuffers.unmap(window);
+                    }
+                    release(permits);
+                }
+
+                total += length;
+            }
+
+            channel.position(size);
+            return total;
+        }
+
+        ByteBuffer buffer = mode == EReadMode.DIRECT ? DIRECT_BUFFER.get() : FileHasher.buffer();
+        long total = 0;
+
+        while (true) {
+            buffer.clear();
+
+            int read;
+            acquire(permits);
+            try {
+                read = FileComparator.readBlock(channel, buffer);
+            } finally {
+                release(permits);
+            }
+
+            if (read == 0) {
+                return total;
+            }
+
+            total += read;
+            consumer.accept(buffer);
+        }
+    }
+
+    /**
+     * 두 채널의 앞부분 length 바이트를 같은 위치의 블록끼리 읽어들여서 consumer에 전달합니다.
+     * 어느 한쪽이 먼저 끝나면 길이가 다른 블록이 전달되며, consumer가 false를 반환하면 읽기를 중단합니다.
+     *
+     * @param source 비교할 파일의 채널
+     * @param target 비교 대상 파일의 채널
+     * @param length 읽어들일 길이
+     * @param mode 읽기 방식
+     * @param consumer 블록을 전달받을 [BlockPairConsumer] 객체
+     * @return 끝까지 읽어들였으면 true, consumer가 중단했으면 false
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     */
+    static boolean read(@NonNull FileChannel source, @NonNull FileChannel target, long length, @NonNull EReadMode mode,
+                        @NonNull BlockPairConsumer consumer) throws IOException {
+        if (resolve(mode, length) == EReadMode.MAPPED) {
+            for (long position = 0; position < length; position += FileComparator.MAPPED_WINDOW) {
+                long size = Math.min(FileComparator.MAPPED_WINDOW, length - position);
+                MappedByteBuffer sourceWindow = source.map(FileChannel.MapMode.READ_ONLY, position, size);
+                MappedByteBuffer targetWindow = null;
+
+                try {
+                    targetWindow = target.map(FileChannel.MapMode.READ_ONLY, position, size);
+                    if (!consumer.accept(sourceWindow, targetWindow)) {
+                        return false;
+                    }
+                } finally {
+                    MappedBuffers.unmap(sourceWindow);
+                    if (targetWindow != null) {
+                        MappedBuffers.unmap(targetWindow);
+                    }
+                }
+            }
+
+            return true;
+        }
+
+        boolean direct = mode == EReadMode.DIRECT;
+        ByteBuffer sourceBuffer = direct ? DIRECT_BUFFER.get() : FileHasher.buffer();
+        ByteBuffer targetBuffer = direct ? OTHER_DIRECT_BUFFER.get() : OTHER_BUFFER.get();
+
+        while (true) {
+            sourceBuffer.clear();
+            targetBuffer.clear();
+            int sourceRead = FileComparator.readBlock(source, sourceBuffer);
+            int targetRead = FileComparator.readBlock(target, targetBuffer);
+
+            if (sourceRead == 0 && targetRead == 0) {
+                return true;
+            }
+
+            if (!consumer.accept(sourceBuffer, targetBuffer)) {
+                return false;
+            }
+        }
+    }
+
+    // 허가를 얻음 (permits가 null이면 무시)
+    private static void acquire(Semaphore permits) throws InterruptedIOException {
+        if (permits == null) {
+            return;
+        }
+
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("파일을 읽기 위해 대기하는 도중에 인터럽트 되었습니다.");
+        }
+    }
+
+    // 허가를 반환 (permits가 null이면 무시)
+    private static void release(Semaphore permits) {
+        if (permits != null) {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package dev.retrotv.file;
+
+import dev.retrotv.file.ExtendedFile.EHash;
+
+import lombok.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 여러 파일의 해시 코드를 병렬로 계산하는 클래스 입니다.
+ * 해시 코드를 계산하는 스레드 수(CPU 동시성)와 동시에 블록을 읽어들이는 스레드 수(I/O 동시성)를 따로 제한합니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+final class BulkHasher {
+
+    // 작업 스레드 이름에 붙이는 일련 번호
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    private BulkHasher() {
+        throw new UnsupportedOperationException("인스턴스를 생성할 수 없는 클래스입니다.");
+    }
+
+    /**
+     * 모든 파일의 해시 코드를 계산하고, 계산이 끝날 때까지 기다립니다.
+     * listener가 검사되지 않는 예외를 던지더라도 나머지 파일의 계산은 계속하며, 모든 계산이 끝난 후에 처음 던진 예외를 다시 던집니다.
+     *
+     * @param files 해시 코드를 계산할 파일 목록
+     * @param hash 파일 해시 알고리즘
+     * @param parallelism 해시 코드를 계산할 스레드 수
+     * @param ioParallelism 동시에 블록을 읽어들일 수 있는 스레드 수
+     * @param listener 파일마다 결과를 전달받을 [HashListener] 객체
+     * @throws InterruptedIOException 계산이 끝나기를 기다리는 도중에 인터럽트되면 던져짐
+     * @throws RuntimeException listener가 검사되지 않는 예외를 던지면 던져짐
+     */
+    static void hash(@NonNull Collection<? extends File> files, @NonNull EHash hash, int parallelism, int ioParallelism,
+                     @NonNull HashListener listener) throws InterruptedIOException {
+        AtomicReference<Throwable> listenerError = new AtomicReference<>();
+        ExecutorService executor = start(files, hash, parallelism, ioParallelism, listener, listenerError);
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                // 모든 파일의 계산이 끝날 때까지 대기
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("해시 코드 계산이 끝나기를 기다리는 도중에 인터럽트 되었습니다.");
+        }
+
+        Throwable error = listenerError.get();
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        } else if (error instanceof Error) {
+            throw (Error) error;
+        }
+    }
+
+    /**
+     * 모든 파일의 해시 코드를 계산하면서, 계산이 끝나는 순서대로 결과를 반환하는 [Stream]을 생성합니다.
+     * [Stream]을 닫으면 아직 끝나지 않은 계산을 중단합니다.
+     *
+     * @param files 해시 코드를 계산할 파일 목록
+     * @param hash 파일 해시 알고리즘
+     * @param parallelism 해시 코드를 계산할 스레드 수
+     * @param ioParallelism 동시에 블록을 읽어들일 수 있는 스레드 수
+     * @return 파일과 해시 코드의 쌍을 반환하는 [Stream] (파일을 읽어들이지 못하면 [UncheckedIOException]을 던짐)
+     */
+    @NonNull static Stream<Map.Entry<ExtendedFile, String>> stream(@NonNull Collection<? extends File> files, @NonNull EHash hash,
+                                                                   int parallelism, int ioParallelism) {
+        BlockingQueue<Result> results = new LinkedBlockingQueue<>();
+        ExecutorService executor = start(files, hash, parallelism, ioParallelism, new HashListener() {
+            @Override
+            public void onSuccess(@NonNull ExtendedFile file, @NonNull String value) {
+                results.add(new Result(file, value, null));
+            }
+
+            @Override
+            public void onFailure(@NonNull ExtendedFile file, @NonNull IOException e) {
+                results.add(new Result(file, null, e));
+            }
+        }, new AtomicReference<>());
+
+        Iterator<Map.Entry<ExtendedFile, String>> iterator = new ResultIterator(results, files.size());
+        Spliterator<Map.Entry<ExtendedFile, String>> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL);
+
+        return StreamSupport.stream(spliterator, false).onClose(executor::shutdownNow);
+    }
+
+    // 작업 스레드를 생성하고 모든 파일의 계산 작업을 등록 (listener가 던진 검사되지 않는 예외는 listenerError에 기록)
+    @NonNull private static ExecutorService start(@NonNull Collection<? extends File> files, @NonNull EHash hash, int parallelism,
+                                                  int ioParallelism, @NonNull HashListener listener,
+                                                  @NonNull AtomicReference<Throwable> listenerError) {
+        if (parallelism < 1 || ioParallelism < 1) {
+            throw new IllegalArgumentException("동시성은 1 이상이어야 합니다.");
+        }
+
+        List<ExtendedFile> targets = new ArrayList<>(files.size());
+        for (File file : files) {
+            targets.add(ExtendedFile.of(file));
+        }
+
+        Semaphore permits = new Semaphore(ioParallelism);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "extended-file-hash-" + THREAD_NUMBER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (ExtendedFile target : targets) {
+            executor.execute(() -> {
+                String value = null;
+                IOException failure = null;
+                try {
+                    value = target.getHash(hash, ExtendedFile.getDefaultReadMode(), permits);
+                } catch (IOException e) {
+                    failure = e;
+                } catch (RuntimeException | Error e) {
+                    // 검사되지 않는 예외도 실패로 전달해서, 결과를 기다리는 쪽이 멈추지 않도록 함
+                    failure = new IOException(target.getPath() + " 파일의 해시 코드를 계산하는 과정에서 오류가 발생했습니다.", e);
+                }
+
+                try {
+                    if (failure != null) {
+                        listener.onFailure(target, failure);
+                    } else {
+                        listener.onSuccess(target, value);
+                    }
+                } catch (RuntimeException | Error e) {
+                    if (!listenerError.compareAndSet(null, e)) {
+                        listenerError.get().addSuppressed(e);
+                    }
+                }
+            });
+        }
+
+        executor.shutdown();
+        return executor;
+    }
+
+    // 하나의 파일에 대한 계산 결과
+    private static final class Result {
+        private final ExtendedFile file;
+        private final String hash;
+        private final IOException exception;
+
+        private Result(@NonNull ExtendedFile file, String hash, IOException exception) {
+            this.file = file;
+            this.hash = hash;
+            this.exception = exception;
+        }
+    }
+
+    // 계산이 끝나는 대로 결과를 꺼내서 반환하는 반복자
+    private static final class ResultIterator implements Iterator<Map.Entry<ExtendedFile, String>> {
+        private final BlockingQueue<Result> results;
+        private int remaining;
+
+        private ResultIterator(@NonNull BlockingQueue<Result> results, int remaining) {
+            this.results = results;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public Map.Entry<ExtendedFile, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            Result result;
+            try {
+                result = results.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UncheckedIOException(new InterruptedIOException("해시 코드 계산이 끝나기를 기다리는 도중에 인터럽트 되었습니다."));
+            }
+
+            remaining--;
+            if (result.exception != null) {
+                throw new UncheckedIOException(result.file.getPath() + " 파일을 읽어들이는 과정에서 오류가 발생했습니다.", result.exception);
+            }
+
+            return new AbstractMap.SimpleImmutableEntry<>(result.file, result.hash);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package dev.retrotv.file;
+
+import lombok.NonNull;
+
+/**
+ * 파일의 내용을 기준으로 나눈 가변 크기 조각([ExtendedFile#getChunks(ExtendedFile.EHash, int)])의 위치와 해시 코드를 담는 클래스 입니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+public final class Chunk {
+    private final long offset;
+    private final int length;
+    private final String hash;
+
+    Chunk(long offset, int length, @NonNull String hash) {
+        this.offset = offset;
+        this.length = length;
+        this.hash = hash;
+    }
+
+    /**
+     * 조각이 시작하는 위치를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 조각이 시작하는 위치 (byte)
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * 조각의 크기를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 조각의 크기 (byte)
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * 조각의 해시 코드를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 조각의 해시 코드
+     */
+    @NonNull public String getHash() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "Chunk{offset=" + offset + ", length=" + length + ", hash=" + hash + "}";
+    }
+}
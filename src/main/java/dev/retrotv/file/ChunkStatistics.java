@@ -0,0 +1,138 @@
+package dev.retrotv.file;
+
+import lombok.NonNull;
+
+/**
+ * 여러 파일을 내용 기준의 가변 크기 조각으로 나누고, 조각의 해시 코드로 중복을 제거했을 때의 통계를 담는 클래스 입니다.
+ * 고유한 조각의 크기 합계는 조각 단위로 중복을 제거하는 저장소에 필요한 용량의 추정치입니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+public final class ChunkStatistics {
+    private final ExtendedFile.EHash algorithm;
+    private final int averageSize;
+    private final long files;
+    private final long totalChunks;
+    private final long uniqueChunks;
+    private final long totalBytes;
+    private final long uniqueBytes;
+
+    ChunkStatistics(@NonNull ExtendedFile.EHash algorithm, int averageSize, long files, long totalChunks, long uniqueChunks,
+                    long totalBytes, long uniqueBytes) {
+        this.algorithm = algorithm;
+        this.averageSize = averageSize;
+        this.files = files;
+        this.totalChunks = totalChunks;
+        this.uniqueChunks = uniqueChunks;
+        this.totalBytes = totalBytes;
+        this.uniqueBytes = uniqueBytes;
+    }
+
+    /**
+     * 조각의 해시 코드를 계산한 알고리즘을 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 파일 해시 알고리즘
+     */
+    @NonNull public ExtendedFile.EHash getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * 평균 조각 크기를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 평균 조각 크기 (byte)
+     */
+    public int getAverageSize() {
+        return averageSize;
+    }
+
+    /**
+     * 조각으로 나눈 파일 개수를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 파일 개수
+     */
+    public long getFiles() {
+        return files;
+    }
+
+    /**
+     * 전체 조각 개수를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 전체 조각 개수
+     */
+    public long getTotalChunks() {
+        return totalChunks;
+    }
+
+    /**
+     * 해시 코드가 서로 다른 조각의 개수를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 고유한 조각 개수
+     */
+    public long getUniqueChunks() {
+        return uniqueChunks;
+    }
+
+    /**
+     * 모든 파일의 크기 합계를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 전체 크기 (byte)
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * 해시 코드가 서로 다른 조각의 크기 합계를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 고유한 조각의 크기 합계 (byte)
+     */
+    public long getUniqueBytes() {
+        return uniqueBytes;
+    }
+
+    /**
+     * 중복을 제거해서 줄어드는 크기를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 줄어드는 크기 (byte)
+     */
+    public long getDuplicateBytes() {
+        return totalBytes - uniqueBytes;
+    }
+
+    /**
+     * 중복 제거 비율(전체 크기 / 고유한 조각의 크기 합계)을 반환합니다.
+     * 중복이 없으면 1.0이며, 전체 크기가 0이면 1.0을 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 중복 제거 비율
+     */
+    public double getDedupRatio() {
+        return uniqueBytes == 0 ? 1.0 : (double) totalBytes / uniqueBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkStatistics{algorithm=" + algorithm + ", averageSize=" + averageSize + ", files=" + files
+             + ", totalChunks=" + totalChunks + ", uniqueChunks=" + uniqueChunks
+             + ", totalBytes=" + totalBytes + ", uniqueBytes=" + uniqueBytes + "}";
+    }
+}
@@ -0,0 +1,294 @@
+package dev.retrotv.file;
+
+import dev.retrotv.file.ExtendedFile.EFileOperation;
+import dev.retrotv.file.ExtendedFile.EHash;
+
+import lombok.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 파일의 내용을 기준으로 경계를 정해서 가변 크기의 조각으로 나누는 클래스 입니다. (FastCDC)
+ * Gear 롤링 해시를 한 바이트씩 갱신하다가, 해시 값의 상위 비트가 모두 0이 되는 위치를 조각의 경계로 정합니다.
+ * 경계가 내용으로 정해지므로, 파일의 앞부분에 데이터가 끼어들거나 빠져도 그 주변의 조각만 바뀌고 나머지 조각은 그대로 유지됩니다.
+ *
+ * 평균 크기의 1/4(최소 크기)까지는 경계를 찾지 않고, 평균 크기까지는 더 많은 비트를, 그 이후에는 더 적은 비트를 비교해서
+ * 조각의 크기가 평균 크기 주변에 모이도록 하며(normalized chunking), 평균 크기의 8배(최대 크기)에서는 무조건 나눕니다.
+ * Gear 테이블은 고정된 값으로 생성하므로, 같은 내용과 평균 크기이면 항상 같은 경계를 반환합니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+final class Chunker {
+
+    // 기본 평균 조각 크기
+    static final int AVERAGE_SIZE = 8 * 1024;
+
+    // 평균 조각 크기의 허용 범위 (2의 거듭제곱만 허용)
+    private static final int MIN_AVERAGE_SIZE = 256;
+    private static final int MAX_AVERAGE_SIZE = 16 * 1024 * 1024;
+
+    // 바이트 값마다의 Gear 해시 값
+    private static final long[] GEAR = gear(0x5EED_C0DE_F11E_CDC0L);
+
+    private Chunker() {
+        throw new UnsupportedOperationException("인스턴스를 생성할 수 없는 클래스입니다.");
+    }
+
+    /**
+     * 파일을 조각으로 나누고, 조각마다 해시 코드를 계산해서 consumer에 전달합니다.
+     * 빈 파일은 조각을 전달하지 않습니다.
+     *
+     * @param path 파일 경로
+     * @param hash 조각의 해시 알고리즘
+     * @param averageSize 평균 조각 크기 (byte)
+     * @param consumer 조각을 전달받을 [ChunkConsumer] 객체
+     * @return 읽어들인 바이트 수
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     * @throws IllegalArgumentException averageSize가 허용 범위의 2의 거듭제곱이 아니면 던져짐
+     */
+    static long chunk(@NonNull Path path, @NonNull EHash hash, int averageSize, @NonNull ChunkConsumer consumer) throws IOException {
+        validate(averageSize);
+
+        Instrumentation.Span span = Instrumentation.start(EFileOperation.HASH);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long bytesRead = chunk(channel, StreamingDigest.of(hash), averageSize, consumer);
+            span.end(path, hash, bytesRead, 0, null);
+
+            return bytesRead;
+        } catch (IOException | RuntimeException e) {
+            span.end(path, hash, 0, 0, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 여러 파일을 [ForkJoinPool]에서 병렬로 조각으로 나누고, 조각의 해시 코드로 중복을 제거했을 때의 통계를 계산합니다.
+     * 일반 파일이 아닌 항목은 무시합니다.
+     *
+     * @param files 파일 목록
+     * @param hash 조각의 해시 알고리즘
+     * @param averageSize 평균 조각 크기 (byte)
+     * @param pool 조각을 나누는 데 사용할 [ForkJoinPool]
+     * @return 중복 제거 통계
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     * @throws IllegalArgumentException averageSize가 허용 범위의 2의 거듭제곱이 아니거나, hash가 CRC32 혹은 MD5이면 던져짐
+     */
+    @NonNull static ChunkStatistics statistics(@NonNull List<? extends File> files, @NonNull EHash hash, int averageSize,
+                                               @NonNull ForkJoinPool pool) throws IOException {
+        validate(averageSize);
+
+        // 해시 코드만으로 중복을 판단하므로, 조각이 많아지면 충돌이 생기는 짧은 해시 코드는 사용할 수 없음
+        if (hash == EHash.CRC32 || hash == EHash.MD5) {
+            throw new IllegalArgumentException("중복 제거 통계에는 160비트 이상의 해시 알고리즘(EX: SHA256)을 사용해야 합니다: " + hash);
+        }
+
+        Statistics statistics = new Statistics();
+        try {
+            pool.invoke(new StatisticsTask(files, hash, averageSize, statistics, 0, files.size()));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        return new ChunkStatistics(hash, averageSize, statistics.files.sum(), statistics.totalChunks.sum(), statistics.uniqueChunks.sum(),
+                                   statistics.totalBytes.sum(), statistics.uniqueBytes.sum());
+    }
+
+    // 채널의 처음부터 끝까지 조각으로 나누며, 조각의 내용은 읽어들인 버퍼에서 바로 해시 코드를 계산
+    private static long chunk(@NonNull FileChannel channel, @NonNull StreamingDigest digest, int averageSize,
+                              @NonNull ChunkConsumer consumer) throws IOException {
+        int bits = Integer.numberOfTrailingZeros(averageSize);
+        int minSize = averageSize >>> 2;
+        int maxSize = averageSize << 3;
+        long strictMask = -1L << (Long.SIZE - (bits + 2));
+        long looseMask = -1L << (Long.SIZE - (bits - 2));
+
+        ByteBuffer buffer = FileHasher.buffer();
+        byte[] array = buffer.array();
+        long offset = 0;
+        int length = 0;
+        long fingerprint = 0;
+
+        while (true) {
+            buffer.clear();
+            int read = channel.read(buffer);
+            if (read == -1) {
+                break;
+            }
+
+            int position = 0;
+            while (position < read) {
+                int start = position;
+                boolean cut = false;
+
+                // 최소 크기까지는 경계를 찾지 않음
+                if (length < minSize) {
+                    int skip = Math.min(minSize - length, read - position);
+                    position += skip;
+                    length += skip;
+                }
+
+                // 평균 크기까지는 더 많은 비트를 비교
+                if (length >= minSize && length < averageSize) {
+                    int end = position + Math.min(averageSize - length, read - position);
+                    int i = position;
+                    while (i < end) {
+                        fingerprint = (fingerprint << 1) + GEAR[array[i++] & 0xFF];
+                        if ((fingerprint & strictMask) == 0) {
+                            cut = true;
+                            break;
+                        }
+                    }
+
+                    length += i - position;
+                    position = i;
+                }
+
+                // 평균 크기 이후에는 더 적은 비트를 비교하고, 최대 크기에서는 무조건 나눔
+                if (!cut && length >= averageSize) {
+                    int end = position + Math.min(maxSize - length, read - position);
+                    int i = position;
+                    while (i < end) {
+                        fingerprint = (fingerprint << 1) + GEAR[array[i++] & 0xFF];
+                        if ((fingerprint & looseMask) == 0) {
+                            cut = true;
+                            break;
+                        }
+                    }
+
+                    length += i - position;
+                    position = i;
+                    cut |= length == maxSize;
+                }
+
+                digest.update(array, start, position - start);
+                if (cut) {
+                    consumer.accept(offset, length, digest.digest());
+                    digest.reset();
+                    offset += length;
+                    length = 0;
+                    fingerprint = 0;
+                }
+            }
+        }
+
+        if (length > 0) {
+            consumer.accept(offset, length, digest.digest());
+            offset += length;
+        }
+
+        return offset;
+    }
+
+    // 평균 조각 크기가 허용 범위의 2의 거듭제곱인지 확인
+    private static void validate(int averageSize) {
+        if (averageSize < MIN_AVERAGE_SIZE || averageSize > MAX_AVERAGE_SIZE || Integer.bitCount(averageSize) != 1) {
+            throw new IllegalArgumentException("평균 조각 크기는 " + MIN_AVERAGE_SIZE + " 이상 " + MAX_AVERAGE_SIZE
+                                             + " 이하의 2의 거듭제곱이어야 합니다: " + averageSize);
+        }
+    }
+
+    // 고정된 seed로 바이트 값마다의 Gear 해시 값을 생성 (SplitMix64)
+    @NonNull private static long[] gear(long seed) {
+        long[] table = new long[256];
+        long state = seed;
+        for (int i = 0; i < table.length; i++) {
+            state += 0x9E37_79B9_7F4A_7C15L;
+            long z = state;
+            z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+            table[i] = z ^ (z >>> 31);
+        }
+
+        return table;
+    }
+
+    /**
+     * 조각을 전달받는 인터페이스 입니다.
+     */
+    @FunctionalInterface
+    interface ChunkConsumer {
+
+        /**
+         * 조각의 경계를 찾고 해시 코드를 계산하면 호출됩니다.
+         *
+         * @param offset 조각이 시작하는 위치 (byte)
+         * @param length 조각의 크기 (byte)
+         * @param digest 조각의 해시 코드
+         */
+        void accept(long offset, int length, @NonNull byte[] digest);
+    }
+
+    // 여러 스레드가 함께 갱신하는 중복 제거 통계
+    private static final class Statistics {
+        private final Set<ByteBuffer> seen = ConcurrentHashMap.newKeySet();
+        private final LongAdder files = new LongAdder();
+        private final LongAdder totalChunks = new LongAdder();
+        private final LongAdder uniqueChunks = new LongAdder();
+        private final LongAdder totalBytes = new LongAdder();
+        private final LongAdder uniqueBytes = new LongAdder();
+
+        // 조각 하나를 집계 (처음 보는 해시 코드이면 고유한 조각으로 집계)
+        private void add(int length, @NonNull byte[] digest) {
+            totalChunks.increment();
+            totalBytes.add(length);
+            if (seen.add(ByteBuffer.wrap(digest))) {
+                uniqueChunks.increment();
+                uniqueBytes.add(length);
+            }
+        }
+    }
+
+    // 파일 범위를 반으로 나누어 가며 파일마다 조각을 집계하는 작업
+    private static final class StatisticsTask extends RecursiveAction {
+        private final transient List<? extends File> files;
+        private final EHash hash;
+        private final int averageSize;
+        private final transient Statistics statistics;
+        private final int from;
+        private final int to;
+
+        private StatisticsTask(@NonNull List<? extends File> files, @NonNull EHash hash, int averageSize, @NonNull Statistics statistics,
+                               int from, int to) {
+            this.files = files;
+            this.hash = hash;
+            this.averageSize = averageSize;
+            this.statistics = statistics;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new StatisticsTask(files, hash, averageSize, statistics, from, middle),
+                          new StatisticsTask(files, hash, averageSize, statistics, middle, to));
+                return;
+            }
+
+            if (from == to || !files.get(from).isFile()) {
+                return;
+            }
+
+            try {
+                chunk(files.get(from).toPath(), hash, averageSize, (offset, length, digest) -> statistics.add(length, digest));
+                statistics.files.increment();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package dev.retrotv.file;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 재귀 삭제의 결과를 담는 클래스 입니다.
+ * 삭제한 파일 및 디렉터리 개수, 확보한 용량, 삭제하지 못한 경로와 그 원인을 제공합니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+public final class DeleteResult {
+    private final long deletedFiles;
+    private final long deletedDirectories;
+    private final long bytesFreed;
+    private final Map<Path, IOException> failures;
+    private final boolean cancelled;
+
+    DeleteResult(long deletedFiles, long deletedDirectories, long bytesFreed, @NonNull Map<Path, IOException> failures, boolean cancelled) {
+        this.deletedFiles = deletedFiles;
+        this.deletedDirectories = deletedDirectories;
+        this.bytesFreed = bytesFreed;
+        this.failures = Collections.unmodifiableMap(failures);
+        this.cancelled = cancelled;
+    }
+
+    /**
+     * 모든 파일 및 디렉터리를 삭제했는지 여부를 반환합니다.
+     * 삭제가 취소되어 남은 항목을 삭제하지 않고 중단한 경우, 실패한 항목이 없어도 false를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 삭제 성공 여부
+     */
+    public boolean isSuccess() {
+        return failures.isEmpty() && !cancelled;
+    }
+
+    /**
+     * 삭제가 취소되어 남은 항목을 삭제하지 않고 중단했는지 여부를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 삭제 취소 여부
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 삭제한 파일(심볼릭 링크 포함) 개수를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 삭제한 파일 개수
+     */
+    public long getDeletedFiles() {
+        return deletedFiles;
+    }
+
+    /**
+     * 삭제한 디렉터리 개수를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 삭제한 디렉터리 개수
+     */
+    public long getDeletedDirectories() {
+        return deletedDirectories;
+    }
+
+    /**
+     * 삭제한 파일들의 크기 합계를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 확보한 용량 (byte)
+     */
+    public long getBytesFreed() {
+        return bytesFreed;
+    }
+
+    /**
+     * 삭제하지 못한 경로와 그 원인을 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 삭제하지 못한 경로와 원인
+     */
+    @NonNull public Map<Path, IOException> getFailures() {
+        return failures;
+    }
+
+    @Override
+    public String toString() {
+        return "DeleteResult{deletedFiles=" + deletedFiles + ", deletedDirectories=" + deletedDirectories
+             + ", bytesFreed=" + bytesFreed + ", failures=" + failures.keySet() + ", cancelled=" + cancelled + "}";
+    }
+}
@@ -0,0 +1,128 @@
+package dev.retrotv.file;
+
+import lombok.NonNull;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 경로 내부의 디스크 사용량([ExtendedFile#getDiskUsage(boolean, java.util.concurrent.ForkJoinPool)])을 집계한 결과를 담는 클래스 입니다.
+ * 일반 파일의 크기 합계, 파일 및 디렉터리 개수, 읽어들일 수 없었던 항목 개수와 함께 바로 아래 하위 항목별 집계를 제공합니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+public final class DiskUsage {
+    private final Path path;
+    private final long bytes;
+    private final long files;
+    private final long directories;
+    private final long inaccessible;
+    private final List<DiskUsage> children;
+
+    DiskUsage(@NonNull Path path, long bytes, long files, long directories, long inaccessible, @NonNull List<DiskUsage> children) {
+        this.path = path;
+        this.bytes = bytes;
+        this.files = files;
+        this.directories = directories;
+        this.inaccessible = inaccessible;
+        this.children = Collections.unmodifiableList(children);
+    }
+
+    /**
+     * 집계한 경로를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 집계한 경로
+     */
+    @NonNull public ExtendedFile getFile() {
+        return new ExtendedFile(path.toString());
+    }
+
+    /**
+     * 일반 파일의 크기 합계를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 크기 합계 (byte)
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * 크기 합계를 사람이 읽기 쉬운 형태로 반환합니다. (ex. 1.23 MB)
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 크기 합계
+     */
+    @NonNull public String getSize() {
+        return getSize(true);
+    }
+
+    /**
+     * 크기 합계를 [ExtendedFile#getSize(boolean)] 메서드와 같은 형식으로 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param isHumanReadable 사람이 읽기 쉬운 형태로 반환할지 여부
+     * @return 크기 합계
+     */
+    @NonNull public String getSize(boolean isHumanReadable) {
+        return ExtendedFile.formatSize(bytes, isHumanReadable);
+    }
+
+    /**
+     * 파일(심볼릭 링크 포함) 개수를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 파일 개수
+     */
+    public long getFiles() {
+        return files;
+    }
+
+    /**
+     * 디렉터리 개수를 반환합니다. 집계한 경로가 디렉터리이면 자신도 포함합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 디렉터리 개수
+     */
+    public long getDirectories() {
+        return directories;
+    }
+
+    /**
+     * 속성을 읽어들이거나 목록을 읽을 수 없어서 집계에서 제외한 항목 개수를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 제외한 항목 개수
+     */
+    public long getInaccessible() {
+        return inaccessible;
+    }
+
+    /**
+     * 바로 아래 하위 항목별 집계를 크기가 큰 순서로 반환합니다.
+     * 하위 항목별 집계를 요청하지 않았거나 집계한 경로가 디렉터리가 아니면 빈 리스트를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 하위 항목별 집계 (수정할 수 없는 리스트)
+     */
+    @NonNull public List<DiskUsage> getChildren() {
+        return children;
+    }
+
+    @Override
+    public String toString() {
+        return "DiskUsage{path=" + path + ", bytes=" + bytes + ", files=" + files + ", directories=" + directories
+             + ", inaccessible=" + inaccessible + ", children=" + children.size() + "}";
+    }
+}
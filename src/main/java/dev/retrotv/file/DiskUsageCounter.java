@@ -0,0 +1,143 @@
+package dev.retrotv.file;
+
+import dev.retrotv.file.ExtendedFile.EFileOperation;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 디렉터리 트리의 디스크 사용량을 병렬로 집계하는 클래스 입니다.
+ * 하위 디렉터리마다 작업을 나누어 [ForkJoinPool]에서 집계하며, 각 작업은 항목마다 객체를 보관하지 않고 숫자만 더한 다음 상위 작업에 합칩니다.
+ * 심볼릭 링크는 따라가지 않습니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+final class DiskUsageCounter {
+
+    // 크기가 큰 순서로 정렬
+    private static final Comparator<DiskUsage> LARGEST_FIRST = (a, b) -> Long.compare(b.getBytes(), a.getBytes());
+
+    private DiskUsageCounter() {
+        throw new UnsupportedOperationException("인스턴스를 생성할 수 없는 클래스입니다.");
+    }
+
+    /**
+     * 경로의 디스크 사용량을 집계합니다. 경로가 존재하지 않으면 모든 값이 0인 결과를 반환합니다.
+     *
+     * @param root 집계할 경로
+     * @param breakdown 바로 아래 하위 항목별 집계를 포함할지 여부
+     * @param pool 집계에 사용할 [ForkJoinPool]
+     * @return 집계 결과
+     */
+    @NonNull static DiskUsage count(@NonNull Path root, boolean breakdown, @NonNull ForkJoinPool pool) {
+        Instrumentation.Span span = Instrumentation.start(EFileOperation.WALK);
+        Path absoluteRoot = root.toAbsolutePath();
+
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(absoluteRoot, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (IOException e) {
+            span.end(root, null, 0, 0, e instanceof NoSuchFileException ? null : e);
+            return new DiskUsage(absoluteRoot, 0, 0, 0, e instanceof NoSuchFileException ? 0 : 1, Collections.emptyList());
+        }
+
+        DiskUsage result;
+        if (attributes.isDirectory()) {
+            CountTask task = new CountTask(absoluteRoot, breakdown);
+            pool.invoke(task);
+            result = task.result();
+        } else {
+            result = new DiskUsage(absoluteRoot, attributes.isRegularFile() ? attributes.size() : 0, 1, 0, 0, Collections.emptyList());
+        }
+
+        span.end(root, null, result.getBytes(), result.getFiles() + result.getDirectories(), null);
+        return result;
+    }
+
+    // 하나의 디렉터리를 집계하는 작업
+    private static final class CountTask extends RecursiveAction {
+        private final transient Path directory;
+        private final boolean breakdown;
+        private long bytes;
+        private long files;
+        private long directories = 1;
+        private long inaccessible;
+        private transient List<DiskUsage> children = Collections.emptyList();
+
+        private CountTask(@NonNull Path directory, boolean breakdown) {
+            this.directory = directory;
+            this.breakdown = breakdown;
+        }
+
+        @Override
+        protected void compute() {
+            List<CountTask> subtasks = new ArrayList<>();
+            List<DiskUsage> childUsages = breakdown ? new ArrayList<>() : null;
+
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                for (Path child : stream) {
+                    BasicFileAttributes attributes;
+                    try {
+                        attributes = Files.readAttributes(child, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                    } catch (IOException | SecurityException e) {
+                        inaccessible++;
+                        continue;
+                    }
+
+                    if (attributes.isDirectory()) {
+                        CountTask task = new CountTask(child, false);
+                        task.fork();
+                        subtasks.add(task);
+                        continue;
+                    }
+
+                    long size = attributes.isRegularFile() ? attributes.size() : 0;
+                    files++;
+                    bytes += size;
+                    if (breakdown) {
+                        childUsages.add(new DiskUsage(child, size, 1, 0, 0, Collections.emptyList()));
+                    }
+                }
+            } catch (IOException | DirectoryIteratorException | SecurityException e) {
+                // 목록을 읽을 수 없는 디렉터리는 디렉터리 자신만 집계
+                inaccessible++;
+            }
+
+            for (CountTask task : subtasks) {
+                task.join();
+                bytes += task.bytes;
+                files += task.files;
+                directories += task.directories;
+                inaccessible += task.inaccessible;
+                if (breakdown) {
+                    childUsages.add(task.result());
+                }
+            }
+
+            if (breakdown) {
+                childUsages.sort(LARGEST_FIRST);
+                children = childUsages;
+            }
+        }
+
+        // 집계가 끝난 작업의 결과를 반환
+        @NonNull private DiskUsage result() {
+            return new DiskUsage(directory, bytes, files, directories, inaccessible, children);
+        }
+    }
+}
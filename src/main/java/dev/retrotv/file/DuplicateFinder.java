@@ -0,0 +1,167 @@
+package dev.retrotv.file;
+
+import dev.retrotv.crypto.util.HEXCodecUtils;
+import dev.retrotv.file.ExtendedFile.EHash;
+import dev.retrotv.file.ExtendedFile.EReadMode;
+
+import lombok.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 내용이 같은 파일을 찾아서 묶는 클래스 입니다.
+ * 크기가 같은 파일끼리 먼저 묶고, 앞부분과 뒷부분만 읽어들인 부분 해시 코드로 후보를 줄인 다음,
+ * 남은 파일만 전체 해시 코드를 계산하므로 대부분의 파일은 속성만 읽어들이고 끝납니다.
+ * 부분 해시 코드가 파일 전체를 포함하는 작은 파일은 전체 해시 코드를 다시 계산하지 않습니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+final class DuplicateFinder {
+
+    // 부분 해시 코드를 계산할 때 파일의 앞부분과 뒷부분에서 각각 읽어들일 크기
+    static final int PARTIAL_SIZE = 4 * 1024;
+
+    private DuplicateFinder() {
+        throw new UnsupportedOperationException("인스턴스를 생성할 수 없는 클래스입니다.");
+    }
+
+    /**
+     * 내용이 같은 파일끼리 묶어서 반환합니다.
+     * 일반 파일이 아닌 항목은 무시하며, 묶음과 묶음 내부의 파일은 입력된 순서를 따릅니다.
+     *
+     * @param files 중복 여부를 확인할 파일 목록
+     * @param hash 파일 해시 알고리즘
+     * @param verify 해시 코드가 같은 파일을 바이트 단위로 다시 비교할지 여부
+     * @return 중복 파일 묶음 목록 (묶음마다 2개 이상의 파일을 포함)
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     */
+    @NonNull static List<List<ExtendedFile>> find(@NonNull Collection<? extends File> files, @NonNull EHash hash, boolean verify) throws IOException {
+        Map<Long, List<ExtendedFile>> bySize = new LinkedHashMap<>();
+        for (File file : files) {
+            ExtendedFile target = ExtendedFile.of(file);
+            if (target.isFile()) {
+                bySize.computeIfAbsent(target.length(), size -> new ArrayList<>()).add(target);
+            }
+        }
+
+        List<List<ExtendedFile>> result = new ArrayList<>();
+        for (Map.Entry<Long, List<ExtendedFile>> sizeGroup : bySize.entrySet()) {
+            List<ExtendedFile> candidates = sizeGroup.getValue();
+            if (candidates.size() < 2) {
+                continue;
+            }
+
+            // 빈 파일은 모두 같은 내용
+            if (sizeGroup.getKey() == 0L) {
+                result.add(candidates);
+                continue;
+            }
+
+            // PARTIAL_SIZE의 2배 이하인 파일은 부분 해시 코드가 곧 전체 해시 코드
+            boolean whole = sizeGroup.getKey() <= PARTIAL_SIZE * 2L;
+            for (List<ExtendedFile> partialGroup : groupByPartialHash(candidates, hash)) {
+                List<List<ExtendedFile>> hashGroups = whole ? Collections.singletonList(partialGroup) : groupByHash(partialGroup, hash);
+                for (List<ExtendedFile> hashGroup : hashGroups) {
+                    if (verify) {
+                        result.addAll(groupByContent(hashGroup));
+                    } else {
+                        result.add(hashGroup);
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    // 부분 해시 코드가 같은 파일끼리 묶음 (2개 이상인 묶음만 반환)
+    @NonNull private static List<List<ExtendedFile>> groupByPartialHash(@NonNull List<ExtendedFile> files, @NonNull EHash hash) throws IOException {
+        Map<String, List<ExtendedFile>> groups = new LinkedHashMap<>();
+        for (ExtendedFile file : files) {
+            groups.computeIfAbsent(partialHash(file, hash), key -> new ArrayList<>()).add(file);
+        }
+
+        return candidates(groups);
+    }
+
+    // 전체 해시 코드가 같은 파일끼리 묶음 (2개 이상인 묶음만 반환)
+    @NonNull private static List<List<ExtendedFile>> groupByHash(@NonNull List<ExtendedFile> files, @NonNull EHash hash) throws IOException {
+        Map<String, List<ExtendedFile>> groups = new LinkedHashMap<>();
+        for (ExtendedFile file : files) {
+            groups.computeIfAbsent(file.getHash(hash), key -> new ArrayList<>()).add(file);
+        }
+
+        return candidates(groups);
+    }
+
+    // 바이트 단위로 비교해서 내용이 같은 파일끼리 묶음 (2개 이상인 묶음만 반환)
+    @NonNull private static List<List<ExtendedFile>> groupByContent(@NonNull List<ExtendedFile> files) throws IOException {
+        List<List<ExtendedFile>> groups = new ArrayList<>();
+        for (ExtendedFile file : files) {
+            List<ExtendedFile> group = null;
+            for (List<ExtendedFile> candidate : groups) {
+                if (FileComparator.mismatch(candidate.get(0).toPath(), file.toPath(), ExtendedFile.getDefaultReadMode()) == -1) {
+                    group = candidate;
+                    break;
+                }
+            }
+
+            if (group == null) {
+                group = new ArrayList<>();
+                groups.add(group);
+            }
+
+            group.add(file);
+        }
+
+        groups.removeIf(group -> group.size() < 2);
+        return groups;
+    }
+
+    // 2개 이상의 파일을 포함하는 묶음만 반환
+    @NonNull private static List<List<ExtendedFile>> candidates(@NonNull Map<String, List<ExtendedFile>> groups) {
+        List<List<ExtendedFile>> result = new ArrayList<>();
+        for (List<ExtendedFile> group : groups.values()) {
+            if (group.size() > 1) {
+                result.add(group);
+            }
+        }
+
+        return result;
+    }
+
+    // 파일의 앞부분과 뒷부분을 읽어들여서 해시 코드를 계산 (PARTIAL_SIZE의 2배 이하인 파일은 전체를 읽어들임)
+    @NonNull private static String partialHash(@NonNull ExtendedFile file, @NonNull EHash hash) throws IOException {
+        StreamingDigest digest = StreamingDigest.of(hash);
+        ByteBuffer buffer = FileHasher.buffer();
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size <= PARTIAL_SIZE * 2L) {
+                BlockReader.read(channel, EReadMode.HEAP, null, digest::update);
+            } else {
+                buffer.limit(PARTIAL_SIZE);
+                FileComparator.readBlock(channel, buffer);
+                digest.update(buffer);
+
+                buffer.clear().limit(PARTIAL_SIZE);
+                channel.position(size - PARTIAL_SIZE);
+                FileComparator.readBlock(channel, buffer);
+                digest.update(buffer);
+            }
+        }
+
+        return HEXCodecUtils.encode(digest.digest());
+    }
+}
@@ -1,19 +1,30 @@
 package dev.retrotv.file;
 
 import dev.retrotv.crypto.util.HEXCodecUtils;
-import dev.retrotv.crypto.hash.Hash;
 
 import lombok.NonNull;
-import org.apache.tika.Tika;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.URI;
 import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
 
 /**
  * [File] 클래스의 기능을 확장한 클래스 입니다.
@@ -23,9 +34,41 @@ import java.util.List;
  */
 public class ExtendedFile extends File {
 
+    // 모든 ExtendedFile 객체가 공유하는 MIME type 판별기 (null이면 TikaMimeTypeDetector의 공유 인스턴스 사용)
+    private static volatile MimeTypeDetector defaultMimeTypeDetector;
+
+    // 모든 ExtendedFile 객체가 공유하는 메타데이터 캐시 (null이면 사용하지 않음)
+    private static volatile FileMetadataCache defaultMetadataCache;
+
+    // 모든 ExtendedFile 객체가 사용하는 해시 코드 색인 (null이면 사용하지 않음)
+    private static volatile HashIndex defaultHashIndex;
+
+    // 해시 코드 생성과 파일 비교에 사용하는 기본 읽기 방식
+    private static volatile EReadMode defaultReadMode = EReadMode.HEAP;
+
+    // 비동기 메서드가 사용하는 기본 실행기 (null이면 AsyncExecutors의 실행기 사용)
+    private static volatile Executor defaultAsyncExecutor;
+
+    // 파일 작업의 지표를 전달받는 객체 (기본 값은 아무것도 기록하지 않음)
+    private static volatile FileMetrics defaultMetrics = FileMetrics.NOOP;
+
+    // 이 객체에서만 사용하는 MIME type 판별기 (null이면 공유 판별기 사용)
+    private transient MimeTypeDetector mimeTypeDetector;
+
+    // 이 객체에 보관하는 메타데이터 캐시 사용 여부
+    private transient boolean metadataCaching;
+
+    // 이 객체에 보관된 메타데이터 캐시 항목
+    private transient volatile FileMetadataCache.Entry metadata;
+
+    // 탐색 도중에 읽어들인 파일 속성 (null이면 파일 시스템에서 직접 읽어들임)
+    private transient volatile FileSnapshot snapshot;
+
     /**
      * 파일 해시 알고리즘을 정의하는 열거형 클래스입니다.
      * 지원하는 해시 알고리즘은 CRC32, MD5, SHA1, SHA224, SHA256, SHA384, SHA512, SHA512224, SHA512256, SHA3224, SHA3256, SHA3384, SHA3512 입니다.
+     * SHA512224, SHA512256과 SHA3 계열은 JDK의 [java.security.MessageDigest]로 계산하므로 Java 9 이상에서만 사용할 수 있으며,
+     * Java 8에서 사용하면 [UnsupportedOperationException]이 발생합니다.
      *
      * @author yjj8353
      * @since 1.0.0
@@ -46,6 +89,77 @@ public class ExtendedFile extends File {
         , SHA3512
     }
 
+    /**
+     * 작업 도중 오류가 발생했을 때의 처리 방식을 정의하는 열거형 클래스입니다.
+     * FAIL_FAST는 처음 오류가 발생하면 남은 작업을 중단하고, CONTINUE는 오류를 기록한 후 남은 작업을 계속합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     */
+    public enum EErrorPolicy {
+          FAIL_FAST
+        , CONTINUE
+    }
+
+    /**
+     * 해시 코드 생성과 파일 비교에서 파일을 읽어들이는 방식을 정의하는 열거형 클래스입니다.
+     * HEAP은 힙 버퍼, DIRECT는 다이렉트 버퍼에 블록 단위로 읽어들이며, MAPPED는 64MB 이하의 구간씩 메모리 매핑해서 힙을 거치지 않고 읽어들입니다.
+     * AUTO는 64MB 이상의 파일은 MAPPED, 그보다 작은 파일은 HEAP을 사용합니다.
+     * 기본 값은 HEAP이며, MAPPED와 AUTO는 [#setDefaultReadMode(EReadMode)] 메서드나 읽기 방식을 매개변수로 받는 메서드로 지정한 경우에만 사용합니다.
+     * 메모리 매핑은 로컬 디스크에 있는 큰 파일에 적합하며, 네트워크 파일 시스템(NFS, SMB)의 파일에는 권장하지 않습니다.
+     * 매핑한 구간은 사용이 끝나면 곧바로 해제하지만, Windows에서는 해제가 끝나기 전까지 파일을 삭제할 수 없을 수 있습니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     */
+    public enum EReadMode {
+          AUTO
+        , HEAP
+        , DIRECT
+        , MAPPED
+    }
+
+    /**
+     * [FileMetrics]에 전달되는 파일 작업의 종류를 정의하는 열거형 클래스입니다.
+     * HASH는 해시 코드 생성 및 검증, MIME_TYPE은 MIME type 판별, COMPARE는 두 파일의 내용 비교, WALK는 디렉터리 탐색, DELETE는 삭제입니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     */
+    public enum EFileOperation {
+          HASH
+        , MIME_TYPE
+        , COMPARE
+        , WALK
+        , DELETE
+    }
+
+    /**
+     * [FileChangeListener]에 전달되는 파일 변경의 종류를 정의하는 열거형 클래스입니다.
+     * CREATE는 생성, MODIFY는 내용 혹은 속성의 변경, DELETE는 삭제입니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     */
+    public enum EFileChange {
+          CREATE
+        , MODIFY
+        , DELETE
+    }
+
+    /**
+     * [TieredMimeTypeDetector]가 MIME type을 판별한 단계를 정의하는 열거형 클래스입니다.
+     * EXTENSION은 확장자 표, MAGIC은 파일 앞부분의 시그니처, FALLBACK은 대체 판별기(기본값은 [TikaMimeTypeDetector])입니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     */
+    public enum EMimeTypeTier {
+          EXTENSION
+        , MAGIC
+        , FALLBACK
+    }
+
     /**
      * 입력받은 filepath를 기반으로 [File] 객체를 생성합니다.
      *
@@ -92,6 +206,97 @@ public class ExtendedFile extends File {
         super(uri);
     }
 
+    // 미리 읽어들인 파일 속성을 담은 ExtendedFile 객체 생성
+    ExtendedFile(@NonNull String filepath, FileSnapshot snapshot) {
+        super(filepath);
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * 보관 중인 파일 속성을 반환합니다.
+     * walkFiles(), streamFiles() 등의 탐색 결과는 탐색 도중에 읽어들인 속성을 보관하고 있으며,
+     * 속성을 보관 중인 경우 [#getSize(boolean)], [#getExtension()], [#isDirectory()], [#isFile()] 메서드는 파일 시스템 대신 보관 중인 속성을 사용합니다.
+     * [#length()], [#lastModified()] 메서드와 메타데이터 캐시, 해시 코드 색인의 유효성 검사는 보관 중인 속성과 관계없이 항상 파일 시스템에서 읽어들입니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 보관 중인 파일 속성 (보관 중인 속성이 없으면 null)
+     */
+    public FileSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 파일 속성을 다시 읽어들여서 보관하고, 읽어들인 속성을 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 읽어들인 파일 속성
+     * @throws IOException 파일 속성을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     */
+    @NonNull public FileSnapshot refreshSnapshot() throws IOException {
+        FileSnapshot newSnapshot = FileSnapshot.of(Files.readAttributes(this.toPath(), BasicFileAttributes.class));
+        this.snapshot = newSnapshot;
+
+        return newSnapshot;
+    }
+
+    /**
+     * 보관 중인 파일 속성을 제거합니다. 이후에는 파일 시스템에서 직접 속성을 읽어들입니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     */
+    public void clearSnapshot() {
+        this.snapshot = null;
+    }
+
+    /**
+     * 디렉터리인지 여부를 반환합니다.
+     * 보관 중인 파일 속성이 있으면, 파일 시스템 대신 보관 중인 속성의 값을 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 디렉터리인지 여부
+     */
+    @Override
+    public boolean isDirectory() {
+        FileSnapshot current = this.snapshot;
+        return current != null ? current.isDirectory() : super.isDirectory();
+    }
+
+    /**
+     * 일반 파일인지 여부를 반환합니다.
+     * 보관 중인 파일 속성이 있으면, 파일 시스템 대신 보관 중인 속성의 값을 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 일반 파일인지 여부
+     */
+    @Override
+    public boolean isFile() {
+        FileSnapshot current = this.snapshot;
+        return current != null ? current.isRegularFile() : super.isFile();
+    }
+
+    /**
+     * 파일의 마지막 수정 시각을 변경합니다. 변경에 성공하면 보관 중인 파일 속성을 제거합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param time 변경할 수정 시각
+     * @return 변경 성공 여부
+     */
+    @Override
+    public boolean setLastModified(long time) {
+        boolean result = super.setLastModified(time);
+        if (result) {
+            clearSnapshot();
+        }
+
+        return result;
+    }
+
     /**
      * 파일의 복합 확장자를 반환합니다. (EX: tar.gz)
      * 해당 메서드는 가장 처음의 점(.) 이후의 모든 문자열을 확장자로 간주합니다.
@@ -155,6 +360,7 @@ public class ExtendedFile extends File {
 
     /**
      * 파일의 MIME type을 반환합니다.
+     * 별도로 지정하지 않는 경우, 모든 ExtendedFile 객체가 공유하는 [TikaMimeTypeDetector]로 판별합니다.
      *
      * @author yjj8353
      * @since 1.0.0
@@ -162,8 +368,220 @@ public class ExtendedFile extends File {
      * @throws IOException 파일을 읽어들이는 과정 혹은 파싱 도중에 오류가 발생하면 던져짐
      */
     @NonNull public String getMimeType() throws IOException {
-        Tika tika = new Tika();
-        return tika.detect(this);
+        FileMetadataCache.Entry entry = metadataEntry();
+        if (entry != null && entry.getMimeType() != null) {
+            return entry.getMimeType();
+        }
+
+        Instrumentation.Span span = Instrumentation.start(EFileOperation.MIME_TYPE);
+        String mimeType;
+        try {
+            mimeType = getMimeTypeDetector().detect(this);
+        } catch (IOException | RuntimeException e) {
+            span.end(toPath(), null, 0, 0, e);
+            throw e;
+        }
+        span.end(toPath(), null, 0, 0, null);
+
+        if (entry != null) {
+            entry.setMimeType(mimeType);
+        }
+
+        return mimeType;
+    }
+
+    /**
+     * 이 객체가 사용하는 MIME type 판별기를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return MIME type 판별기
+     */
+    @NonNull public MimeTypeDetector getMimeTypeDetector() {
+        MimeTypeDetector detector = this.mimeTypeDetector;
+        return detector != null ? detector : getDefaultMimeTypeDetector();
+    }
+
+    /**
+     * 이 객체에서만 사용할 MIME type 판별기를 지정합니다.
+     * null을 지정하면 공유 판별기를 사용합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param mimeTypeDetector MIME type 판별기
+     */
+    public void setMimeTypeDetector(MimeTypeDetector mimeTypeDetector) {
+        this.mimeTypeDetector = mimeTypeDetector;
+    }
+
+    /**
+     * 모든 ExtendedFile 객체가 공유하는 MIME type 판별기를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 공유 MIME type 판별기
+     */
+    @NonNull public static MimeTypeDetector getDefaultMimeTypeDetector() {
+        MimeTypeDetector detector = defaultMimeTypeDetector;
+        return detector != null ? detector : TikaMimeTypeDetector.getInstance();
+    }
+
+    /**
+     * 모든 ExtendedFile 객체가 공유할 MIME type 판별기를 지정합니다.
+     * null을 지정하면 [TikaMimeTypeDetector]의 공유 인스턴스를 사용합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param mimeTypeDetector 공유 MIME type 판별기
+     */
+    public static void setDefaultMimeTypeDetector(MimeTypeDetector mimeTypeDetector) {
+        defaultMimeTypeDetector = mimeTypeDetector;
+    }
+
+    /**
+     * 이 객체에 MIME type과 해시 코드를 보관할지 여부를 지정합니다. (기본 값: false)
+     * 보관된 값은 파일의 크기나 수정 시각이 바뀌면 자동으로 무효화됩니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param metadataCaching 메타데이터 보관 여부
+     */
+    public void setMetadataCaching(boolean metadataCaching) {
+        this.metadataCaching = metadataCaching;
+        if (!metadataCaching) {
+            this.metadata = null;
+        }
+    }
+
+    /**
+     * 이 객체에 MIME type과 해시 코드를 보관하는지 여부를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 메타데이터 보관 여부
+     */
+    public boolean isMetadataCaching() {
+        return metadataCaching;
+    }
+
+    /**
+     * 모든 ExtendedFile 객체가 공유하는 메타데이터 캐시를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 공유 메타데이터 캐시 (사용하지 않으면 null)
+     */
+    public static FileMetadataCache getDefaultMetadataCache() {
+        return defaultMetadataCache;
+    }
+
+    /**
+     * 모든 ExtendedFile 객체가 공유할 메타데이터 캐시를 지정합니다.
+     * 지정하면 같은 경로를 가리키는 서로 다른 ExtendedFile 객체도 MIME type과 해시 코드를 다시 계산하지 않습니다.
+     * null을 지정하면 공유 캐시를 사용하지 않습니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param metadataCache 공유 메타데이터 캐시
+     */
+    public static void setDefaultMetadataCache(FileMetadataCache metadataCache) {
+        defaultMetadataCache = metadataCache;
+    }
+
+    /**
+     * 모든 ExtendedFile 객체가 사용하는 해시 코드 색인을 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 해시 코드 색인 (사용하지 않으면 null)
+     */
+    public static HashIndex getDefaultHashIndex() {
+        return defaultHashIndex;
+    }
+
+    /**
+     * 모든 ExtendedFile 객체가 사용할 해시 코드 색인을 지정합니다.
+     * 지정하면 해시 코드를 생성하기 전에 색인을 먼저 확인하고, 크기와 수정 시각이 바뀌지 않은 파일은 다시 읽어들이지 않습니다.
+     * 새로 생성한 해시 코드는 색인에 기록됩니다. null을 지정하면 색인을 사용하지 않습니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param hashIndex 해시 코드 색인
+     */
+    public static void setDefaultHashIndex(HashIndex hashIndex) {
+        defaultHashIndex = hashIndex;
+    }
+
+    /**
+     * 해시 코드 생성과 파일 비교에 사용하는 기본 읽기 방식을 반환합니다. (지정하지 않으면 HEAP)
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 기본 읽기 방식
+     */
+    @NonNull public static EReadMode getDefaultReadMode() {
+        return defaultReadMode;
+    }
+
+    /**
+     * 해시 코드 생성과 파일 비교에 사용할 기본 읽기 방식을 지정합니다.
+     * 읽기 방식을 매개변수로 받는 메서드는 이 설정 대신 매개변수로 지정한 방식을 사용합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param readMode 기본 읽기 방식
+     */
+    public static void setDefaultReadMode(@NonNull EReadMode readMode) {
+        defaultReadMode = readMode;
+    }
+
+    /**
+     * 비동기 메서드가 사용하는 기본 [Executor]를 반환합니다.
+     * 별도로 지정하지 않는 경우, 필요한 만큼 데몬 스레드를 생성하는 전용 스레드 풀을 사용하며 Java 21 이상에서는 가상 스레드를 사용합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 기본 [Executor]
+     */
+    @NonNull public static Executor getDefaultAsyncExecutor() {
+        Executor executor = defaultAsyncExecutor;
+        return executor != null ? executor : AsyncExecutors.defaultExecutor();
+    }
+
+    /**
+     * 비동기 메서드가 사용할 기본 [Executor]를 지정합니다.
+     * [Executor]를 매개변수로 받는 메서드는 이 설정 대신 매개변수로 지정한 [Executor]를 사용합니다. null을 지정하면 전용 스레드 풀을 사용합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param executor 기본 [Executor]
+     */
+    public static void setDefaultAsyncExecutor(Executor executor) {
+        defaultAsyncExecutor = executor;
+    }
+
+    /**
+     * 파일 작업의 지표를 전달받는 객체를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 지표를 전달받는 [FileMetrics] 객체 (지정하지 않았으면 [FileMetrics#NOOP])
+     */
+    @NonNull public static FileMetrics getDefaultMetrics() {
+        return defaultMetrics;
+    }
+
+    /**
+     * 파일 작업의 지표를 전달받을 객체를 지정합니다.
+     * 해시 코드 생성, MIME type 판별, 파일 비교, 탐색, 삭제가 끝날 때마다 작업 종류, 처리한 바이트 수, 소요 시간, 오류를 전달합니다.
+     * null을 지정하면 [FileMetrics#NOOP]을 사용하며, 이 경우에는 소요 시간을 측정하지 않습니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param metrics 지표를 전달받을 [FileMetrics] 객체
+     */
+    public static void setDefaultMetrics(FileMetrics metrics) {
+        defaultMetrics = metrics != null ? metrics : FileMetrics.NOOP;
     }
 
     /**
@@ -175,7 +593,7 @@ public class ExtendedFile extends File {
      * @throws IOException 파일을 읽어들이는 과정 혹은 파싱 도중에 오류가 발생하면 던져짐
      */
     public boolean isImage() throws IOException {
-        return getMimeType().startsWith("image/");
+        return hasMediaType("image");
     }
 
     /**
@@ -187,7 +605,7 @@ public class ExtendedFile extends File {
      * @throws IOException 파일을 읽어들이는 과정 혹은 파싱 도중에 오류가 발생하면 던져짐
      */
     public boolean isText() throws IOException {
-        return getMimeType().startsWith("text/");
+        return hasMediaType("text");
     }
 
     /**
@@ -199,7 +617,7 @@ public class ExtendedFile extends File {
      * @throws IOException 파일을 읽어들이는 과정 혹은 파싱 도중에 오류가 발생하면 던져짐
      */
     public boolean isAudio() throws IOException {
-        return getMimeType().startsWith("audio/");
+        return hasMediaType("audio");
     }
 
     /**
@@ -211,7 +629,7 @@ public class ExtendedFile extends File {
      * @throws IOException 파일을 읽어들이는 과정 혹은 파싱 도중에 오류가 발생하면 던져짐
      */
     public boolean isVideo() throws IOException {
-        return getMimeType().startsWith("video/");
+        return hasMediaType("video");
     }
 
     /**
@@ -227,53 +645,114 @@ public class ExtendedFile extends File {
     }
 
     /**
-     * 파일의 해시 코드를 생성해서, 동일한 파일인지 여부를 반환합니다.
-     * SHA-256 알고리즘을 사용합니다.
+     * 두 파일이 동일한 파일인지 여부를 반환합니다.
+     * 파일의 길이를 먼저 비교하고, 두 파일을 블록 단위로 번갈아 읽으면서 처음으로 다른 블록이 발견되면 즉시 비교를 마칩니다.
+     * 해시 코드는 계산하지 않으며, 비교하면서 해시 코드도 함께 얻으려면 [#compare(File, EHash)] 메서드를 사용하세요.
      *
      * @author yjj8353
      * @since 1.0.0
      * @param file 비교할 [File] 객체
      * @return 동일한 파일인지 여부
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
      */
     public boolean matches(@NonNull File file) throws IOException {
-        return matches(file, EHash.SHA256);
+        return matches(file, defaultReadMode);
     }
 
     /**
-     * 파일의 해시 코드를 생성해서, 동일한 파일인지 여부를 반환합니다.
-     * 파일 해시 알고리즘을 별도로 지정하지 않는 경우, SHA-256 알고리즘을 사용합니다.
+     * 지정한 방식으로 파일을 읽어들이면서, 두 파일이 동일한 파일인지 여부를 반환합니다.
      *
      * @author yjj8353
-     * @since 1.0.0
+     * @since 1.8.0
      * @param file 비교할 [File] 객체
-     * @param hash 파일 해시 알고리즘
+     * @param readMode 읽기 방식
      * @return 동일한 파일인지 여부
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
      */
-    public boolean matches(@NonNull File file, @NonNull EHash hash) throws IOException {
+    public boolean matches(@NonNull File file, @NonNull EReadMode readMode) throws IOException {
         try {
-            byte[] thisHash = Hash.getInstance(selectHashAlgorithm(hash)).hashing(Files.readAllBytes(this.toPath()));
-            byte[] fileHash = Hash.getInstance(selectHashAlgorithm(hash)).hashing(Files.readAllBytes(file.toPath()));
-            return Arrays.equals(thisHash, fileHash);
+            return FileComparator.compare(this.toPath(), file.toPath(), null, readMode).isMatch();
         } catch (IOException e) {
             throw new IOException("파일을 읽어들이는 과정에서 오류가 발생했습니다.", e);
         }
     }
 
     /**
-     * 파일의 해시 코드를 생성해서, 동일한 파일인지 여부를 반환합니다.
-     * 파일 해시 알고리즘을 별도로 지정하지 않는 경우, SHA-256 알고리즘을 사용합니다.
+     * 두 파일이 동일한 파일인지 여부를 반환합니다.
+     * 해시 코드를 계산하지 않고 내용을 직접 비교하므로, hash 매개변수는 결과에 영향을 주지 않습니다.
      *
+     * @author yjj8353
+     * @since 1.0.0
      * @param file 비교할 [File] 객체
-     * @param hash 파일 해시 알고리즘 (문자열)
+     * @param hash 사용하지 않는 파일 해시 알고리즘
+     * @return 동일한 파일인지 여부
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     * @deprecated 해시 알고리즘은 결과에 영향을 주지 않습니다. [#matches(File)] 메서드를 사용하고,
+     *             해시 코드도 함께 얻으려면 [#compare(File, EHash)] 메서드를 사용하세요.
+     */
+    @Deprecated
+    public boolean matches(@NonNull File file, @NonNull EHash hash) throws IOException {
+        return matches(file, defaultReadMode);
+    }
+
+    /**
+     * 두 파일이 동일한 파일인지 여부를 반환합니다.
+     * 해시 코드를 계산하지 않고 내용을 직접 비교하므로, hash 매개변수는 알고리즘 이름의 유효성만 검사합니다.
+     *
+     * @author yjj8353
+     * @since 1.0.0
+     * @param file 비교할 [File] 객체
+     * @param hash 사용하지 않는 파일 해시 알고리즘 (문자열)
      * @return 동일한 파일인지 여부
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     * @deprecated 해시 알고리즘은 결과에 영향을 주지 않습니다. [#matches(File)] 메서드를 사용하고,
+     *             해시 코드도 함께 얻으려면 [#compare(File, EHash)] 메서드를 사용하세요.
      */
+    @Deprecated
     public boolean matches(@NonNull File file, @NonNull String hash) throws IOException {
-        return matches(file, selectHashAlgorithm(hash));
+        selectHashAlgorithm(hash);
+        return matches(file, defaultReadMode);
+    }
+
+    /**
+     * 두 파일을 한 번만 읽으면서 비교하고, 비교 결과를 반환합니다.
+     * 파일의 길이를 먼저 비교하고, 두 파일을 블록 단위로 번갈아 읽으면서 처음으로 다른 블록이 발견되면 즉시 비교를 마칩니다.
+     * 두 파일이 동일한 경우, 읽으면서 함께 계산한 해시 코드를 결과에 담아 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param file 비교할 [File] 객체
+     * @param hash 함께 계산할 파일 해시 알고리즘
+     * @return 비교 결과
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     */
+    @NonNull public FileComparison compare(@NonNull File file, @NonNull EHash hash) throws IOException {
+        return compare(file, hash, defaultReadMode);
+    }
+
+    /**
+     * 지정한 방식으로 두 파일을 한 번만 읽으면서 비교하고, 비교 결과를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param file 비교할 [File] 객체
+     * @param hash 함께 계산할 파일 해시 알고리즘
+     * @param readMode 읽기 방식
+     * @return 비교 결과
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     */
+    @NonNull public FileComparison compare(@NonNull File file, @NonNull EHash hash, @NonNull EReadMode readMode) throws IOException {
+        try {
+            return FileComparator.compare(this.toPath(), file.toPath(), hash, readMode);
+        } catch (IOException e) {
+            throw new IOException("파일을 읽어들이는 과정에서 오류가 발생했습니다.", e);
+        }
     }
 
     /**
      * 파일을 처음부터 끝까지 읽어서, 동일한 파일인지 여부를 반환합니다.
      * 해시 코드를 이용한 비교보다 정확하지만 파일의 크기에 따라 성능에 영향을 미칠 수 있습니다.
+     * 두 파일을 기본 읽기 방식([#getDefaultReadMode()])으로 읽어들여 바이트 단위로 비교합니다.
      *
      * @author yjj8353
      * @since 1.0.0
@@ -291,18 +770,23 @@ public class ExtendedFile extends File {
             return false;
         }
 
-        try (BufferedReader reader1 = Files.newBufferedReader(this.toPath());
-             BufferedReader reader2 = Files.newBufferedReader(file.toPath())) {
-
-            int ch;
-            while ((ch = reader1.read()) != -1) {
-                if (ch != reader2.read()) {
-                    return false;
-                }
-            }
-        }
+        return mismatch(file) == -1;
+    }
 
-        return true;
+    /**
+     * 두 파일을 바이트 단위로 비교해서, 처음으로 다른 바이트의 위치를 반환합니다.
+     * 한 파일이 다른 파일의 앞부분과 같은 경우, 짧은 파일의 길이를 반환합니다.
+     * 기본 읽기 방식([#getDefaultReadMode()])으로 읽어들여 비교합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param file 비교할 [File] 객체
+     * @return 처음으로 다른 바이트의 위치 (동일한 파일이면 -1)
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     * @throws SecurityException 파일 및 디렉터리 접근 권한이 없으면 던져짐
+     */
+    public long mismatch(@NonNull File file) throws IOException, SecurityException {
+        return FileComparator.mismatch(this.toPath(), file.toPath(), defaultReadMode);
     }
 
     /**
@@ -321,6 +805,8 @@ public class ExtendedFile extends File {
     /**
      * 파일의 해시 코드를 생성해서 반환합니다.
      * 파일 해시 알고리즘을 별도로 지정하지 않는 경우, SHA-256 알고리즘을 사용합니다.
+     * 파일을 고정 크기의 버퍼로 나누어 읽으므로, 파일 크기와 관계없이 일정한 메모리만 사용합니다.
+     * 해시 코드 색인([#setDefaultHashIndex(HashIndex)])을 지정한 경우, 크기와 수정 시각이 바뀌지 않은 파일은 색인에 보관 중인 해시 코드를 반환합니다.
      *
      * @author yjj8353
      * @since 1.0.0
@@ -329,8 +815,39 @@ public class ExtendedFile extends File {
      * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
      */
     @NonNull public String getHash(@NonNull EHash hash) throws IOException {
-        Hash hashInstance = Hash.getInstance(selectHashAlgorithm(hash));
-        return HEXCodecUtils.encode(hashInstance.hashing(Files.readAllBytes(this.toPath())));
+        return getHash(hash, defaultReadMode, null);
+    }
+
+    /**
+     * 지정한 방식으로 파일을 읽어들여서 해시 코드를 생성해서 반환합니다.
+     * 로컬 디스크의 큰 파일은 MAPPED를 지정하면 힙을 거치지 않고 읽어들이므로, GC 부담이 줄어듭니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param hash 파일 해시 알고리즘
+     * @param readMode 읽기 방식
+     * @return 파일의 해시 코드
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     */
+    @NonNull public String getHash(@NonNull EHash hash, @NonNull EReadMode readMode) throws IOException {
+        return getHash(hash, readMode, null);
+    }
+
+    // 읽기 동시성을 제한하면서 해시 코드를 생성 (permits가 null이면 제한 없음)
+    @NonNull String getHash(@NonNull EHash hash, @NonNull EReadMode readMode, Semaphore permits) throws IOException {
+        FileMetadataCache.Entry entry = metadataEntry();
+        HashIndex index = defaultHashIndex;
+        FileSnapshot attributes = index == null ? null : indexAttributes();
+
+        String value = storedHash(entry, index, attributes, hash);
+        if (value != null) {
+            return value;
+        }
+
+        value = HEXCodecUtils.encode(FileHasher.hash(this.toPath(), hash, readMode, permits));
+        storeHash(entry, index, attributes, hash, value);
+
+        return value;
     }
 
     /**
@@ -347,6 +864,361 @@ public class ExtendedFile extends File {
         return getHash(selectHashAlgorithm(hash));
     }
 
+    /**
+     * 파일을 한 번만 읽으면서 여러 알고리즘의 해시 코드를 함께 생성해서 반환합니다.
+     * 알고리즘마다 파일을 다시 읽지 않으므로, 여러 해시 코드가 필요한 경우 getHash를 여러 번 호출하는 것보다 빠릅니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param hashes 파일 해시 알고리즘 목록
+     * @return 알고리즘별 파일의 해시 코드 (알고리즘 순서대로 정렬됨)
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     * @throws IllegalArgumentException 파일 해시 알고리즘을 지정하지 않으면 던져짐
+     */
+    @NonNull public Map<EHash, String> getHashes(@NonNull EHash... hashes) throws IOException {
+        return getHashes(null, hashes);
+    }
+
+    /**
+     * 파일을 한 번만 읽으면서 여러 알고리즘의 해시 코드를 함께 생성해서 반환합니다.
+     * 다음 블록을 읽는 동안, 지정한 [Executor]에서 알고리즘별로 나누어 이전 블록의 해시 코드를 계산합니다.
+     * SHA-512와 SHA3-256처럼 계산 비용이 큰 알고리즘을 함께 사용하는 경우, 읽기와 계산이 겹쳐지므로 더 빠릅니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param executor 알고리즘별 계산에 사용할 [Executor] (null이면 현재 스레드에서 계산)
+     * @param hashes 파일 해시 알고리즘 목록
+     * @return 알고리즘별 파일의 해시 코드 (알고리즘 순서대로 정렬됨)
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     * @throws IllegalArgumentException 파일 해시 알고리즘을 지정하지 않으면 던져짐
+     */
+    @NonNull public Map<EHash, String> getHashes(Executor executor, @NonNull EHash... hashes) throws IOException {
+        if (hashes.length == 0) {
+            throw new IllegalArgumentException("파일 해시 알고리즘을 하나 이상 지정해야 합니다.");
+        }
+
+        Map<EHash, String> result = new EnumMap<>(EHash.class);
+        Set<EHash> missing = EnumSet.noneOf(EHash.class);
+        FileMetadataCache.Entry entry = metadataEntry();
+        HashIndex index = defaultHashIndex;
+        FileSnapshot attributes = index == null ? null : indexAttributes();
+
+        // 이미 계산해둔 해시 코드는 다시 계산하지 않음
+        for (EHash hash : hashes) {
+            String cached = storedHash(entry, index, attributes, hash);
+            if (cached != null) {
+                result.put(hash, cached);
+            } else {
+                missing.add(hash);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        for (Map.Entry<EHash, byte[]> digest : FileHasher.hash(this.toPath(), missing, defaultReadMode, executor).entrySet()) {
+            String value = HEXCodecUtils.encode(digest.getValue());
+            storeHash(entry, index, attributes, digest.getKey(), value);
+            result.put(digest.getKey(), value);
+        }
+
+        return result;
+    }
+
+    /**
+     * 파일의 해시 코드가 기대하는 해시 코드와 같은지 여부를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param hash 파일 해시 알고리즘
+     * @param expected 기대하는 해시 코드 (16진수 문자열, 대소문자 구분 없음)
+     * @return 해시 코드가 같은지 여부
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     * @throws IllegalArgumentException expected가 올바른 16진수 문자열이 아니면 던져짐
+     */
+    public boolean verify(@NonNull EHash hash, @NonNull String expected) throws IOException {
+        return verify(hash, decodeHex(expected));
+    }
+
+    /**
+     * 파일의 해시 코드가 기대하는 해시 코드와 같은지 여부를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param hash 파일 해시 알고리즘
+     * @param expected 기대하는 해시 코드
+     * @return 해시 코드가 같은지 여부
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     */
+    public boolean verify(@NonNull EHash hash, @NonNull byte[] expected) throws IOException {
+        return verify(hash, expected, null, 0, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 파일의 해시 코드가 기대하는 해시 코드와 같은지 여부를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param hash 파일 해시 알고리즘
+     * @param expected 기대하는 해시 코드 (16진수 문자열, 대소문자 구분 없음)
+     * @param listener 진행 상황을 전달받을 [ProgressListener] 객체 (null이면 전달하지 않음)
+     * @param timeout 제한 시간 (0 이하이면 제한 없음)
+     * @param unit 제한 시간의 단위
+     * @return 해시 코드가 같은지 여부
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     * @throws InterruptedIOException 취소되거나 제한 시간을 넘기면 던져짐
+     * @throws IllegalArgumentException expected가 올바른 16진수 문자열이 아니면 던져짐
+     */
+    public boolean verify(@NonNull EHash hash, @NonNull String expected, ProgressListener listener, long timeout,
+                          @NonNull TimeUnit unit) throws IOException {
+        return verify(hash, decodeHex(expected), listener, timeout, unit);
+    }
+
+    /**
+     * 파일의 해시 코드가 기대하는 해시 코드와 같은지 여부를 반환합니다.
+     * 파일을 고정 크기의 버퍼로 나누어 읽으면서 계산하고, 해시 코드를 16진수 문자열로 변환하지 않고 바이트 단위로 비교합니다.
+     * 알고리즘의 해시 코드 길이와 기대하는 해시 코드의 길이가 다르면 파일을 읽지 않고 false를 반환합니다.
+     * 메타데이터 캐시나 해시 코드 색인에 보관 중인 해시 코드는 사용하지 않고, 항상 파일을 읽어들입니다.
+     * 블록을 읽을 때마다 listener에 진행 상황을 전달하며, listener가 취소하거나 제한 시간을 넘기면 읽기를 중단합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param hash 파일 해시 알고리즘
+     * @param expected 기대하는 해시 코드
+     * @param listener 진행 상황을 전달받을 [ProgressListener] 객체 (null이면 전달하지 않음)
+     * @param timeout 제한 시간 (0 이하이면 제한 없음)
+     * @param unit 제한 시간의 단위
+     * @return 해시 코드가 같은지 여부
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     * @throws InterruptedIOException 취소되거나 제한 시간을 넘기면 던져짐
+     */
+    public boolean verify(@NonNull EHash hash, @NonNull byte[] expected, ProgressListener listener, long timeout,
+                          @NonNull TimeUnit unit) throws IOException {
+        return FileHasher.verify(this.toPath(), hash, expected, defaultReadMode, listener, unit.toNanos(timeout));
+    }
+
+    /**
+     * 파일을 chunkSize 크기의 조각으로 나누어 트리 해시를 생성합니다.
+     * 공용 [ForkJoinPool]을 사용합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param hash 파일 해시 알고리즘
+     * @param chunkSize 조각의 크기 (byte)
+     * @return 루트 해시 코드와 조각마다의 해시 코드를 담은 [TreeHash] 객체
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     * @throws IllegalArgumentException chunkSize가 1보다 작으면 던져짐
+     */
+    @NonNull public TreeHash getTreeHash(@NonNull EHash hash, int chunkSize) throws IOException {
+        return getTreeHash(hash, chunkSize, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 파일을 chunkSize 크기의 조각으로 나누어 트리 해시(Merkle tree)를 생성합니다.
+     * 조각마다의 해시 코드를 여러 스레드에서 병렬로 계산하므로, 하나의 스레드에서 파일 전체의 해시 코드를 계산하는 것보다 빠릅니다.
+     * 루트 해시 코드는 getHash() 메서드의 결과와 다르며, 같은 알고리즘과 조각의 크기로 생성한 트리 해시끼리만 비교할 수 있습니다.
+     * 조각마다의 해시 코드를 비교하면([TreeHash#diff(TreeHash)]), 파일 전체를 다시 비교하지 않고도 바뀐 구간을 찾을 수 있습니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param hash 파일 해시 알고리즘
+     * @param chunkSize 조각의 크기 (byte)
+     * @param pool 조각마다의 해시 코드 계산에 사용할 [ForkJoinPool]
+     * @return 루트 해시 코드와 조각마다의 해시 코드를 담은 [TreeHash] 객체
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     * @throws IllegalArgumentException chunkSize가 1보다 작으면 던져짐
+     */
+    @NonNull public TreeHash getTreeHash(@NonNull EHash hash, int chunkSize, @NonNull ForkJoinPool pool) throws IOException {
+        return TreeHasher.hash(this.toPath(), hash, chunkSize, pool);
+    }
+
+    /**
+     * 파일을 내용 기준의 가변 크기 조각으로 나누고, 조각마다의 해시 코드를 반환합니다. (평균 8KB)
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param hash 조각의 해시 알고리즘
+     * @return 조각 목록 (파일 앞부분부터 순서대로, 빈 파일이면 빈 리스트)
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     */
+    @NonNull public List<Chunk> getChunks(@NonNull EHash hash) throws IOException {
+        return getChunks(hash, Chunker.AVERAGE_SIZE);
+    }
+
+    /**
+     * 파일을 내용 기준의 가변 크기 조각으로 나누고(content-defined chunking), 조각마다의 해시 코드를 반환합니다.
+     * 고정 크기로 나누는 [#getTreeHash(EHash, int)] 메서드와 달리 경계가 내용으로 정해지므로,
+     * 파일 중간에 데이터가 끼어들거나 빠져도 그 주변의 조각만 바뀌고 나머지 조각의 해시 코드는 그대로 유지됩니다.
+     * 조각의 크기는 평균 크기의 1/4 이상, 8배 이하입니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param hash 조각의 해시 알고리즘
+     * @param averageSize 평균 조각 크기 (byte, 256 이상 16MB 이하의 2의 거듭제곱)
+     * @return 조각 목록 (파일 앞부분부터 순서대로, 빈 파일이면 빈 리스트)
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     * @throws IllegalArgumentException averageSize가 허용 범위의 2의 거듭제곱이 아니면 던져짐
+     */
+    @NonNull public List<Chunk> getChunks(@NonNull EHash hash, int averageSize) throws IOException {
+        List<Chunk> chunks = new ArrayList<>();
+        Chunker.chunk(this.toPath(), hash, averageSize, (offset, length, digest) -> chunks.add(new Chunk(offset, length, HEXCodecUtils.encode(digest))));
+
+        return chunks;
+    }
+
+    /**
+     * 경로 내부의 모든 파일을 내용 기준의 가변 크기 조각으로 나누고, 조각 단위로 중복을 제거했을 때의 통계를 반환합니다. (평균 8KB)
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param hash 조각의 해시 알고리즘 (CRC32, MD5는 사용할 수 없음)
+     * @return 전체 크기와 고유한 조각의 크기 합계를 담은 [ChunkStatistics] 객체
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     * @throws IllegalArgumentException hash가 CRC32 혹은 MD5이면 던져짐
+     */
+    @NonNull public ChunkStatistics getChunkStatistics(@NonNull EHash hash) throws IOException {
+        return getChunkStatistics(hash, Chunker.AVERAGE_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 경로 내부의 모든 파일을 내용 기준의 가변 크기 조각으로 나누고, 조각 단위로 중복을 제거했을 때의 통계를 반환합니다.
+     * 파일마다 작업을 나누어 병렬로 계산하며, 조각의 목록은 보관하지 않고 고유한 해시 코드만 보관합니다.
+     * 해시 코드가 같은 조각은 같은 내용으로 간주하므로, 조각이 많으면 충돌이 생기는 CRC32, MD5는 사용할 수 없습니다.
+     * (평균 8KB 조각에서 32비트 해시 코드는 약 600MB부터 충돌이 생겨 통계가 부풀려집니다.)
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param hash 조각의 해시 알고리즘 (CRC32, MD5는 사용할 수 없음)
+     * @param averageSize 평균 조각 크기 (byte, 256 이상 16MB 이하의 2의 거듭제곱)
+     * @param pool 조각을 나누는 데 사용할 [ForkJoinPool]
+     * @return 전체 크기와 고유한 조각의 크기 합계를 담은 [ChunkStatistics] 객체
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     * @throws IllegalArgumentException averageSize가 허용 범위의 2의 거듭제곱이 아니거나, hash가 CRC32 혹은 MD5이면 던져짐
+     */
+    @NonNull public ChunkStatistics getChunkStatistics(@NonNull EHash hash, int averageSize, @NonNull ForkJoinPool pool) throws IOException {
+        return Chunker.statistics(regularFiles(), hash, averageSize, pool);
+    }
+
+    /**
+     * 여러 파일의 해시 코드를 병렬로 생성하고, 생성이 끝나는 순서대로 반환하는 [Stream]을 반환합니다.
+     * 동시에 블록을 읽어들이는 스레드 수도 parallelism으로 제한합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param files 해시 코드를 생성할 파일 목록
+     * @param hash 파일 해시 알고리즘
+     * @param parallelism 해시 코드를 생성할 스레드 수
+     * @return 파일과 해시 코드의 쌍을 반환하는 [Stream]
+     * @throws IllegalArgumentException parallelism이 1보다 작으면 던져짐
+     */
+    @NonNull public static Stream<Map.Entry<ExtendedFile, String>> hashAll(@NonNull Collection<? extends File> files,
+                                                                           @NonNull EHash hash, int parallelism) {
+        return hashAll(files, hash, parallelism, parallelism);
+    }
+
+    /**
+     * 여러 파일의 해시 코드를 병렬로 생성하고, 생성이 끝나는 순서대로 반환하는 [Stream]을 반환합니다.
+     * 해시 코드를 생성하는 스레드 수와 동시에 블록을 읽어들이는 스레드 수를 따로 제한하므로,
+     * HDD처럼 동시에 읽을수록 느려지는 저장 장치에서는 ioParallelism을 작게 지정할 수 있습니다.
+     * 파일을 읽어들이지 못하거나 해시 코드 생성 도중에 검사되지 않는 예외가 발생하면, 해당 파일의 결과를 꺼내는 시점에 [UncheckedIOException]이 던져집니다.
+     * [Stream]을 닫으면 아직 끝나지 않은 작업을 중단합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param files 해시 코드를 생성할 파일 목록
+     * @param hash 파일 해시 알고리즘
+     * @param parallelism 해시 코드를 생성할 스레드 수
+     * @param ioParallelism 동시에 블록을 읽어들일 수 있는 스레드 수
+     * @return 파일과 해시 코드의 쌍을 반환하는 [Stream]
+     * @throws IllegalArgumentException parallelism 혹은 ioParallelism이 1보다 작으면 던져짐
+     */
+    @NonNull public static Stream<Map.Entry<ExtendedFile, String>> hashAll(@NonNull Collection<? extends File> files,
+                                                                           @NonNull EHash hash, int parallelism, int ioParallelism) {
+        return BulkHasher.stream(files, hash, parallelism, ioParallelism);
+    }
+
+    /**
+     * 여러 파일의 해시 코드를 병렬로 생성하고, 파일마다 생성이 끝나는 대로 listener에 전달합니다.
+     * 모든 파일의 해시 코드 생성이 끝나면 반환하며, listener가 검사되지 않는 예외를 던졌으면 모든 생성이 끝난 후에 처음 던진 예외를 다시 던집니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param files 해시 코드를 생성할 파일 목록
+     * @param hash 파일 해시 알고리즘
+     * @param parallelism 해시 코드를 생성할 스레드 수
+     * @param ioParallelism 동시에 블록을 읽어들일 수 있는 스레드 수
+     * @param listener 파일마다 결과를 전달받을 [HashListener] 객체
+     * @throws InterruptedIOException 생성이 끝나기를 기다리는 도중에 인터럽트되면 던져짐
+     * @throws IllegalArgumentException parallelism 혹은 ioParallelism이 1보다 작으면 던져짐
+     * @throws RuntimeException listener가 검사되지 않는 예외를 던지면 던져짐
+     */
+    public static void hashAll(@NonNull Collection<? extends File> files, @NonNull EHash hash, int parallelism,
+                               int ioParallelism, @NonNull HashListener listener) throws InterruptedIOException {
+        BulkHasher.hash(files, hash, parallelism, ioParallelism, listener);
+    }
+
+    /**
+     * 디렉터리 내부의 모든 파일의 해시 코드를 병렬로 생성하고, 생성이 끝나는 순서대로 반환하는 [Stream]을 반환합니다.
+     * 사용 가능한 프로세서 수만큼의 스레드를 사용합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param hash 파일 해시 알고리즘
+     * @return 파일과 해시 코드의 쌍을 반환하는 [Stream]
+     */
+    @NonNull public Stream<Map.Entry<ExtendedFile, String>> hashTree(@NonNull EHash hash) {
+        return hashAll(regularFiles(), hash, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 디렉터리 내부에서 내용이 같은 파일끼리 묶어서 반환합니다.
+     * SHA-256 알고리즘을 사용하며, 바이트 단위 비교는 하지 않습니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 중복 파일 묶음 목록 (묶음마다 2개 이상의 파일을 포함)
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     */
+    @NonNull public List<List<ExtendedFile>> findDuplicates() throws IOException {
+        return findDuplicates(EHash.SHA256, false);
+    }
+
+    /**
+     * 디렉터리 내부에서 내용이 같은 파일끼리 묶어서 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param hash 파일 해시 알고리즘
+     * @param verify 해시 코드가 같은 파일을 바이트 단위로 다시 비교할지 여부
+     * @return 중복 파일 묶음 목록 (묶음마다 2개 이상의 파일을 포함)
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     */
+    @NonNull public List<List<ExtendedFile>> findDuplicates(@NonNull EHash hash, boolean verify) throws IOException {
+        return findDuplicates(regularFiles(), hash, verify);
+    }
+
+    /**
+     * 파일 목록에서 내용이 같은 파일끼리 묶어서 반환합니다.
+     * 크기가 같은 파일끼리 먼저 묶고, 앞부분과 뒷부분 4KB씩만 읽어들인 부분 해시 코드로 후보를 줄인 다음,
+     * 남은 파일만 전체 해시 코드를 생성합니다. 크기가 유일한 파일은 내용을 읽어들이지 않으며,
+     * 8KB 이하의 파일은 부분 해시 코드가 파일 전체를 포함하므로 한 번만 읽어들입니다.
+     * verify가 true이면 해시 코드가 같은 파일을 바이트 단위로 다시 비교해서, 해시 충돌로 인한 오탐을 제거합니다.
+     * 일반 파일이 아닌 항목은 무시하며, 묶음과 묶음 내부의 파일은 입력된 순서를 따릅니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param files 중복 여부를 확인할 파일 목록
+     * @param hash 파일 해시 알고리즘
+     * @param verify 해시 코드가 같은 파일을 바이트 단위로 다시 비교할지 여부
+     * @return 중복 파일 묶음 목록 (묶음마다 2개 이상의 파일을 포함)
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     */
+    @NonNull public static List<List<ExtendedFile>> findDuplicates(@NonNull Collection<? extends File> files, @NonNull EHash hash,
+                                                                   boolean verify) throws IOException {
+        return DuplicateFinder.find(files, hash, verify);
+    }
+
     /**
      * 파일의 크기를 반환합니다.
      * 사람이 읽기 쉬운 형태로 반환합니다. (ex. 1.23 MB)
@@ -370,8 +1242,54 @@ public class ExtendedFile extends File {
      * @return 파일의 크기
      * @throws SecurityException – 파일 및 디렉터리 접근 권한이 없으면 던져짐
      */
-    @NonNull public strictfp String getSize(boolean isHumanReadable) throws SecurityException {
-        long fileSize = this.length();
+    @NonNull public String getSize(boolean isHumanReadable) throws SecurityException {
+        FileSnapshot current = this.snapshot;
+        return formatSize(current != null ? current.getSize() : this.length(), isHumanReadable);
+    }
+
+    /**
+     * 경로 내부의 모든 파일의 크기 합계와 파일 및 디렉터리 개수를 병렬로 집계합니다. (du)
+     * 공용 [ForkJoinPool]을 사용하며, 하위 항목별 집계는 포함하지 않습니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 집계 결과를 담은 [DiskUsage] 객체
+     */
+    @NonNull public DiskUsage getDiskUsage() {
+        return getDiskUsage(false, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 경로 내부의 모든 파일의 크기 합계와 파일 및 디렉터리 개수를 병렬로 집계합니다. (du)
+     * 공용 [ForkJoinPool]을 사용합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param breakdown 바로 아래 하위 항목별 집계를 포함할지 여부
+     * @return 집계 결과를 담은 [DiskUsage] 객체
+     */
+    @NonNull public DiskUsage getDiskUsage(boolean breakdown) {
+        return getDiskUsage(breakdown, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 경로 내부의 모든 파일의 크기 합계와 파일 및 디렉터리 개수를 지정한 [ForkJoinPool]에서 병렬로 집계합니다. (du)
+     * walkFiles() 메서드와 달리 항목마다 [ExtendedFile] 객체를 생성하거나 목록에 담지 않고, 디렉터리마다의 작업에서 숫자만 더해서 합칩니다.
+     * 크기는 일반 파일의 크기(apparent size)만 더하며, 심볼릭 링크는 따라가지 않습니다. 하드 링크는 링크마다 더합니다.
+     * 속성을 읽어들이거나 목록을 읽을 수 없는 항목은 집계에서 제외하고, 그 개수를 따로 반환합니다. ([DiskUsage#getInaccessible()])
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param breakdown 바로 아래 하위 항목별 집계를 포함할지 여부 (크기가 큰 순서로 정렬)
+     * @param pool 집계에 사용할 [ForkJoinPool]
+     * @return 집계 결과를 담은 [DiskUsage] 객체
+     */
+    @NonNull public DiskUsage getDiskUsage(boolean breakdown, @NonNull ForkJoinPool pool) {
+        return DiskUsageCounter.count(this.toPath(), breakdown, pool);
+    }
+
+    // 크기를 문자열로 변환 (isHumanReadable이 true일 경우 1.23 MB와 같은 형태로 변환)
+    @NonNull static strictfp String formatSize(long fileSize, boolean isHumanReadable) {
         if (isHumanReadable) {
             String suffix;
             double newFileSize;
@@ -410,6 +1328,8 @@ public class ExtendedFile extends File {
 
     /**
      * 파일 및 디렉터리를 삭제하고 성공 여부를 반환합니다.
+     * 재귀적으로 삭제하는 경우, 공용 [ForkJoinPool]에서 병렬로 삭제하며 처음 오류가 발생하면 삭제를 중단합니다.
+     * 삭제 결과를 자세히 확인하려면 [#rmRecursively(EErrorPolicy)] 메서드를 사용하세요.
      *
      * @author yjj8353
      * @since 1.0.0
@@ -417,15 +1337,242 @@ public class ExtendedFile extends File {
      * @return 삭제 성공 여부
      */
     public boolean rm(boolean recursive) {
-        if (this.isFile()) {
-            return rmFile(this);
-        } else {
-            if (!recursive) {
-                return rmFile(this);
-            } else {
-                return rmDirectory(this);
+        boolean result = recursive ? rmRecursively(EErrorPolicy.FAIL_FAST).isSuccess() : rmFile(this);
+        if (result) {
+            clearSnapshot();
+        }
+
+        return result;
+    }
+
+    /**
+     * 파일 및 디렉터리를 재귀적으로 삭제하고, 삭제 결과를 반환합니다.
+     * 공용 [ForkJoinPool]에서 서로 다른 하위 디렉터리를 병렬로 삭제합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param policy 오류 발생 시 처리 방식
+     * @return 삭제 결과
+     */
+    @NonNull public DeleteResult rmRecursively(@NonNull EErrorPolicy policy) {
+        return rmRecursively(policy, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 파일 및 디렉터리를 지정한 [ForkJoinPool]에서 재귀적으로 삭제하고, 삭제 결과를 반환합니다.
+     * 서로 다른 하위 디렉터리를 병렬로 삭제하며, 디렉터리는 내부 항목을 모두 삭제한 후에 삭제합니다.
+     * 심볼릭 링크는 따라가지 않고 링크 자체를 삭제합니다.
+     * 정책이 CONTINUE인 경우, 삭제하지 못한 항목을 기록하고 나머지 항목을 계속 삭제합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param policy 오류 발생 시 처리 방식
+     * @param pool 삭제에 사용할 [ForkJoinPool]
+     * @return 삭제 결과
+     */
+    @NonNull public DeleteResult rmRecursively(@NonNull EErrorPolicy policy, @NonNull ForkJoinPool pool) {
+        return rmRecursively(policy, pool, () -> false);
+    }
+
+    /**
+     * 파일의 해시 코드를 비동기로 생성합니다.
+     * 기본 [Executor]에서 [#getHash(EHash)] 메서드를 실행하며, 반환된 future를 cancel(true)로 취소하면 진행 중인 읽기를 중단합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param hash 파일 해시 알고리즘
+     * @return 파일의 해시 코드를 담을 [CompletableFuture]
+     */
+    @NonNull public CompletableFuture<String> getHashAsync(@NonNull EHash hash) {
+        return getHashAsync(hash, getDefaultAsyncExecutor());
+    }
+
+    /**
+     * 파일의 해시 코드를 지정한 [Executor]에서 비동기로 생성합니다.
+     * 반환된 future를 cancel(true)로 취소하면 작업 중인 스레드를 인터럽트하므로, 파일 채널이 닫히면서 읽기가 중단됩니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param hash 파일 해시 알고리즘
+     * @param executor 작업을 실행할 [Executor]
+     * @return 파일의 해시 코드를 담을 [CompletableFuture]
+     */
+    @NonNull public CompletableFuture<String> getHashAsync(@NonNull EHash hash, @NonNull Executor executor) {
+        return AsyncTask.submit(executor, cancelled -> getHash(hash));
+    }
+
+    /**
+     * 파일의 MIME type을 비동기로 판별합니다.
+     * 기본 [Executor]에서 [#getMimeType()] 메서드를 실행합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 파일의 MIME type을 담을 [CompletableFuture]
+     */
+    @NonNull public CompletableFuture<String> getMimeTypeAsync() {
+        return getMimeTypeAsync(getDefaultAsyncExecutor());
+    }
+
+    /**
+     * 파일의 MIME type을 지정한 [Executor]에서 비동기로 판별합니다.
+     * 반환된 future를 cancel(true)로 취소하면 작업 중인 스레드를 인터럽트합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param executor 작업을 실행할 [Executor]
+     * @return 파일의 MIME type을 담을 [CompletableFuture]
+     */
+    @NonNull public CompletableFuture<String> getMimeTypeAsync(@NonNull Executor executor) {
+        return AsyncTask.submit(executor, cancelled -> getMimeType());
+    }
+
+    /**
+     * 두 파일이 동일한 파일인지 여부를 비동기로 확인합니다.
+     * 기본 [Executor]에서 [#matches(File)] 메서드를 실행합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param file 비교할 [File] 객체
+     * @return 동일한 파일인지 여부를 담을 [CompletableFuture]
+     */
+    @NonNull public CompletableFuture<Boolean> matchesAsync(@NonNull File file) {
+        return matchesAsync(file, getDefaultAsyncExecutor());
+    }
+
+    /**
+     * 두 파일이 동일한 파일인지 여부를 지정한 [Executor]에서 비동기로 확인합니다.
+     * 반환된 future를 cancel(true)로 취소하면 진행 중인 읽기를 중단합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param file 비교할 [File] 객체
+     * @param executor 작업을 실행할 [Executor]
+     * @return 동일한 파일인지 여부를 담을 [CompletableFuture]
+     */
+    @NonNull public CompletableFuture<Boolean> matchesAsync(@NonNull File file, @NonNull Executor executor) {
+        return AsyncTask.submit(executor, cancelled -> matches(file));
+    }
+
+    /**
+     * 파일을 처음부터 끝까지 읽어서, 동일한 파일인지 여부를 비동기로 확인합니다.
+     * 기본 [Executor]에서 [#matchesDeep(File)] 메서드를 실행합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param file 비교할 [File] 객체
+     * @return 동일한 파일인지 여부를 담을 [CompletableFuture]
+     */
+    @NonNull public CompletableFuture<Boolean> matchesDeepAsync(@NonNull File file) {
+        return matchesDeepAsync(file, getDefaultAsyncExecutor());
+    }
+
+    /**
+     * 파일을 처음부터 끝까지 읽어서, 동일한 파일인지 여부를 지정한 [Executor]에서 비동기로 확인합니다.
+     * 반환된 future를 cancel(true)로 취소하면 진행 중인 읽기를 중단합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param file 비교할 [File] 객체
+     * @param executor 작업을 실행할 [Executor]
+     * @return 동일한 파일인지 여부를 담을 [CompletableFuture]
+     */
+    @NonNull public CompletableFuture<Boolean> matchesDeepAsync(@NonNull File file, @NonNull Executor executor) {
+        return AsyncTask.submit(executor, cancelled -> matchesDeep(file));
+    }
+
+    /**
+     * 특정 경로의 내부 내용을 비동기로 탐색합니다.
+     * 기본 [Executor]에서 탐색하며, 결과의 순서는 [#walkFiles()] 메서드와 같습니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 경로 내부의 모든 파일 및 디렉터리를 포함하는 리스트를 담을 [CompletableFuture]
+     */
+    @NonNull public CompletableFuture<List<ExtendedFile>> walkFilesAsync() {
+        return walkFilesAsync(-1, getDefaultAsyncExecutor());
+    }
+
+    /**
+     * 특정 경로의 내부 내용을 깊이 제한을 두고 비동기로 탐색합니다.
+     * 기본 [Executor]에서 탐색하며, 결과의 순서는 [#walkFiles(int)] 메서드와 같습니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param depth 깊이 제한 (-1이면 제한 없음)
+     * @return 경로 내부의 모든 파일 및 디렉터리를 포함하는 리스트를 담을 [CompletableFuture]
+     */
+    @NonNull public CompletableFuture<List<ExtendedFile>> walkFilesAsync(int depth) {
+        return walkFilesAsync(depth, getDefaultAsyncExecutor());
+    }
+
+    /**
+     * 특정 경로의 내부 내용을 깊이 제한을 두고 지정한 [Executor]에서 비동기로 탐색합니다.
+     * 결과의 순서는 [#walkFiles(int)] 메서드와 같으며, 반환된 future를 취소하면 다음 항목을 읽어들이기 전에 탐색을 중단합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param depth 깊이 제한 (-1이면 제한 없음)
+     * @param executor 작업을 실행할 [Executor]
+     * @return 경로 내부의 모든 파일 및 디렉터리를 포함하는 리스트를 담을 [CompletableFuture]
+     */
+    @NonNull public CompletableFuture<List<ExtendedFile>> walkFilesAsync(int depth, @NonNull Executor executor) {
+        return AsyncTask.submit(executor, cancelled -> {
+            List<ExtendedFile> result = new ArrayList<>();
+            try (Stream<ExtendedFile> stream = streamFiles(depth)) {
+                Iterator<ExtendedFile> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    if (cancelled.getAsBoolean()) {
+                        throw new InterruptedIOException("파일 탐색이 취소되었습니다.");
+                    }
+
+                    result.add(iterator.next());
+                }
             }
+
+            return result;
+        });
+    }
+
+    /**
+     * 파일 및 디렉터리를 비동기로 삭제합니다.
+     * 기본 [Executor]에서 [#rm(boolean)] 메서드를 실행합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param recursive 디렉터리일 경우, 재귀적으로 삭제할지에 대한 여부 (파일일 경우 무시)
+     * @return 삭제 성공 여부를 담을 [CompletableFuture]
+     */
+    @NonNull public CompletableFuture<Boolean> rmAsync(boolean recursive) {
+        return rmAsync(recursive, getDefaultAsyncExecutor());
+    }
+
+    /**
+     * 파일 및 디렉터리를 지정한 [Executor]에서 비동기로 삭제합니다.
+     * 재귀적으로 삭제하는 경우, executor가 [ForkJoinPool]이면 해당 풀에서 병렬로 삭제하고 그 외에는 executor의 스레드에서 순서대로 삭제하며,
+     * 반환된 future를 취소하면 아직 삭제하지 않은 항목을 남겨둔 채로 삭제를 중단합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param recursive 디렉터리일 경우, 재귀적으로 삭제할지에 대한 여부 (파일일 경우 무시)
+     * @param executor 작업을 실행할 [Executor]
+     * @return 삭제 성공 여부를 담을 [CompletableFuture]
+     */
+    @NonNull public CompletableFuture<Boolean> rmAsync(boolean recursive, @NonNull Executor executor) {
+        return AsyncTask.submit(executor, cancelled -> recursive
+                ? rmRecursively(EErrorPolicy.FAIL_FAST, executor instanceof ForkJoinPool ? (ForkJoinPool) executor : null, cancelled).isSuccess()
+                : rm(false));
+    }
+
+    // 파일 및 디렉터리를 재귀적으로 삭제 (pool이 null이면 호출한 스레드에서 순서대로 삭제하고, cancelled가 true를 반환하면 중단)
+    @NonNull private DeleteResult rmRecursively(@NonNull EErrorPolicy policy, ForkJoinPool pool, @NonNull BooleanSupplier cancelled) {
+        DeleteResult result = pool == null
+                ? FileRemover.removeSequentially(this.toPath(), policy, cancelled)
+                : FileRemover.remove(this.toPath(), policy, pool, cancelled);
+        if (result.isSuccess()) {
+            clearSnapshot();
         }
+
+        return result;
     }
 
      /**
@@ -439,15 +1586,13 @@ public class ExtendedFile extends File {
       * @throws SecurityException 파일 및 디렉터리 접근 권한이 없으면 던져짐
       */
      @NonNull public List<ExtendedFile> walkFiles() throws SecurityException {
-         List<ExtendedFile> result = new ArrayList<>();
-         walkFiles(this, result);
-
-         return result;
+         return walkFiles(-1);
      }
 
      /**
       * 특정 경로의 내부 내용을 회귀적으로 반환합니다. (깊이 우선 탐색)
       * 디렉터리는 내부 파일/디렉터리를 모두 반환한 후에 리스트에 추가됩니다.
+      * 각 항목의 속성은 한 번만 읽어들이며, 반환되는 객체는 탐색 도중에 읽어들인 속성을 보관합니다. ([#getSnapshot()])
       *
       * @author yjj8353
       * @since 1.8.0
@@ -456,48 +1601,273 @@ public class ExtendedFile extends File {
       * @throws SecurityException 파일 및 디렉터리 접근 권한이 없으면 던져짐
       */
      @NonNull public List<ExtendedFile> walkFiles(int depth) throws SecurityException {
-         List<ExtendedFile> result = new ArrayList<>();
-         walkFilesWithDepth(this, result, depth, 0);
+         return FileWalker.walk(this.toPath(), WalkOptions.defaults().maxDepth(depth));
+     }
 
-         return result;
+     /**
+      * 특정 경로의 내부 내용 중 탐색 조건에 맞는 항목을 회귀적으로 반환합니다. (깊이 우선 탐색)
+      * 조건은 탐색 도중에 각 항목의 속성을 읽어들인 직후 평가하므로, 조건에 맞지 않는 항목은 객체를 생성하지 않고
+      * 제외한 디렉터리([WalkOptions#prune(java.util.function.Predicate)])는 내부를 탐색하지 않습니다.
+      *
+      * @author yjj8353
+      * @since 1.8.0
+      * @param options 탐색 조건
+      * @return 경로 내부에서 조건에 맞는 파일 및 디렉터리를 포함하는 리스트
+      * @throws SecurityException 파일 및 디렉터리 접근 권한이 없으면 던져짐
+      */
+     @NonNull public List<ExtendedFile> walkFiles(@NonNull WalkOptions options) throws SecurityException {
+         return FileWalker.walk(this.toPath(), options);
      }
 
-     // 회귀적으로 파일 리스트를 구성하는 헬퍼 메서드
-     private void walkFiles(@NonNull File file, @NonNull List<ExtendedFile> result) {
-         if (!file.exists()) {
-             return;
+     /**
+      * 특정 경로의 내부 내용을 병렬로 탐색해서 반환합니다.
+      * 공용 [ForkJoinPool]을 사용하며, 결과의 순서는 [#walkFiles()] 메서드와 같습니다. (디렉터리 내부 항목 다음에 디렉터리)
+      *
+      * @author yjj8353
+      * @since 1.8.0
+      * @return 경로 내부의 모든 파일 및 디렉터리를 포함하는 리스트
+      * @throws SecurityException 파일 및 디렉터리 접근 권한이 없으면 던져짐
+      */
+     @NonNull public List<ExtendedFile> walkFilesParallel() throws SecurityException {
+         return walkFilesParallel(-1);
+     }
+
+     /**
+      * 특정 경로의 내부 내용을 깊이 제한을 두고 병렬로 탐색해서 반환합니다.
+      * 공용 [ForkJoinPool]을 사용하며, 결과의 순서는 [#walkFiles(int)] 메서드와 같습니다. (디렉터리 내부 항목 다음에 디렉터리)
+      *
+      * @author yjj8353
+      * @since 1.8.0
+      * @param depth 깊이 제한 (-1이면 제한 없음)
+      * @return 경로 내부의 모든 파일 및 디렉터리를 포함하는 리스트
+      * @throws SecurityException 파일 및 디렉터리 접근 권한이 없으면 던져짐
+      */
+     @NonNull public List<ExtendedFile> walkFilesParallel(int depth) throws SecurityException {
+         return walkFilesParallel(depth, ForkJoinPool.commonPool());
+     }
+
+     /**
+      * 특정 경로의 내부 내용을 지정한 [ForkJoinPool]에서 깊이 제한을 두고 병렬로 탐색해서 반환합니다.
+      * 하위 디렉터리마다 작업을 나누어 탐색하며, 각 항목의 속성은 한 번만 읽어들입니다.
+      * 각 작업의 결과를 디렉터리 목록 순서대로 이어붙이므로, 결과의 순서는 [#walkFiles(int)] 메서드와 같습니다.
+      *
+      * @author yjj8353
+      * @since 1.8.0
+      * @param depth 깊이 제한 (-1이면 제한 없음)
+      * @param pool 탐색에 사용할 [ForkJoinPool]
+      * @return 경로 내부의 모든 파일 및 디렉터리를 포함하는 리스트
+      * @throws SecurityException 파일 및 디렉터리 접근 권한이 없으면 던져짐
+      */
+     @NonNull public List<ExtendedFile> walkFilesParallel(int depth, @NonNull ForkJoinPool pool) throws SecurityException {
+         return FileWalker.walkParallel(this.toPath(), WalkOptions.defaults().maxDepth(depth), pool);
+     }
+
+     /**
+      * 특정 경로의 내부 내용 중 탐색 조건에 맞는 항목을 병렬로 탐색해서 반환합니다.
+      * 공용 [ForkJoinPool]을 사용하며, 결과의 순서는 [#walkFiles(WalkOptions)] 메서드와 같습니다.
+      *
+      * @author yjj8353
+      * @since 1.8.0
+      * @param options 탐색 조건
+      * @return 경로 내부에서 조건에 맞는 파일 및 디렉터리를 포함하는 리스트
+      * @throws SecurityException 파일 및 디렉터리 접근 권한이 없으면 던져짐
+      */
+     @NonNull public List<ExtendedFile> walkFilesParallel(@NonNull WalkOptions options) throws SecurityException {
+         return walkFilesParallel(options, ForkJoinPool.commonPool());
+     }
+
+     /**
+      * 특정 경로의 내부 내용 중 탐색 조건에 맞는 항목을 지정한 [ForkJoinPool]에서 병렬로 탐색해서 반환합니다.
+      * 제외한 디렉터리는 작업을 생성하지 않으며, 결과의 순서는 [#walkFiles(WalkOptions)] 메서드와 같습니다.
+      *
+      * @author yjj8353
+      * @since 1.8.0
+      * @param options 탐색 조건
+      * @param pool 탐색에 사용할 [ForkJoinPool]
+      * @return 경로 내부에서 조건에 맞는 파일 및 디렉터리를 포함하는 리스트
+      * @throws SecurityException 파일 및 디렉터리 접근 권한이 없으면 던져짐
+      */
+     @NonNull public List<ExtendedFile> walkFilesParallel(@NonNull WalkOptions options, @NonNull ForkJoinPool pool) throws SecurityException {
+         return FileWalker.walkParallel(this.toPath(), options, pool);
+     }
+
+     /**
+      * 특정 경로의 내부 내용을 디렉터리를 읽어들이는 대로 반환하는 [Stream]을 생성합니다.
+      * 결과의 순서는 [#walkFiles()] 메서드와 같습니다. (디렉터리 내부 항목 다음에 디렉터리)
+      * 탐색 중인 디렉터리는 [Stream]을 닫을 때 함께 닫히므로, try-with-resources 구문과 함께 사용해야 합니다.
+      *
+      * @author yjj8353
+      * @since 1.8.0
+      * @return 경로 내부의 모든 파일 및 디렉터리를 반환하는 [Stream]
+      * @throws SecurityException 파일 및 디렉터리 접근 권한이 없으면 던져짐
+      */
+     @NonNull public Stream<ExtendedFile> streamFiles() throws SecurityException {
+         return streamFiles(-1);
+     }
+
+     /**
+      * 특정 경로의 내부 내용을 깊이 제한을 두고, 디렉터리를 읽어들이는 대로 반환하는 [Stream]을 생성합니다.
+      * 결과 전체를 리스트에 담지 않고 탐색 중인 경로의 디렉터리만 열어두므로, 사용하는 메모리는 항목 개수가 아닌 트리의 깊이에 비례합니다.
+      * 탐색 중인 디렉터리는 [Stream]을 닫을 때 함께 닫히므로, try-with-resources 구문과 함께 사용해야 합니다.
+      *
+      * @author yjj8353
+      * @since 1.8.0
+      * @param depth 깊이 제한 (-1이면 제한 없음)
+      * @return 경로 내부의 모든 파일 및 디렉터리를 반환하는 [Stream]
+      * @throws SecurityException 파일 및 디렉터리 접근 권한이 없으면 던져짐
+      */
+     @NonNull public Stream<ExtendedFile> streamFiles(int depth) throws SecurityException {
+         return FileWalker.stream(this.toPath(), WalkOptions.defaults().maxDepth(depth));
+     }
+
+     /**
+      * 특정 경로의 내부 내용 중 탐색 조건에 맞는 항목을 디렉터리를 읽어들이는 대로 반환하는 [Stream]을 생성합니다.
+      * [Stream#filter(java.util.function.Predicate)]와 달리 조건에 맞지 않는 항목은 객체를 생성하지 않으며, 제외한 디렉터리는 열지 않습니다.
+      * 탐색 중인 디렉터리는 [Stream]을 닫을 때 함께 닫히므로, try-with-resources 구문과 함께 사용해야 합니다.
+      *
+      * @author yjj8353
+      * @since 1.8.0
+      * @param options 탐색 조건
+      * @return 경로 내부에서 조건에 맞는 파일 및 디렉터리를 반환하는 [Stream]
+      * @throws SecurityException 파일 및 디렉터리 접근 권한이 없으면 던져짐
+      */
+     @NonNull public Stream<ExtendedFile> streamFiles(@NonNull WalkOptions options) throws SecurityException {
+         return FileWalker.stream(this.toPath(), options);
+     }
+
+     /**
+      * 디렉터리 트리의 변경을 감시합니다. 같은 경로의 변경은 100ms 동안 모았다가 한 번만 전달합니다.
+      * 감시가 더 이상 필요하지 않으면, 반환된 [FileWatcher] 객체를 닫아야 합니다.
+      *
+      * @author yjj8353
+      * @since 1.8.0
+      * @param listener 변경을 전달받을 [FileChangeListener] 객체
+      * @return 감시 중인 [FileWatcher] 객체
+      * @throws IOException 디렉터리가 아니거나, 감시 대상으로 등록하는 과정에서 오류가 발생하면 던져짐
+      */
+     @NonNull public FileWatcher watch(@NonNull FileChangeListener listener) throws IOException {
+         return watch(FileWatcher.DEBOUNCE_MILLIS, listener);
+     }
+
+     /**
+      * 디렉터리 트리의 변경을 감시합니다.
+      * 트리를 주기적으로 다시 탐색하는 대신 [java.nio.file.WatchService]로 변경을 전달받으므로, 작업량은 트리의 크기가 아닌 변경의 양에 비례합니다.
+      * 새로 생성된 하위 디렉터리도 감시하며, 같은 경로의 변경은 debounceMillis 동안 더 이상 변경이 없을 때까지 모았다가 한 번만 전달합니다.
+      * 변경이 계속되는 경로도 처음 변경으로부터 debounceMillis의 10배가 지나면 모은 변경을 전달합니다.
+      * 운영체제가 변경을 모두 전달하지 못하면, 해당 디렉터리만 다시 읽어들여서 변경을 찾습니다.
+      * 감시가 더 이상 필요하지 않으면, 반환된 [FileWatcher] 객체를 닫아야 합니다.
+      *
+      * @author yjj8353
+      * @since 1.8.0
+      * @param debounceMillis 같은 경로의 변경을 모으는 시간 (millisecond, 0이면 모으지 않음)
+      * @param listener 변경을 전달받을 [FileChangeListener] 객체
+      * @return 감시 중인 [FileWatcher] 객체
+      * @throws IOException 디렉터리가 아니거나, 감시 대상으로 등록하는 과정에서 오류가 발생하면 던져짐
+      * @throws IllegalArgumentException debounceMillis가 0보다 작으면 던져짐
+      */
+     @NonNull public FileWatcher watch(long debounceMillis, @NonNull FileChangeListener listener) throws IOException {
+         return new FileWatcher(this.toPath(), debounceMillis, listener);
+     }
+
+     // File 객체를 ExtendedFile 객체로 변환 (ExtendedFile 객체는 보관 중인 속성을 유지하기 위해 그대로 반환)
+     @NonNull static ExtendedFile of(@NonNull File file) {
+         return file instanceof ExtendedFile ? (ExtendedFile) file : new ExtendedFile(file.getPath());
+     }
+
+     // 경로 내부의 모든 일반 파일을 반환
+     @NonNull private List<ExtendedFile> regularFiles() {
+         return walkFiles(WalkOptions.defaults().includeDirectories(false));
+     }
+
+     // 현재 파일의 크기와 수정 시각에 해당하는 메타데이터 캐시 항목을 반환 (캐시를 사용하지 않으면 null)
+     private FileMetadataCache.Entry metadataEntry() throws IOException {
+         FileMetadataCache cache = defaultMetadataCache;
+         if (!metadataCaching && cache == null) {
+             return null;
          }
 
-         if (file.isFile()) {
-             result.add(new ExtendedFile(file.getAbsolutePath()));
-         } else if (file.isDirectory()) {
-             File[] files = file.listFiles();
-             if (files != null) {
-                 for (File childFile : files) {
-                     walkFiles(childFile, result);
-                 }
-             }
-             result.add(new ExtendedFile(file.getAbsolutePath()));
+         long length = this.length();
+         long lastModified = this.lastModified();
+
+         // 존재하지 않거나 수정 시각을 알 수 없는 파일은 캐시하지 않음
+         if (lastModified == 0L) {
+             return null;
          }
+
+         FileMetadataCache.Entry entry = this.metadata;
+         if (entry != null && entry.matches(length, lastModified)) {
+             return entry;
+         }
+
+         entry = cache != null ? cache.entry(this, length, lastModified) : new FileMetadataCache.Entry(length, lastModified);
+         if (metadataCaching) {
+             this.metadata = entry;
+         }
+
+         return entry;
      }
 
-     // 깊이 제한이 있는 회귀적 파일 리스트 구성 헬퍼 메서드
-     private void walkFilesWithDepth(@NonNull File file, @NonNull List<ExtendedFile> result, int maxDepth, int currentDepth) {
-         if (!file.exists() || (maxDepth != -1 && currentDepth > maxDepth)) {
-             return;
+     // 메타데이터 캐시 혹은 해시 코드 색인에 보관 중인 해시 코드를 반환 (없으면 null)
+     private String storedHash(FileMetadataCache.Entry entry, HashIndex index, FileSnapshot attributes, @NonNull EHash hash) {
+         String value = entry == null ? null : entry.getHash(hash);
+         if (value != null || attributes == null) {
+             return value;
          }
 
-         if (file.isFile()) {
-             result.add(new ExtendedFile(file.getAbsolutePath()));
-         } else if (file.isDirectory()) {
-             File[] files = file.listFiles();
-             if (files != null) {
-                 for (File childFile : files) {
-                     walkFilesWithDepth(childFile, result, maxDepth, currentDepth + 1);
-                 }
-             }
-             result.add(new ExtendedFile(file.getAbsolutePath()));
+         value = index.get(this.toPath(), attributes, hash);
+         if (value != null && entry != null) {
+             entry.setHash(hash, value);
          }
+
+         return value;
+     }
+
+     // 새로 생성한 해시 코드를 메타데이터 캐시와 해시 코드 색인에 보관
+     private void storeHash(FileMetadataCache.Entry entry, HashIndex index, FileSnapshot attributes, @NonNull EHash hash, @NonNull String value) throws IOException {
+         if (entry != null) {
+             entry.setHash(hash, value);
+         }
+
+         if (attributes != null) {
+             index.put(this.toPath(), attributes, hash, value);
+         }
+     }
+
+     // 해시 코드 색인에서 사용할 파일 속성을 새로 읽어들여서 반환 (보관 중인 속성이 있으면 함께 갱신하며, 읽을 수 없으면 null)
+     private FileSnapshot indexAttributes() {
+         BasicFileAttributes attributes = FileWalker.readAttributes(this.toPath());
+         if (attributes == null) {
+             return null;
+         }
+
+         FileSnapshot current = FileSnapshot.of(attributes);
+         if (this.snapshot != null) {
+             this.snapshot = current;
+         }
+
+         return current;
+     }
+
+     // 파일의 최상위 유형이 type인지 여부를 반환 (TieredMimeTypeDetector는 최상위 유형을 알 수 있는 가장 가벼운 단계에서 판별을 멈춤)
+     private boolean hasMediaType(@NonNull String type) throws IOException {
+         MimeTypeDetector detector = getMimeTypeDetector();
+
+         // 메타데이터 캐시를 사용하면 전체 MIME type을 캐시에 남기기 위해 getMimeType()으로 판별
+         if (!(detector instanceof TieredMimeTypeDetector) || metadataCaching || defaultMetadataCache != null) {
+             return getMimeType().startsWith(type + "/");
+         }
+
+         Instrumentation.Span span = Instrumentation.start(EFileOperation.MIME_TYPE);
+         String mediaType;
+         try {
+             mediaType = ((TieredMimeTypeDetector) detector).detectMediaType(this);
+         } catch (IOException | RuntimeException e) {
+             span.end(toPath(), null, 0, 0, e);
+             throw e;
+         }
+         span.end(toPath(), null, 0, 0, null);
+
+         return type.equals(mediaType);
      }
 
      // 확장자명을 반환 (isCompound가 true일 경우 복합 확장자 반환)
@@ -506,7 +1876,11 @@ public class ExtendedFile extends File {
              return "";
          }
 
-         String name = this.getName();
+         return extensionOf(this.getName(), isCompound);
+     }
+
+     // 파일명에서 확장자명을 추출 (isCompound가 true일 경우 복합 확장자 반환)
+     @NonNull static String extensionOf(@NonNull String name, boolean isCompound) {
          int firstIndex = name.indexOf('.');
          if (firstIndex == -1 || firstIndex == name.length() - 1) {
              return "";
@@ -521,47 +1895,37 @@ public class ExtendedFile extends File {
              return false;
          }
 
+         Instrumentation.Span span = Instrumentation.start(EFileOperation.DELETE);
          boolean result = true;
          try {
              Files.delete(file.toPath());
+             span.end(file.toPath(), null, 0, 1, null);
          } catch (IOException | SecurityException e) {
+             span.end(file.toPath(), null, 0, 0, e);
              result = false;
          }
 
          return result;
      }
 
-     // 디렉터리 삭제 (내부에 파일이나 디렉터리가 있을 경우 재귀적으로 삭제)
-     private boolean rmDirectory(@NonNull File file) {
-         if (!file.exists() || !file.isDirectory()) {
-             return false;
-         }
-
-         // 해당 디렉터리의 모든 파일 및 디렉터리 정보를 가져옴
-         File[] deleteDirectoryList = file.listFiles();
-         if (!deleteRecursively(deleteDirectoryList)) {
-             return false;
+     // 16진수 문자열을 바이트 배열로 변환
+     @NonNull private static byte[] decodeHex(@NonNull String hex) {
+         if (hex.length() % 2 != 0) {
+             throw new IllegalArgumentException("올바른 16진수 문자열이 아닙니다: " + hex);
          }
 
-         // 해당 디렉터리 삭제
-         return rmFile(file);
-     }
-
-     // 파일/디렉터리 리스트를 재귀적으로 삭제
-     private boolean deleteRecursively(@NonNull File[] files) {
-         for (File childFile : files) {
-             if (childFile.isFile()) {
-                 if (!rmFile(childFile)) {
-                     return false;
-                 }
-             } else {
-                 if (!rmDirectory(childFile)) {
-                     return false;
-                 }
+         byte[] result = new byte[hex.length() / 2];
+         for (int i = 0; i < result.length; i++) {
+             int high = Character.digit(hex.charAt(i * 2), 16);
+             int low = Character.digit(hex.charAt(i * 2 + 1), 16);
+             if (high == -1 || low == -1) {
+                 throw new IllegalArgumentException("올바른 16진수 문자열이 아닙니다: " + hex);
              }
+
+             result[i] = (byte) ((high << 4) | low);
          }
 
-         return true;
+         return result;
      }
 
      // 선택한 해시 알고리즘을 ExtendedFile.EHash로 변환
@@ -638,38 +2002,4 @@ public class ExtendedFile extends File {
                  throw new IllegalArgumentException("지원하지 않는 해시 알고리즘입니다: " + hash);
          }
      }
-
-     // 선택한 해시 알고리즘을 dev.retrotv.crypto.enums.EHash로 변환
-     @NonNull private dev.retrotv.crypto.hash.enums.EHash selectHashAlgorithm(@NonNull EHash hash) {
-         switch (hash) {
-             case CRC32:
-                 return dev.retrotv.crypto.hash.enums.EHash.CRC32;
-             case MD5:
-                 return dev.retrotv.crypto.hash.enums.EHash.MD5;
-             case SHA1:
-                 return dev.retrotv.crypto.hash.enums.EHash.SHA1;
-             case SHA224:
-                 return dev.retrotv.crypto.hash.enums.EHash.SHA224;
-             case SHA256:
-                 return dev.retrotv.crypto.hash.enums.EHash.SHA256;
-             case SHA384:
-                 return dev.retrotv.crypto.hash.enums.EHash.SHA384;
-             case SHA512:
-                 return dev.retrotv.crypto.hash.enums.EHash.SHA512;
-             case SHA512224:
-                 return dev.retrotv.crypto.hash.enums.EHash.SHA512224;
-             case SHA512256:
-                 return dev.retrotv.crypto.hash.enums.EHash.SHA512256;
-             case SHA3224:
-                 return dev.retrotv.crypto.hash.enums.EHash.SHA3224;
-             case SHA3256:
-                 return dev.retrotv.crypto.hash.enums.EHash.SHA3256;
-             case SHA3384:
-                 return dev.retrotv.crypto.hash.enums.EHash.SHA3384;
-             case SHA3512:
-                 return dev.retrotv.crypto.hash.enums.EHash.SHA3512;
-             default:
-                 throw new IllegalArgumentException("지원하지 않는 해시 알고리즘입니다: " + hash);
-         }
-     }
 }
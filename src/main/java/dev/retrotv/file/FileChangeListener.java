@@ -0,0 +1,43 @@
+package dev.retrotv.file;
+
+import dev.retrotv.file.ExtendedFile.EFileChange;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+
+/**
+ * [FileWatcher]가 감시 중인 디렉터리 트리의 변경을 전달받는 인터페이스 입니다.
+ * 감시 스레드에서 호출되므로, 오래 걸리는 작업을 수행하면 그동안 다음 변경의 전달이 늦어집니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+@FunctionalInterface
+public interface FileChangeListener {
+
+    /**
+     * 파일 혹은 디렉터리가 변경되면 호출됩니다.
+     * 생성 및 변경의 경우 전달되는 [ExtendedFile] 객체는 변경을 확인할 때 읽어들인 속성([FileSnapshot])을 보관하고 있으며,
+     * 삭제의 경우 속성을 보관하지 않습니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param change 변경의 종류
+     * @param file 변경된 파일 혹은 디렉터리
+     */
+    void onChange(@NonNull EFileChange change, @NonNull ExtendedFile file);
+
+    /**
+     * 하위 디렉터리를 감시 대상으로 등록하거나 읽어들이는 과정에서 오류가 발생하면 호출됩니다.
+     * 기본 구현은 아무것도 하지 않습니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param file 감시하지 못한 디렉터리
+     * @param e 발생한 오류
+     */
+    default void onFailure(@NonNull ExtendedFile file, @NonNull IOException e) {
+        // 기본 구현은 감시하지 못한 디렉터리를 무시함
+    }
+}
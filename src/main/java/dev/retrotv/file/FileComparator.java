@@ -0,0 +1,227 @@
+package dev.retrotv.file;
+
+import dev.retrotv.crypto.util.HEXCodecUtils;
+import dev.retrotv.file.ExtendedFile.EFileOperation;
+import dev.retrotv.file.ExtendedFile.EHash;
+import dev.retrotv.file.ExtendedFile.EReadMode;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 두 파일을 블록 단위로 번갈아 읽으면서 비교하는 클래스 입니다.
+ * 길이를 먼저 비교하고, 처음으로 다른 블록이 발견되면 나머지 내용을 읽지 않고 비교를 마칩니다.
+ * 블록 비교에는 Java 11 이상에서 ByteBuffer#mismatch를, Java 8에서는 8바이트(long) 단위 비교를 사용합니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+final class FileComparator {
+
+    // 읽기 방식이 AUTO일 때, 이 크기 이상의 파일은 메모리 매핑으로 읽어들임
+    static final long MAPPED_THRESHOLD = 64L * 1024 * 1024;
+
+    // 메모리 매핑 시 한 번에 매핑할 최대 크기 (ByteBuffer의 int 인덱스 범위와 주소 공간 사용량을 제한)
+    static final long MAPPED_WINDOW = 64L * 1024 * 1024;
+
+    // Java 11 이상의 ByteBuffer#mismatch 메서드 핸들 (Java 8이면 null)
+    private static final MethodHandle BUFFER_MISMATCH = findBufferMismatch();
+
+    private FileComparator() {
+        throw new UnsupportedOperationException("인스턴스를 생성할 수 없는 클래스입니다.");
+    }
+
+    /**
+     * 두 파일을 비교합니다.
+     * hash 매개변수가 null이 아닌 경우, 비교하면서 해당 알고리즘으로 해시 코드를 함께 계산합니다.
+     *
+     * @param source 비교할 파일 경로
+     * @param target 비교 대상 파일 경로
+     * @param hash 함께 계산할 파일 해시 알고리즘 (null일 경우 계산하지 않음)
+     * @param mode 읽기 방식
+     * @return 비교 결과
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     */
+    @NonNull static FileComparison compare(@NonNull Path source, @NonNull Path target, EHash hash, @NonNull EReadMode mode) throws IOException {
+        Instrumentation.Span span = Instrumentation.start(EFileOperation.COMPARE);
+        try {
+            FileComparison result = compareContent(source, target, hash, mode);
+            span.end(source, hash, result.getComparedBytes(), 0, null);
+
+            return result;
+        } catch (IOException | RuntimeException e) {
+            span.end(source, hash, 0, 0, e);
+            throw e;
+        }
+    }
+
+    // 두 파일의 길이를 비교한 다음, 내용을 블록 단위로 비교
+    @NonNull private static FileComparison compareContent(@NonNull Path source, @NonNull Path target, EHash hash, @NonNull EReadMode mode) throws IOException {
+        long size = Files.size(source);
+        if (size != Files.size(target)) {
+            return new FileComparison(false, 0, null, null);
+        }
+
+        StreamingDigest digest = hash == null ? null : StreamingDigest.of(hash);
+        long[] compared = { 0 };
+        boolean match;
+
+        try (FileChannel sourceChannel = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel targetChannel = FileChannel.open(target, StandardOpenOption.READ)) {
+
+            match = BlockReader.read(sourceChannel, targetChannel, size, mode, (sourceBlock, targetBlock) -> {
+                if (sourceBlock.remaining() != targetBlock.remaining() || mismatch(sourceBlock, targetBlock) != -1) {
+                    return false;
+                }
+
+                compared[0] += sourceBlock.remaining();
+                if (digest != null) {
+                    digest.update(sourceBlock);
+                }
+
+                return true;
+            });
+        }
+
+        if (!match) {
+            return new FileComparison(false, compared[0], null, null);
+        }
+
+        return new FileComparison(true, compared[0], hash, digest == null ? null : HEXCodecUtils.encode(digest.digest()));
+    }
+
+    /**
+     * 버퍼가 가득 차거나 파일의 끝에 도달할 때까지 읽어들입니다. 읽어들인 후 버퍼는 읽기 상태로 전환됩니다.
+     *
+     * @param channel 읽어들일 채널
+     * @param buffer 데이터를 담을 버퍼
+     * @return 읽어들인 바이트 수 (파일의 끝이면 0)
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     */
+    static int readBlock(@NonNull FileChannel channel, @NonNull ByteBuffer buffer) throws IOException {
+        int read = 0;
+        while (buffer.hasRemaining() && read != -1) {
+            read = channel.read(buffer);
+        }
+
+        buffer.flip();
+        return buffer.remaining();
+    }
+
+    /**
+     * 두 파일의 내용을 바이트 단위로 비교해서, 처음으로 다른 바이트의 위치를 반환합니다.
+     * 한 파일이 다른 파일의 앞부분과 같은 경우, 짧은 파일의 길이를 반환합니다.
+     * 읽기 방식이 AUTO이면, 두 파일이 모두 [#MAPPED_THRESHOLD] 이상일 때 메모리 매핑으로 비교합니다.
+     *
+     * @param source 비교할 파일 경로
+     * @param target 비교 대상 파일 경로
+     * @param mode 읽기 방식
+     * @return 처음으로 다른 바이트의 위치 (동일하면 -1)
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     */
+    static long mismatch(@NonNull Path source, @NonNull Path target, @NonNull EReadMode mode) throws IOException {
+        Instrumentation.Span span = Instrumentation.start(EFileOperation.COMPARE);
+        try {
+            long[] compared = { 0 };
+            long result = mismatch(source, target, mode, compared);
+            span.end(source, null, compared[0], 0, null);
+
+            return result;
+        } catch (IOException | RuntimeException e) {
+            span.end(source, null, 0, 0, e);
+            throw e;
+        }
+    }
+
+    // 두 파일을 블록 단위로 비교해서 처음으로 다른 바이트의 위치를 반환 (비교를 마친 길이를 compared[0]에 기록)
+    private static long mismatch(@NonNull Path source, @NonNull Path target, @NonNull EReadMode mode, @NonNull long[] compared) throws IOException {
+        try (FileChannel sourceChannel = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel targetChannel = FileChannel.open(target, StandardOpenOption.READ)) {
+
+            long sourceSize = sourceChannel.size();
+            long targetSize = targetChannel.size();
+            long length = Math.min(sourceSize, targetSize);
+            long[] offset = { -1 };
+
+            BlockReader.read(sourceChannel, targetChannel, length, mode, (sourceBlock, targetBlock) -> {
+                int common = Math.min(sourceBlock.remaining(), targetBlock.remaining());
+                int index = mismatch(sourceBlock, targetBlock);
+                if (index != -1 && index < common) {
+                    offset[0] = compared[0] + index;
+                    return false;
+                }
+
+                // 한쪽 파일이 먼저 끝남
+                if (sourceBlock.remaining() != targetBlock.remaining()) {
+                    offset[0] = compared[0] + common;
+                    return false;
+                }
+
+                compared[0] += common;
+                return true;
+            });
+
+            if (offset[0] != -1) {
+                return offset[0];
+            }
+
+            return sourceSize == targetSize ? -1 : length;
+        }
+    }
+
+    /**
+     * 두 버퍼의 position부터 limit까지를 비교해서, 처음으로 다른 바이트의 상대 위치를 반환합니다.
+     * 버퍼의 position은 변경되지 않습니다.
+     *
+     * @param source 비교할 버퍼
+     * @param target 비교 대상 버퍼
+     * @return 처음으로 다른 바이트의 상대 위치 (동일하면 -1, 한 버퍼가 다른 버퍼의 앞부분과 같으면 짧은 버퍼의 길이)
+     */
+    static int mismatch(@NonNull ByteBuffer source, @NonNull ByteBuffer target) {
+        if (BUFFER_MISMATCH != null) {
+            try {
+                return (int) BUFFER_MISMATCH.invokeExact(source, target);
+            } catch (Throwable e) {
+                throw new IllegalStateException("ByteBuffer#mismatch 호출에 실패했습니다.", e);
+            }
+        }
+
+        int sourcePosition = source.position();
+        int targetPosition = target.position();
+        int length = Math.min(source.remaining(), target.remaining());
+        int i = 0;
+
+        // 8바이트씩 비교 (바이트 순서와 관계없이 같은 값이면 같은 바이트열)
+        for (; i + Long.BYTES <= length; i += Long.BYTES) {
+            if (source.getLong(sourcePosition + i) != target.getLong(targetPosition + i)) {
+                break;
+            }
+        }
+
+        for (; i < length; i++) {
+            if (source.get(sourcePosition + i) != target.get(targetPosition + i)) {
+                return i;
+            }
+        }
+
+        return source.remaining() == target.remaining() ? -1 : length;
+    }
+
+    // 실행 중인 JDK가 ByteBuffer#mismatch를 지원하면 해당 메서드 핸들을 반환
+    private static MethodHandle findBufferMismatch() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(ByteBuffer.class, "mismatch", MethodType.methodType(int.class, ByteBuffer.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package dev.retrotv.file;
+
+/**
+ * 두 파일의 비교 결과를 담는 클래스 입니다.
+ * 두 파일이 동일한 경우, 비교하면서 함께 계산한 해시 코드를 제공합니다.
+ * (동일한 파일은 해시 코드도 같으므로, 하나의 해시 코드가 두 파일 모두의 해시 코드가 됩니다.)
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+public final class FileComparison {
+    private final boolean match;
+    private final long comparedBytes;
+    private final ExtendedFile.EHash algorithm;
+    private final String hash;
+
+    FileComparison(boolean match, long comparedBytes, ExtendedFile.EHash algorithm, String hash) {
+        this.match = match;
+        this.comparedBytes = comparedBytes;
+        this.algorithm = algorithm;
+        this.hash = hash;
+    }
+
+    /**
+     * 두 파일이 동일한지 여부를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 동일한 파일인지 여부
+     */
+    public boolean isMatch() {
+        return match;
+    }
+
+    /**
+     * 비교를 마칠 때까지 각 파일에서 읽어들인 바이트 수를 반환합니다.
+     * 길이가 달라서 내용을 읽지 않고 비교를 마친 경우, 0을 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 읽어들인 바이트 수
+     */
+    public long getComparedBytes() {
+        return comparedBytes;
+    }
+
+    /**
+     * 해시 코드를 계산한 알고리즘을 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 파일 해시 알고리즘 (해시 코드를 계산하지 않은 경우 null)
+     */
+    public ExtendedFile.EHash getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * 두 파일이 동일한 경우, 두 파일의 해시 코드를 반환합니다.
+     * 두 파일이 다르거나 해시 코드를 계산하지 않은 경우, null을 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 두 파일의 해시 코드
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "FileComparison{match=" + match + ", comparedBytes=" + comparedBytes
+             + ", algorithm=" + algorithm + ", hash=" + hash + "}";
+    }
+}
@@ -0,0 +1,228 @@
+package dev.retrotv.file;
+
+import dev.retrotv.file.ExtendedFile.EFileOperation;
+import dev.retrotv.file.ExtendedFile.EHash;
+import dev.retrotv.file.ExtendedFile.EReadMode;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 파일을 고정 크기의 버퍼로 나누어 읽으면서 해시 코드를 계산하는 클래스 입니다.
+ * 스레드마다 하나의 버퍼를 재사용하므로, 파일 크기와 관계없이 일정한 메모리만 사용합니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+final class FileHasher {
+
+    // 한 번에 읽어들일 버퍼의 크기
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    // 스레드별로 재사용되는 읽기 버퍼
+    private static final ThreadLocal<ByteBuffer> BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocate(BUFFER_SIZE));
+
+    private FileHasher() {
+        throw new UnsupportedOperationException("인스턴스를 생성할 수 없는 클래스입니다.");
+    }
+
+    /**
+     * 파일의 해시 코드를 계산해서 반환합니다.
+     * permits를 지정하면 블록을 읽을 때마다 허가를 얻으므로, 여러 스레드가 동시에 읽어들이는 파일의 수를 제한할 수 있습니다.
+     *
+     * @param path 파일 경로
+     * @param hash 파일 해시 알고리즘
+     * @param mode 읽기 방식
+     * @param permits 읽기 동시성을 제한할 [Semaphore] (null이면 제한 없음)
+     * @return 파일의 해시 코드
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하거나, 허가를 기다리는 도중에 인터럽트되면 던져짐
+     */
+    @NonNull static byte[] hash(@NonNull Path path, @NonNull EHash hash, @NonNull EReadMode mode, Semaphore permits) throws IOException {
+        Instrumentation.Span span = Instrumentation.start(EFileOperation.HASH);
+        StreamingDigest digest = StreamingDigest.of(hash);
+        long bytesRead;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            bytesRead = BlockReader.read(channel, mode, permits, digest::update);
+        } catch (IOException | RuntimeException e) {
+            span.end(path, hash, 0, 0, e);
+            throw e;
+        }
+
+        byte[] result = digest.digest();
+        span.end(path, hash, bytesRead, 0, null);
+
+        return result;
+    }
+
+    /**
+     * 파일을 한 번만 읽으면서 여러 알고리즘의 해시 코드를 함께 계산해서 반환합니다.
+     * executor를 지정하면 두 개의 버퍼를 번갈아 사용해서, 다음 블록을 읽는 동안 알고리즘별로 나누어 이전 블록의 해시 코드를 계산합니다.
+     *
+     * executor를 지정한 경우에는 읽기 방식과 관계없이 힙 버퍼를 사용합니다.
+     *
+     * @param path 파일 경로
+     * @param hashes 파일 해시 알고리즘 목록
+     * @param mode 읽기 방식
+     * @param executor 알고리즘별 계산에 사용할 [Executor] (null이면 현재 스레드에서 계산)
+     * @return 알고리즘별 해시 코드
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     */
+    @NonNull static Map<EHash, byte[]> hash(@NonNull Path path, @NonNull Iterable<EHash> hashes, @NonNull EReadMode mode, Executor executor) throws IOException {
+        Map<EHash, StreamingDigest> digests = new EnumMap<>(EHash.class);
+        for (EHash hash : hashes) {
+            digests.put(hash, StreamingDigest.of(hash));
+        }
+
+        Instrumentation.Span span = Instrumentation.start(EFileOperation.HASH);
+        long bytesRead;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (executor == null || digests.size() < 2) {
+                bytesRead = BlockReader.read(channel, mode, null, block -> {
+                    for (StreamingDigest digest : digests.values()) {
+                        digest.update(block.duplicate());
+                    }
+                });
+            } else {
+                bytesRead = update(channel, digests.values(), executor);
+            }
+        } catch (IOException | RuntimeException e) {
+            span.end(path, digests.keySet(), 0, e);
+            throw e;
+        }
+
+        Map<EHash, byte[]> result = new EnumMap<>(EHash.class);
+        for (Map.Entry<EHash, StreamingDigest> entry : digests.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().digest());
+        }
+
+        span.end(path, result.keySet(), bytesRead, null);
+
+        return result;
+    }
+
+    /**
+     * 파일의 해시 코드를 계산해서, 기대하는 해시 코드와 같은지 여부를 반환합니다.
+     * 알고리즘의 해시 코드 길이와 기대하는 해시 코드의 길이가 다르면 파일을 읽지 않고 false를 반환합니다.
+     * 블록을 읽을 때마다 listener에 진행 상황을 전달하며, 취소되거나 제한 시간을 넘기면 읽기를 중단합니다.
+     *
+     * @param path 파일 경로
+     * @param hash 파일 해시 알고리즘
+     * @param expected 기대하는 해시 코드
+     * @param mode 읽기 방식
+     * @param listener 진행 상황을 전달받을 [ProgressListener] 객체 (null이면 전달하지 않음)
+     * @param timeoutNanos 제한 시간 (nanosecond, 0 이하이면 제한 없음)
+     * @return 해시 코드가 같은지 여부
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     * @throws InterruptedIOException 취소되거나 제한 시간을 넘기면 던져짐
+     */
+    static boolean verify(@NonNull Path path, @NonNull EHash hash, @NonNull byte[] expected, @NonNull EReadMode mode,
+                          ProgressListener listener, long timeoutNanos) throws IOException {
+        StreamingDigest digest = StreamingDigest.of(hash);
+        int length = digest.length();
+        if (length != -1 && length != expected.length) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        Instrumentation.Span span = Instrumentation.start(EFileOperation.HASH);
+        long[] bytesRead = { 0 };
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long total = channel.size();
+
+            BlockReader.read(channel, mode, null, block -> {
+                bytesRead[0] += block.remaining();
+                digest.update(block);
+
+                long elapsed = System.nanoTime() - start;
+                if (listener != null) {
+                    listener.onProgress(bytesRead[0], total, elapsed);
+                    if (listener.isCancelled()) {
+                        throw interrupted("해시 코드 검증이 취소되었습니다.", bytesRead[0]);
+                    }
+                }
+
+                if (timeoutNanos > 0 && elapsed > timeoutNanos && bytesRead[0] < total) {
+                    throw interrupted("해시 코드 검증이 제한 시간을 넘겼습니다.", bytesRead[0]);
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            span.end(path, hash, bytesRead[0], 0, e);
+            throw e;
+        }
+
+        boolean result = MessageDigest.isEqual(expected, digest.digest());
+        span.end(path, hash, bytesRead[0], 0, null);
+
+        return result;
+    }
+
+    // 두 버퍼를 번갈아 읽어들이면서, 이전 블록은 executor에서 알고리즘별로 나누어 digest에 입력하고 읽어들인 바이트 수를 반환
+    private static long update(@NonNull FileChannel channel, @NonNull Iterable<StreamingDigest> digests, @NonNull Executor executor) throws IOException {
+        ByteBuffer[] buffers = { ByteBuffer.allocate(BUFFER_SIZE), ByteBuffer.allocate(BUFFER_SIZE) };
+        CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+        int current = 0;
+        long total = 0;
+
+        try {
+            int read;
+            while ((read = FileComparator.readBlock(channel, buffers[current])) > 0) {
+
+                // 이전 블록의 계산이 끝나야 다음 블록을 입력할 수 있음 (알고리즘별 입력 순서 보장)
+                pending.join();
+
+                byte[] block = buffers[current].array();
+                int length = read;
+                total += read;
+                List<CompletableFuture<Void>> updates = new ArrayList<>();
+                for (StreamingDigest digest : digests) {
+                    updates.add(CompletableFuture.runAsync(() -> digest.update(block, 0, length), executor));
+                }
+
+                pending = CompletableFuture.allOf(updates.toArray(new CompletableFuture<?>[0]));
+                current ^= 1;
+                buffers[current].clear();
+            }
+
+            pending.join();
+            return total;
+        } catch (CompletionException e) {
+            throw new IOException("해시 코드를 계산하는 과정에서 오류가 발생했습니다.", e.getCause());
+        } finally {
+            pending.cancel(false);
+        }
+    }
+
+    // 중단된 시점까지 읽어들인 바이트 수를 담은 InterruptedIOException을 생성
+    @NonNull private static InterruptedIOException interrupted(@NonNull String message, long bytesRead) {
+        InterruptedIOException e = new InterruptedIOException(message + " (" + bytesRead + " bytes)");
+        e.bytesTransferred = (int) Math.min(bytesRead, Integer.MAX_VALUE);
+
+        return e;
+    }
+
+    // 현재 스레드의 읽기 버퍼를 초기화해서 반환
+    @NonNull static ByteBuffer buffer() {
+        ByteBuffer buffer = BUFFER.get();
+        buffer.clear();
+
+        return buffer;
+    }
+}
@@ -0,0 +1,160 @@
+package dev.retrotv.file;
+
+import dev.retrotv.file.ExtendedFile.EHash;
+
+import lombok.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 파일의 MIME type과 해시 코드를 메모리에 보관하는 캐시 클래스 입니다.
+ * 파일의 정규 경로(canonical path)를 키로 사용하며, 최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거합니다. (LRU)
+ * 파일의 크기나 수정 시각이 바뀌면 해당 항목은 자동으로 무효화됩니다.
+ * 여러 스레드에서 동시에 사용할 수 있습니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+public final class FileMetadataCache {
+    private final int maxEntries;
+    private final Map<String, Entry> entries;
+
+    /**
+     * 최대 maxEntries개의 항목을 보관하는 [FileMetadataCache] 객체를 생성합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param maxEntries 보관할 최대 항목 개수
+     * @throws IllegalArgumentException maxEntries가 1보다 작으면 던져짐
+     */
+    public FileMetadataCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries는 1 이상이어야 합니다: " + maxEntries);
+        }
+
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, FileMetadataCache.Entry> eldest) {
+                return size() > FileMetadataCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 보관할 최대 항목 개수를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 보관할 최대 항목 개수
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * 현재 보관 중인 항목 개수를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 보관 중인 항목 개수
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * 지정한 파일의 항목을 제거합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param file 항목을 제거할 파일
+     * @throws IOException 정규 경로를 구하는 과정에서 오류가 발생하면 던져짐
+     */
+    public void invalidate(@NonNull File file) throws IOException {
+        String key = file.getCanonicalPath();
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * 모든 항목을 제거합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * 파일의 현재 크기와 수정 시각에 해당하는 항목을 반환합니다.
+     * 항목이 없거나 크기 및 수정 시각이 달라진 경우, 새로운 항목으로 교체해서 반환합니다.
+     *
+     * @param file 항목을 가져올 파일
+     * @param length 파일의 현재 크기
+     * @param lastModified 파일의 현재 수정 시각
+     * @return 파일의 항목
+     * @throws IOException 정규 경로를 구하는 과정에서 오류가 발생하면 던져짐
+     */
+    @NonNull Entry entry(@NonNull File file, long length, long lastModified) throws IOException {
+        String key = file.getCanonicalPath();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null || !entry.matches(length, lastModified)) {
+                entry = new Entry(length, lastModified);
+                entries.put(key, entry);
+            }
+
+            return entry;
+        }
+    }
+
+    /**
+     * 특정 시점(크기, 수정 시각)의 파일에 대한 MIME type과 해시 코드를 보관하는 클래스 입니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     */
+    static final class Entry {
+        private final long length;
+        private final long lastModified;
+        private final AtomicReferenceArray<String> hashes = new AtomicReferenceArray<>(EHash.values().length);
+        private volatile String mimeType;
+
+        Entry(long length, long lastModified) {
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+
+        // 파일의 크기와 수정 시각이 이 항목과 같은지 여부
+        boolean matches(long length, long lastModified) {
+            return this.length == length && this.lastModified == lastModified;
+        }
+
+        String getMimeType() {
+            return mimeType;
+        }
+
+        void setMimeType(String mimeType) {
+            this.mimeType = mimeType;
+        }
+
+        String getHash(@NonNull EHash hash) {
+            return hashes.get(hash.ordinal());
+        }
+
+        void setHash(@NonNull EHash hash, String value) {
+            hashes.set(hash.ordinal(), value);
+        }
+    }
+}
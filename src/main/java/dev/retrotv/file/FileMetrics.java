@@ -0,0 +1,61 @@
+package dev.retrotv.file;
+
+import dev.retrotv.file.ExtendedFile.EFileOperation;
+import dev.retrotv.file.ExtendedFile.EHash;
+
+import lombok.NonNull;
+
+/**
+ * 파일 작업의 호출 횟수, 처리한 바이트 수, 소요 시간, 오류를 전달받는 인터페이스 입니다.
+ * [ExtendedFile#setDefaultMetrics(FileMetrics)] 메서드로 지정하면, 해시 코드 생성, MIME type 판별, 파일 비교, 탐색, 삭제가 끝날 때마다 호출됩니다.
+ * Micrometer, JFR 등의 외부 지표 수집 도구는 이 인터페이스를 구현해서 연결할 수 있습니다.
+ *
+ * 작업을 실행한 스레드에서 곧바로 호출되므로, 구현체는 스레드 안전해야 하며 빠르게 반환해야 합니다.
+ * 구현체에서 발생한 RuntimeException은 무시되며 파일 작업의 결과에 영향을 주지 않습니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+@FunctionalInterface
+public interface FileMetrics {
+
+    /**
+     * 아무것도 기록하지 않는 구현체 입니다. (기본 값)
+     * 이 구현체가 지정되어 있으면 소요 시간을 측정하지 않으므로, 파일 작업에 추가 비용이 발생하지 않습니다.
+     */
+    FileMetrics NOOP = (operation, hash, bytes, elapsedNanos, error) -> {
+        // 아무것도 기록하지 않음
+    };
+
+    /**
+     * 파일 작업 하나가 끝나면 호출됩니다.
+     * bytes는 해시 코드 생성에서는 읽어들인 바이트 수, 파일 비교에서는 비교를 마친 길이, 삭제에서는 확보한 용량이며, 그 외의 작업에서는 0입니다.
+     * 여러 알고리즘의 해시 코드를 한 번에 계산한 경우에는 알고리즘마다 한 번씩 호출됩니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param operation 작업 종류
+     * @param hash 해시 코드 생성 및 비교에 사용한 알고리즘 (사용하지 않았으면 null)
+     * @param bytes 처리한 바이트 수
+     * @param elapsedNanos 소요 시간 (nanosecond)
+     * @param error 작업 도중에 발생한 오류 (성공했으면 null)
+     */
+    void record(@NonNull EFileOperation operation, EHash hash, long bytes, long elapsedNanos, Throwable error);
+
+    /**
+     * 여러 구현체에 차례대로 전달하는 [FileMetrics] 객체를 생성합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param metrics 전달받을 [FileMetrics] 객체 목록
+     * @return 모든 구현체에 전달하는 [FileMetrics] 객체
+     */
+    @NonNull static FileMetrics compose(@NonNull FileMetrics... metrics) {
+        FileMetrics[] targets = metrics.clone();
+        return (operation, hash, bytes, elapsedNanos, error) -> {
+            for (FileMetrics target : targets) {
+                target.record(operation, hash, bytes, elapsedNanos, error);
+            }
+        };
+    }
+}
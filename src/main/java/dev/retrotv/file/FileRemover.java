@@ -0,0 +1,226 @@
+package dev.retrotv.file;
+
+import dev.retrotv.file.ExtendedFile.EErrorPolicy;
+import dev.retrotv.file.ExtendedFile.EFileOperation;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 디렉터리를 재귀적으로 삭제하는 클래스 입니다.
+ * 하위 디렉터리마다 작업을 나누어 [ForkJoinPool]에서 병렬로 삭제하거나 호출한 스레드에서 순서대로 삭제하며,
+ * 디렉터리는 내부 항목을 모두 삭제한 후에 삭제합니다.
+ * 항목의 속성은 디렉터리 목록을 읽을 때 한 번만 읽어들이며, 심볼릭 링크는 따라가지 않고 링크 자체를 삭제합니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+final class FileRemover {
+    private final EErrorPolicy policy;
+    private final LongAdder deletedFiles = new LongAdder();
+    private final LongAdder deletedDirectories = new LongAdder();
+    private final LongAdder bytesFreed = new LongAdder();
+    private final Map<Path, IOException> failures = new ConcurrentHashMap<>();
+    private final AtomicBoolean stopped = new AtomicBoolean();
+    private final AtomicBoolean interrupted = new AtomicBoolean();
+    private final BooleanSupplier cancelled;
+    private final boolean parallel;
+
+    private FileRemover(@NonNull EErrorPolicy policy, @NonNull BooleanSupplier cancelled, boolean parallel) {
+        this.policy = policy;
+        this.cancelled = cancelled;
+        this.parallel = parallel;
+    }
+
+    /**
+     * 경로를 재귀적으로 삭제합니다. 경로가 파일이면 해당 파일만 삭제합니다.
+     *
+     * @param root 삭제할 경로
+     * @param policy 오류 발생 시 처리 방식
+     * @param pool 삭제에 사용할 [ForkJoinPool]
+     * @return 삭제 결과
+     */
+    @NonNull static DeleteResult remove(@NonNull Path root, @NonNull EErrorPolicy policy, @NonNull ForkJoinPool pool) {
+        return remove(root, policy, pool, () -> false);
+    }
+
+    /**
+     * 경로를 재귀적으로 삭제하며, cancelled가 true를 반환하면 남은 항목을 삭제하지 않고 중단합니다.
+     *
+     * @param root 삭제할 경로
+     * @param policy 오류 발생 시 처리 방식
+     * @param pool 삭제에 사용할 [ForkJoinPool]
+     * @param cancelled 삭제가 취소되었는지 여부를 반환하는 [BooleanSupplier] 객체
+     * @return 중단된 시점까지의 삭제 결과 (취소로 인해 삭제하지 않은 항목이 남았다면 [DeleteResult#isCancelled()]가 true)
+     */
+    @NonNull static DeleteResult remove(@NonNull Path root, @NonNull EErrorPolicy policy, @NonNull ForkJoinPool pool,
+                                        @NonNull BooleanSupplier cancelled) {
+        return remove(root, policy, cancelled, pool);
+    }
+
+    /**
+     * 경로를 호출한 스레드에서 순서대로 재귀적으로 삭제하며, cancelled가 true를 반환하면 남은 항목을 삭제하지 않고 중단합니다.
+     * 호출한 [java.util.concurrent.Executor]의 스레드 밖에서 작업을 실행하지 않아야 할 때 사용합니다.
+     *
+     * @param root 삭제할 경로
+     * @param policy 오류 발생 시 처리 방식
+     * @param cancelled 삭제가 취소되었는지 여부를 반환하는 [BooleanSupplier] 객체
+     * @return 중단된 시점까지의 삭제 결과 (취소로 인해 삭제하지 않은 항목이 남았다면 [DeleteResult#isCancelled()]가 true)
+     */
+    @NonNull static DeleteResult removeSequentially(@NonNull Path root, @NonNull EErrorPolicy policy, @NonNull BooleanSupplier cancelled) {
+        return remove(root, policy, cancelled, null);
+    }
+
+    // 경로를 재귀적으로 삭제 (pool이 null이면 호출한 스레드에서 순서대로 삭제)
+    @NonNull private static DeleteResult remove(@NonNull Path root, @NonNull EErrorPolicy policy, @NonNull BooleanSupplier cancelled,
+                                                ForkJoinPool pool) {
+        Instrumentation.Span span = Instrumentation.start(EFileOperation.DELETE);
+        FileRemover remover = new FileRemover(policy, cancelled, pool != null);
+
+        BasicFileAttributes attributes = remover.readAttributes(root);
+        if (attributes != null) {
+            if (attributes.isDirectory()) {
+                RemoveTask task = remover.new RemoveTask(root);
+                if (pool != null) {
+                    pool.invoke(task);
+                } else {
+                    task.compute();
+                }
+            } else {
+                remover.deleteFile(root, attributes);
+            }
+        }
+
+        DeleteResult result = remover.result();
+        IOException error = result.getFailures().isEmpty() ? null : result.getFailures().values().iterator().next();
+        span.end(root, null, result.getBytesFreed(), result.getDeletedFiles() + result.getDeletedDirectories(), error);
+
+        return result;
+    }
+
+    // 심볼릭 링크를 따라가지 않고 항목의 속성을 읽어들임 (읽을 수 없으면 실패로 기록하고 null 반환)
+    private BasicFileAttributes readAttributes(@NonNull Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (IOException e) {
+            fail(path, e);
+            return null;
+        }
+    }
+
+    // 파일 혹은 심볼릭 링크를 삭제
+    private void deleteFile(@NonNull Path file, @NonNull BasicFileAttributes attributes) {
+        if (isStopped()) {
+            return;
+        }
+
+        try {
+            Files.delete(file);
+            deletedFiles.increment();
+            if (attributes.isRegularFile()) {
+                bytesFreed.add(attributes.size());
+            }
+        } catch (IOException e) {
+            fail(file, e);
+        }
+    }
+
+    // 오류 혹은 취소로 인해 남은 작업을 중단해야 하는지 여부 (취소로 중단하면 결과에 취소 여부를 기록)
+    private boolean isStopped() {
+        if (stopped.get()) {
+            return true;
+        }
+
+        if (cancelled.getAsBoolean()) {
+            interrupted.set(true);
+            return true;
+        }
+
+        return false;
+    }
+
+    // 삭제 실패를 기록하고, FAIL_FAST 정책이면 남은 작업을 중단
+    private void fail(@NonNull Path path, @NonNull IOException e) {
+        failures.put(path, e);
+        if (policy == EErrorPolicy.FAIL_FAST) {
+            stopped.set(true);
+        }
+    }
+
+    // 현재까지의 삭제 결과를 반환
+    @NonNull private DeleteResult result() {
+        return new DeleteResult(deletedFiles.sum(), deletedDirectories.sum(), bytesFreed.sum(), new LinkedHashMap<>(failures), interrupted.get());
+    }
+
+    // 하나의 디렉터리를 삭제하는 작업
+    private final class RemoveTask extends RecursiveAction {
+        private final transient Path directory;
+
+        private RemoveTask(@NonNull Path directory) {
+            this.directory = directory;
+        }
+
+        @Override
+        protected void compute() {
+            List<RemoveTask> tasks = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                for (Path child : stream) {
+                    if (isStopped()) {
+                        break;
+                    }
+
+                    BasicFileAttributes attributes = readAttributes(child);
+                    if (attributes == null) {
+                        continue;
+                    }
+
+                    if (attributes.isDirectory() && parallel) {
+                        RemoveTask task = new RemoveTask(child);
+                        task.fork();
+                        tasks.add(task);
+                    } else if (attributes.isDirectory()) {
+                        new RemoveTask(child).compute();
+                    } else {
+                        deleteFile(child, attributes);
+                    }
+                }
+            } catch (IOException e) {
+                fail(directory, e);
+            } catch (DirectoryIteratorException e) {
+                fail(directory, e.getCause());
+            }
+
+            for (RemoveTask task : tasks) {
+                task.join();
+            }
+
+            if (isStopped()) {
+                return;
+            }
+
+            try {
+                Files.delete(directory);
+                deletedDirectories.increment();
+            } catch (IOException e) {
+                fail(directory, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package dev.retrotv.file;
+
+import lombok.NonNull;
+
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * 특정 시점에 읽어들인 파일 및 디렉터리의 기본 속성(크기, 수정 시각, 유형, 파일 키)을 담는 클래스 입니다.
+ * 탐색 도중에 읽어들인 속성을 보관해서, 같은 속성을 다시 읽어들이지 않기 위해 사용합니다.
+ * 읽어들인 이후의 변경 사항은 반영되지 않습니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+public final class FileSnapshot {
+    private final long size;
+    private final long lastModified;
+    private final boolean directory;
+    private final boolean regularFile;
+    private final boolean symbolicLink;
+    private final boolean other;
+    private final Object fileKey;
+
+    private FileSnapshot(@NonNull BasicFileAttributes attributes) {
+        this.size = attributes.size();
+        this.lastModified = attributes.lastModifiedTime().toMillis();
+        this.directory = attributes.isDirectory();
+        this.regularFile = attributes.isRegularFile();
+        this.symbolicLink = attributes.isSymbolicLink();
+        this.other = attributes.isOther();
+        this.fileKey = attributes.fileKey();
+    }
+
+    /**
+     * [BasicFileAttributes]의 내용으로 [FileSnapshot] 객체를 생성합니다.
+     *
+     * @param attributes 파일 속성
+     * @return [FileSnapshot] 객체
+     */
+    @NonNull static FileSnapshot of(@NonNull BasicFileAttributes attributes) {
+        return new FileSnapshot(attributes);
+    }
+
+    /**
+     * 파일의 크기를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 파일의 크기 (byte)
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * 파일의 마지막 수정 시각을 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 마지막 수정 시각 (epoch milliseconds)
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * 디렉터리인지 여부를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 디렉터리인지 여부
+     */
+    public boolean isDirectory() {
+        return directory;
+    }
+
+    /**
+     * 일반 파일인지 여부를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 일반 파일인지 여부
+     */
+    public boolean isRegularFile() {
+        return regularFile;
+    }
+
+    /**
+     * 심볼릭 링크인지 여부를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 심볼릭 링크인지 여부
+     */
+    public boolean isSymbolicLink() {
+        return symbolicLink;
+    }
+
+    /**
+     * 파일, 디렉터리, 심볼릭 링크가 아닌 항목인지 여부를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 기타 항목인지 여부
+     */
+    public boolean isOther() {
+        return other;
+    }
+
+    /**
+     * 파일을 고유하게 식별하는 키(EX: Unix의 device와 inode)를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 파일 키 (파일 시스템이 지원하지 않으면 null)
+     */
+    public Object getFileKey() {
+        return fileKey;
+    }
+
+    @Override
+    public String toString() {
+        return "FileSnapshot{size=" + size + ", lastModified=" + lastModified + ", directory=" + directory
+             + ", regularFile=" + regularFile + ", symbolicLink=" + symbolicLink + ", other=" + other
+             + ", fileKey=" + fileKey + "}";
+    }
+}
@@ -0,0 +1,351 @@
+package dev.retrotv.file;
+
+import dev.retrotv.file.ExtendedFile.EFileOperation;
+
+import lombok.NonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 디렉터리 트리를 탐색하는 클래스 입니다.
+ * 각 항목의 속성은 한 번만 읽어들이며, 탐색 결과는 디렉터리 내부 항목 다음에 디렉터리가 오는 순서로 반환합니다.
+ * 반환하는 [ExtendedFile] 객체에는 탐색 도중에 읽어들인 속성([FileSnapshot])이 담겨 있습니다.
+ * 탐색 조건([WalkOptions])은 속성을 읽어들인 직후 평가하므로, 조건에 맞지 않는 항목은 객체를 생성하지 않고 제외한 디렉터리는 내부를 탐색하지 않습니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+final class FileWalker {
+
+    private FileWalker() {
+        throw new UnsupportedOperationException("인스턴스를 생성할 수 없는 클래스입니다.");
+    }
+
+    /**
+     * 한 스레드에서 순차적으로 탐색해서, 결과를 리스트로 반환합니다.
+     *
+     * @param root 탐색을 시작할 경로
+     * @param options 탐색 조건
+     * @return 경로 내부에서 조건에 맞는 파일 및 디렉터리를 포함하는 리스트
+     */
+    @NonNull static List<ExtendedFile> walk(@NonNull Path root, @NonNull WalkOptions options) {
+        Instrumentation.Span span = Instrumentation.start(EFileOperation.WALK);
+        List<ExtendedFile> result = new ArrayList<>();
+        try (WalkIterator iterator = new WalkIterator(root.toAbsolutePath(), options)) {
+            iterator.forEachRemaining(result::add);
+        } catch (RuntimeException | Error e) {
+            span.end(root, null, 0, result.size(), e);
+            throw e;
+        }
+
+        span.end(root, null, 0, result.size(), null);
+        return result;
+    }
+
+    /**
+     * [ForkJoinPool]을 이용해 하위 디렉터리를 병렬로 탐색합니다.
+     * 하위 디렉터리마다 작업을 나누어 탐색하고, 모든 작업이 끝난 뒤 각 작업의 결과를 디렉터리 목록 순서대로 한 번만 이어붙이므로
+     * 결과의 순서는 순차 탐색과 같고 각 항목은 트리의 깊이와 관계없이 한 번만 복사됩니다.
+     *
+     * @param root 탐색을 시작할 경로
+     * @param options 탐색 조건
+     * @param pool 탐색에 사용할 [ForkJoinPool]
+     * @return 경로 내부에서 조건에 맞는 파일 및 디렉터리를 포함하는 리스트
+     */
+    @NonNull static List<ExtendedFile> walkParallel(@NonNull Path root, @NonNull WalkOptions options, @NonNull ForkJoinPool pool) {
+        Instrumentation.Span span = Instrumentation.start(EFileOperation.WALK);
+        List<ExtendedFile> result;
+        try {
+            result = walkTree(root, options, pool);
+        } catch (RuntimeException | Error e) {
+            span.end(root, null, 0, 0, e);
+            throw e;
+        }
+        span.end(root, null, 0, result.size(), null);
+
+        return result;
+    }
+
+    // 경로가 디렉터리이면 ForkJoinPool에서 병렬로 탐색하고, 파일이면 해당 파일만 반환
+    @NonNull private static List<ExtendedFile> walkTree(@NonNull Path root, @NonNull WalkOptions options, @NonNull ForkJoinPool pool) {
+        Path absoluteRoot = root.toAbsolutePath();
+        BasicFileAttributes attributes = readAttributes(absoluteRoot);
+        if (attributes == null) {
+            return new ArrayList<>();
+        }
+
+        if (!attributes.isDirectory()) {
+            List<ExtendedFile> result = new ArrayList<>();
+            if (attributes.isRegularFile() && options.accepts(absoluteRoot, absoluteRoot, attributes)) {
+                result.add(entry(absoluteRoot, attributes));
+            }
+
+            return result;
+        }
+
+        List<ExtendedFile> result = new ArrayList<>();
+        flatten(pool.invoke(new WalkTask(absoluteRoot, absoluteRoot, attributes, options, 0)), result);
+
+        return result;
+    }
+
+    // WalkTask가 반환한 항목 목록을 디렉터리 목록 순서대로 펼쳐서 result에 추가 (하위 작업은 이미 완료된 상태)
+    private static void flatten(@NonNull List<Object> slots, @NonNull List<ExtendedFile> result) {
+        for (Object slot : slots) {
+            if (slot instanceof WalkTask) {
+                flatten(((WalkTask) slot).getRawResult(), result);
+            } else {
+                result.add((ExtendedFile) slot);
+            }
+        }
+    }
+
+    /**
+     * 디렉터리를 읽어들이는 대로 항목을 반환하는 [Stream]을 생성합니다.
+     * 탐색 중인 경로의 디렉터리만 열어두므로, 사용하는 메모리는 항목 개수가 아닌 트리의 깊이에 비례합니다.
+     * 열려 있는 디렉터리는 [Stream]을 닫을 때 함께 닫힙니다.
+     *
+     * @param root 탐색을 시작할 경로
+     * @param options 탐색 조건
+     * @return 경로 내부에서 조건에 맞는 파일 및 디렉터리를 반환하는 [Stream]
+     */
+    @NonNull static Stream<ExtendedFile> stream(@NonNull Path root, @NonNull WalkOptions options) {
+        WalkIterator iterator = new WalkIterator(root.toAbsolutePath(), options);
+        Spliterator<ExtendedFile> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL);
+
+        return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+    }
+
+    // 탐색 도중에 읽어들인 속성을 담은 ExtendedFile 객체를 생성
+    @NonNull static ExtendedFile entry(@NonNull Path path, @NonNull BasicFileAttributes attributes) {
+        return new ExtendedFile(path.toString(), FileSnapshot.of(attributes));
+    }
+
+    // 항목의 속성을 읽어들임 (존재하지 않거나 읽을 수 없으면 null)
+    static BasicFileAttributes readAttributes(@NonNull Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException | SecurityException e) {
+            return null;
+        }
+    }
+
+    // 하나의 디렉터리를 탐색하는 작업 (결과는 ExtendedFile과 완료된 하위 WalkTask를 디렉터리 목록 순서대로 담은 리스트)
+    private static final class WalkTask extends RecursiveTask<List<Object>> {
+        private final transient Path root;
+        private final transient Path directory;
+        private final transient BasicFileAttributes attributes;
+        private final transient WalkOptions options;
+        private final int depth;
+
+        private WalkTask(@NonNull Path root, @NonNull Path directory, @NonNull BasicFileAttributes attributes, @NonNull WalkOptions options, int depth) {
+            this.root = root;
+            this.directory = directory;
+            this.attributes = attributes;
+            this.options = options;
+            this.depth = depth;
+        }
+
+        @Override
+        protected List<Object> compute() {
+            int childDepth = depth + 1;
+            int maxDepth = options.getMaxDepth();
+            if (maxDepth != -1 && childDepth > maxDepth) {
+                return options.isIncludeDirectories() ? Collections.singletonList(entry(directory, attributes)) : Collections.emptyList();
+            }
+
+            // 파일은 ExtendedFile, 하위 디렉터리는 WalkTask로 디렉터리 목록 순서대로 보관
+            List<Object> slots = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                for (Path child : stream) {
+                    BasicFileAttributes childAttributes = readAttributes(child);
+                    if (childAttributes == null) {
+                        continue;
+                    }
+
+                    if (childAttributes.isDirectory()) {
+                        if (options.prunes(child)) {
+                            continue;
+                        }
+
+                        WalkTask task = new WalkTask(root, child, childAttributes, options, childDepth);
+                        task.fork();
+                        slots.add(task);
+                    } else if (childAttributes.isRegularFile() && options.accepts(root, child, childAttributes)) {
+                        slots.add(entry(child, childAttributes));
+                    }
+                }
+            } catch (IOException | DirectoryIteratorException | SecurityException e) {
+                // 목록을 읽을 수 없는 디렉터리는 그때까지 읽어들인 항목과 디렉터리 자신만 반환
+            }
+
+            // 하위 작업의 결과는 복사하지 않고 완료만 기다린 뒤, 최상위에서 한 번만 펼침
+            for (Object slot : slots) {
+                if (slot instanceof WalkTask) {
+                    ((WalkTask) slot).join();
+                }
+            }
+
+            if (options.isIncludeDirectories()) {
+                slots.add(entry(directory, attributes));
+            }
+
+            return slots;
+        }
+    }
+
+    // 탐색 중인 경로의 디렉터리만 열어둔 채로, 디렉터리 내부 항목 다음에 디렉터리를 반환하는 반복자
+    private static final class WalkIterator implements Iterator<ExtendedFile>, Closeable {
+        private final Path root;
+        private final WalkOptions options;
+        private final Deque<Frame> frames = new ArrayDeque<>();
+        private ExtendedFile next;
+
+        private WalkIterator(@NonNull Path root, @NonNull WalkOptions options) {
+            this.root = root;
+            this.options = options;
+
+            BasicFileAttributes attributes = readAttributes(root);
+            if (attributes == null) {
+                return;
+            }
+
+            if (attributes.isDirectory()) {
+                frames.push(open(root, attributes, 0));
+            } else if (attributes.isRegularFile() && options.accepts(root, root, attributes)) {
+                next = entry(root, attributes);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+
+            return next != null;
+        }
+
+        @Override
+        public ExtendedFile next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            ExtendedFile result = next;
+            next = null;
+            return result;
+        }
+
+        @Override
+        public void close() {
+            while (!frames.isEmpty()) {
+                frames.pop().close();
+            }
+        }
+
+        // 다음 항목을 찾아서 반환 (더 이상 없으면 null)
+        private ExtendedFile advance() {
+            while (!frames.isEmpty()) {
+                Frame frame = frames.peek();
+                Path child = frame.nextChild();
+
+                if (child == null) {
+                    frames.pop().close();
+                    if (options.isIncludeDirectories()) {
+                        return entry(frame.directory, frame.attributes);
+                    }
+
+                    continue;
+                }
+
+                BasicFileAttributes attributes = readAttributes(child);
+                if (attributes == null) {
+                    continue;
+                }
+
+                if (attributes.isDirectory()) {
+                    if (!options.prunes(child)) {
+                        frames.push(open(child, attributes, frame.depth + 1));
+                    }
+                } else if (attributes.isRegularFile() && options.accepts(root, child, attributes)) {
+                    return entry(child, attributes);
+                }
+            }
+
+            return null;
+        }
+
+        // 디렉터리를 열어서 탐색 상태를 생성 (깊이 제한에 걸리거나 열 수 없으면 하위 항목 없이 생성)
+        @NonNull private Frame open(@NonNull Path directory, @NonNull BasicFileAttributes attributes, int depth) {
+            int maxDepth = options.getMaxDepth();
+            if (maxDepth != -1 && depth + 1 > maxDepth) {
+                return new Frame(directory, attributes, depth, null);
+            }
+
+            try {
+                return new Frame(directory, attributes, depth, Files.newDirectoryStream(directory));
+            } catch (IOException | SecurityException e) {
+                return new Frame(directory, attributes, depth, null);
+            }
+        }
+    }
+
+    // 탐색 중인 디렉터리 하나의 상태
+    private static final class Frame implements Closeable {
+        private final Path directory;
+        private final BasicFileAttributes attributes;
+        private final int depth;
+        private final DirectoryStream<Path> stream;
+        private final Iterator<Path> children;
+
+        private Frame(@NonNull Path directory, @NonNull BasicFileAttributes attributes, int depth, DirectoryStream<Path> stream) {
+            this.directory = directory;
+            this.attributes = attributes;
+            this.depth = depth;
+            this.stream = stream;
+            this.children = stream == null ? null : stream.iterator();
+        }
+
+        // 다음 하위 항목을 반환 (더 이상 없거나 읽을 수 없으면 null)
+        private Path nextChild() {
+            try {
+                return children != null && children.hasNext() ? children.next() : null;
+            } catch (DirectoryIteratorException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (stream == null) {
+                return;
+            }
+
+            try {
+                stream.close();
+            } catch (IOException e) {
+                // 닫는 과정의 오류는 탐색 결과에 영향이 없으므로 무시
+            }
+        }
+    }
+}
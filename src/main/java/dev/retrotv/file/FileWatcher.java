@@ -0,0 +1,443 @@
+package dev.retrotv.file;
+
+import dev.retrotv.file.ExtendedFile.EFileChange;
+
+import lombok.NonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 디렉터리 트리의 변경을 [WatchService]로 감시해서 [FileChangeListener]에 전달하는 클래스 입니다.
+ * 트리 내부의 모든 디렉터리를 감시 대상으로 등록하며, 새로 생성된 디렉터리도 등록한 다음 그 내부 항목을 생성으로 전달합니다.
+ *
+ * 같은 경로의 변경은 debounce 시간 동안 더 이상 변경이 없을 때까지 모았다가 한 번만 전달합니다.
+ * (EX: 생성 후 변경은 생성, 생성 후 삭제는 전달하지 않음, 삭제 후 생성은 변경)
+ * 변경이 계속되는 경로도 처음 변경으로부터 debounce 시간의 10배가 지나면 모은 변경을 전달합니다.
+ * 운영체제가 변경을 모두 전달하지 못했다고 알리면(OVERFLOW), 해당 디렉터리만 다시 읽어들여 알고 있던 하위 항목의 속성과 비교합니다.
+ * 심볼릭 링크는 따라가지 않고 파일로 취급합니다.
+ *
+ * 감시는 데몬 스레드 하나에서 수행하며, [#close()] 메서드로 중단합니다. 중단할 때 아직 전달하지 않은 변경은 버립니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+public final class FileWatcher implements Closeable {
+
+    // 기본 debounce 시간 (millisecond)
+    static final long DEBOUNCE_MILLIS = 100;
+
+    // 변경이 계속되는 경로의 변경을 모으는 최대 시간 (debounce 시간의 배수)
+    static final int MAX_DELAY_FACTOR = 10;
+
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    private final Path root;
+    private final long debounceNanos;
+    private final long maxDelayNanos;
+    private final FileChangeListener listener;
+    private final WatchService service;
+
+    // 감시 중인 디렉터리 (감시 스레드에서만 접근)
+    private final Map<Path, Directory> directories = new HashMap<>();
+
+    // 전달을 기다리는 변경 (감시 스레드에서만 접근)
+    private final Map<Path, Pending> pending = new LinkedHashMap<>();
+
+    private volatile boolean open = true;
+
+    /**
+     * 디렉터리 트리를 감시 대상으로 등록하고, 감시 스레드를 시작합니다.
+     *
+     * @param root 감시할 디렉터리
+     * @param debounceMillis 같은 경로의 변경을 모으는 시간 (millisecond)
+     * @param listener 변경을 전달받을 [FileChangeListener] 객체
+     * @throws IOException root가 디렉터리가 아니거나, 감시 대상으로 등록하는 과정에서 오류가 발생하면 던져짐
+     * @throws IllegalArgumentException debounceMillis가 0보다 작으면 던져짐
+     */
+    FileWatcher(@NonNull Path root, long debounceMillis, @NonNull FileChangeListener listener) throws IOException {
+        if (debounceMillis < 0) {
+            throw new IllegalArgumentException("debounce 시간은 0 이상이어야 합니다: " + debounceMillis);
+        }
+
+        this.root = root.toAbsolutePath();
+        this.debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+        this.maxDelayNanos = debounceNanos * MAX_DELAY_FACTOR;
+        this.listener = listener;
+
+        if (!Files.isDirectory(this.root, LinkOption.NOFOLLOW_LINKS)) {
+            throw new NotDirectoryException(this.root.toString());
+        }
+
+        this.service = this.root.getFileSystem().newWatchService();
+        try {
+            register(this.root);
+            registerTree(this.root, false);
+        } catch (IOException | RuntimeException e) {
+            service.close();
+            throw e;
+        }
+
+        Thread thread = new Thread(this::run, "extended-file-watcher-" + THREAD_NUMBER.incrementAndGet());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 감시 중인 디렉터리를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 감시 중인 디렉터리
+     */
+    @NonNull public ExtendedFile getRoot() {
+        return new ExtendedFile(root.toString());
+    }
+
+    /**
+     * 감시 중인지 여부를 반환합니다.
+     * 감시 중인 디렉터리가 삭제되면 감시를 중단합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 감시 여부
+     */
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * 감시를 중단합니다. 이미 중단했으면 아무것도 하지 않습니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @throws IOException [WatchService]를 닫는 과정에서 오류가 발생하면 던져짐
+     */
+    @Override
+    public void close() throws IOException {
+        open = false;
+        service.close();
+    }
+
+    // 변경을 기다렸다가 처리하고, debounce 시간이 지난 변경을 전달 (닫히면 종료)
+    private void run() {
+        try {
+            while (open) {
+                WatchKey key = pending.isEmpty() ? service.take() : service.poll(waitNanos(), TimeUnit.NANOSECONDS);
+                if (key != null) {
+                    process(key);
+                }
+
+                flush(false);
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // 감시를 중단
+        } finally {
+            open = false;
+            try {
+                service.close();
+            } catch (IOException e) {
+                // 닫는 과정의 오류는 무시
+            }
+        }
+    }
+
+    // 감시 대상 디렉터리 하나에서 발생한 변경을 처리
+    private void process(@NonNull WatchKey key) {
+        Path path = (Path) key.watchable();
+        Directory directory = directories.get(path);
+        if (directory == null || directory.key != key) {
+            // 이미 삭제되어 다시 등록한 디렉터리의 이전 감시
+            key.cancel();
+            return;
+        }
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            WatchEvent.Kind<?> kind = event.kind();
+            if (kind == StandardWatchEventKinds.OVERFLOW) {
+                rescan(path, directory);
+                continue;
+            }
+
+            Path child = path.resolve((Path) event.context());
+            if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
+                deleted(directory, child);
+            } else {
+                changed(directory, child, snapshot(child), kind == StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+        }
+
+        if (!key.reset()) {
+            directories.remove(path);
+            if (path.equals(root)) {
+                // 감시 중인 디렉터리가 삭제되면 남은 변경을 모두 전달하고 중단
+                flush(true);
+                open = false;
+            }
+        }
+    }
+
+    // 디렉터리를 다시 읽어들여서, 알고 있던 하위 항목의 속성과 비교한 결과를 변경으로 처리 (하위 디렉터리는 다시 읽어들이지 않음)
+    private void rescan(@NonNull Path path, @NonNull Directory directory) {
+        Set<Path> seen = new HashSet<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
+            for (Path child : stream) {
+                FileSnapshot snapshot = snapshot(child);
+                if (snapshot != null) {
+                    seen.add(child);
+                    changed(directory, child, snapshot, false);
+                }
+            }
+        } catch (IOException | DirectoryIteratorException e) {
+            // 디렉터리가 삭제되었으면 상위 디렉터리의 삭제 변경으로 처리됨
+            return;
+        }
+
+        for (Path child : new ArrayList<>(directory.children.keySet())) {
+            if (!seen.contains(child)) {
+                deleted(directory, child);
+            }
+        }
+    }
+
+    // 생성 혹은 변경된 항목을 처리 (modified가 false이면 속성이 바뀐 경우에만 변경으로 처리)
+    private void changed(@NonNull Directory directory, @NonNull Path child, FileSnapshot snapshot, boolean modified) {
+        if (snapshot == null) {
+            // 변경을 처리하기 전에 이미 삭제됨
+            deleted(directory, child);
+            return;
+        }
+
+        FileSnapshot previous = directory.children.get(child);
+        if (previous != null && previous.isDirectory() != snapshot.isDirectory()) {
+            deleted(directory, child);
+            previous = null;
+        }
+
+        directory.children.put(child, snapshot);
+        if (previous == null) {
+            offer(EFileChange.CREATE, child, snapshot);
+            if (snapshot.isDirectory()) {
+                registerNewTree(child);
+            }
+        } else if (!snapshot.isDirectory()
+                && (modified || previous.getSize() != snapshot.getSize() || previous.getLastModified() != snapshot.getLastModified())) {
+            offer(EFileChange.MODIFY, child, snapshot);
+        }
+    }
+
+    // 삭제된 항목을 처리 (디렉터리이면 알고 있던 하위 항목도 모두 삭제로 처리)
+    private void deleted(@NonNull Directory directory, @NonNull Path child) {
+        FileSnapshot previous = directory.children.remove(child);
+        if (previous == null) {
+            return;
+        }
+
+        if (previous.isDirectory()) {
+            Directory removed = directories.remove(child);
+            if (removed != null) {
+                removed.key.cancel();
+                for (Path grandchild : new ArrayList<>(removed.children.keySet())) {
+                    deleted(removed, grandchild);
+                }
+            }
+        }
+
+        offer(EFileChange.DELETE, child, null);
+    }
+
+    // 새로 생성된 디렉터리 트리를 등록하고, 등록하기 전에 생성된 내부 항목을 생성으로 처리
+    private void registerNewTree(@NonNull Path directory) {
+        try {
+            register(directory);
+            registerTree(directory, true);
+        } catch (IOException e) {
+            report(directory, e);
+        }
+    }
+
+    // 이미 등록한 디렉터리 내부의 모든 하위 디렉터리를 등록하고, 하위 항목의 속성을 보관 (emit이 true이면 하위 항목을 생성으로 처리)
+    private void registerTree(@NonNull Path start, boolean emit) {
+        Deque<Path> queue = new ArrayDeque<>();
+        queue.push(start);
+
+        while (!queue.isEmpty()) {
+            Path path = queue.pop();
+            Directory directory = directories.get(path);
+
+            List<Path> subdirectories = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
+                for (Path child : stream) {
+                    FileSnapshot snapshot = snapshot(child);
+                    if (snapshot == null || directory.children.containsKey(child)) {
+                        continue;
+                    }
+
+                    directory.children.put(child, snapshot);
+                    if (emit) {
+                        offer(EFileChange.CREATE, child, snapshot);
+                    }
+
+                    if (snapshot.isDirectory()) {
+                        subdirectories.add(child);
+                    }
+                }
+            } catch (IOException e) {
+                report(path, e);
+            } catch (DirectoryIteratorException e) {
+                report(path, e.getCause());
+            }
+
+            for (Path subdirectory : subdirectories) {
+                try {
+                    register(subdirectory);
+                    queue.push(subdirectory);
+                } catch (IOException e) {
+                    report(subdirectory, e);
+                }
+            }
+        }
+    }
+
+    // 디렉터리를 감시 대상으로 등록
+    private void register(@NonNull Path path) throws IOException {
+        WatchKey key = path.register(service,
+            StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+        directories.put(path, new Directory(key));
+    }
+
+    // 변경을 전달 대기열에 추가하고, 같은 경로의 이전 변경과 합침 (전달 시각은 처음 변경으로부터 최대 시간을 넘기지 않음)
+    private void offer(@NonNull EFileChange change, @NonNull Path path, FileSnapshot snapshot) {
+        long now = System.nanoTime();
+        Pending previous = pending.get(path);
+        if (previous == null) {
+            pending.put(path, new Pending(change, snapshot, now, now + debounceNanos));
+            return;
+        }
+
+        EFileChange merged = merge(previous.change, change);
+        if (merged == null) {
+            pending.remove(path);
+            return;
+        }
+
+        previous.change = merged;
+        previous.snapshot = snapshot;
+        long limit = previous.first + maxDelayNanos;
+        previous.deadline = limit - (now + debounceNanos) < 0 ? limit : now + debounceNanos;
+    }
+
+    // 같은 경로의 연속된 두 변경을 하나로 합침 (아무 변경도 없던 것과 같으면 null)
+    private static EFileChange merge(@NonNull EFileChange previous, @NonNull EFileChange next) {
+        if (next == EFileChange.DELETE) {
+            return previous == EFileChange.CREATE ? null : EFileChange.DELETE;
+        }
+
+        return previous == EFileChange.CREATE ? EFileChange.CREATE : EFileChange.MODIFY;
+    }
+
+    // debounce 시간이 지난 변경을 전달 (all이 true이면 남은 변경을 모두 전달)
+    private void flush(boolean all) {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<Path, Pending>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext() && open) {
+            Map.Entry<Path, Pending> entry = iterator.next();
+            Pending change = entry.getValue();
+            if (!all && change.deadline - now > 0) {
+                continue;
+            }
+
+            iterator.remove();
+            String path = entry.getKey().toString();
+            ExtendedFile file = change.change == EFileChange.DELETE ? new ExtendedFile(path) : new ExtendedFile(path, change.snapshot);
+            try {
+                listener.onChange(change.change, file);
+            } catch (RuntimeException e) {
+                // 전달받는 쪽의 오류가 감시를 중단시키지 않도록 무시
+            }
+        }
+    }
+
+    // 가장 먼저 전달할 변경까지 남은 시간
+    private long waitNanos() {
+        long now = System.nanoTime();
+        long wait = Long.MAX_VALUE;
+        for (Pending change : pending.values()) {
+            wait = Math.min(wait, change.deadline - now);
+        }
+
+        return Math.max(wait, 0);
+    }
+
+    // 오류를 전달 (등록하거나 읽어들이기 전에 삭제된 디렉터리는 무시)
+    private void report(@NonNull Path path, @NonNull IOException e) {
+        if (e instanceof NoSuchFileException) {
+            return;
+        }
+
+        try {
+            listener.onFailure(new ExtendedFile(path.toString()), e);
+        } catch (RuntimeException ignored) {
+            // 전달받는 쪽의 오류가 감시를 중단시키지 않도록 무시
+        }
+    }
+
+    // 심볼릭 링크를 따라가지 않고 속성을 읽어들임 (존재하지 않거나 읽을 수 없으면 null)
+    private static FileSnapshot snapshot(@NonNull Path path) {
+        try {
+            return FileSnapshot.of(Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS));
+        } catch (IOException | SecurityException e) {
+            return null;
+        }
+    }
+
+    // 감시 중인 디렉터리 하나의 상태
+    private static final class Directory {
+        private final WatchKey key;
+        private final Map<Path, FileSnapshot> children = new HashMap<>();
+
+        private Directory(@NonNull WatchKey key) {
+            this.key = key;
+        }
+    }
+
+    // 전달을 기다리는 변경 하나
+    private static final class Pending {
+        private final long first;
+        private EFileChange change;
+        private FileSnapshot snapshot;
+        private long deadline;
+
+        private Pending(@NonNull EFileChange change, FileSnapshot snapshot, long first, long deadline) {
+            this.change = change;
+            this.snapshot = snapshot;
+            this.first = first;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package dev.retrotv.file;
+
+import dev.retrotv.file.ExtendedFile.EFileOperation;
+
+import lombok.NonNull;
+
+import java.nio.file.Path;
+
+/**
+ * 파일 작업의 JFR(Java Flight Recorder) 이벤트를 기록하는 클래스 입니다.
+ * Java 8에서는 아무것도 기록하지 않으며, Java 11 이상에서는 Multi-Release JAR의 META-INF/versions/11 아래에 있는 같은 이름의 클래스가 대신 사용됩니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+final class FlightRecorder {
+
+    private FlightRecorder() {
+        throw new UnsupportedOperationException("인스턴스를 생성할 수 없는 클래스입니다.");
+    }
+
+    /**
+     * 작업의 이벤트를 시작합니다.
+     *
+     * @param operation 작업 종류
+     * @return 시작한 이벤트 (기록하지 않으면 null)
+     */
+    static Object begin(@NonNull EFileOperation operation) {
+        return null;
+    }
+
+    /**
+     * 시작한 이벤트를 끝내고 기록합니다.
+     *
+     * @param event [#begin(EFileOperation)] 메서드가 반환한 이벤트
+     * @param path 작업 대상 경로
+     * @param algorithm 사용한 해시 알고리즘 이름 (사용하지 않았으면 null)
+     * @param bytes 처리한 바이트 수
+     * @param entries 방문한 항목 수
+     * @param error 작업 도중에 발생한 오류 (성공했으면 null)
+     */
+    static void commit(@NonNull Object event, Path path, String algorithm, long bytes, long entries, Throwable error) {
+        // Java 8에서는 기록하지 않음
+    }
+}
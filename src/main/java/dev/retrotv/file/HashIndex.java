@@ -0,0 +1,465 @@
+package dev.retrotv.file;
+
+import dev.retrotv.file.ExtendedFile.EHash;
+
+import lombok.NonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * 파일의 해시 코드를 디스크에 보관하는 색인 클래스 입니다.
+ * 파일의 경로, 크기, 수정 시각, 파일 키(지원하는 파일 시스템에 한함)가 모두 같으면 보관 중인 해시 코드를 사용하므로,
+ * 바뀌지 않은 파일은 다시 읽어들이지 않습니다.
+ * 색인 파일은 한 줄에 하나의 해시 코드를 기록하는 텍스트 파일이며, 새로운 해시 코드는 파일 끝에 추가됩니다.
+ * 줄마다 CRC32 체크섬을 함께 기록하므로, 기록 도중에 중단되어 손상된 줄은 다음에 읽어들일 때 무시됩니다.
+ * 바뀐 파일의 이전 기록과 삭제된 파일의 기록은 파일에 남아 있으므로, 주기적으로 [#compact()] 메서드를 호출해서 정리해야 합니다.
+ * 여러 스레드에서 동시에 사용할 수 있지만, 하나의 색인 파일을 여러 프로세스에서 동시에 사용할 수는 없습니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+public final class HashIndex implements Closeable {
+
+    // 한 줄의 항목 구분자
+    private static final char SEPARATOR = '\t';
+
+    // 체크섬을 제외한 항목 개수 (경로, 크기, 수정 시각, 파일 키, 알고리즘, 해시 코드)
+    private static final int FIELDS = 6;
+
+    private final Path file;
+    private final Map<String, Record> records = new HashMap<>();
+    private Writer writer;
+    private long lines;
+
+    private HashIndex(@NonNull Path file) {
+        this.file = file;
+    }
+
+    /**
+     * 색인 파일을 열어서 [HashIndex] 객체를 생성합니다.
+     * 색인 파일이 없으면 새로 생성하며, 손상된 줄은 무시합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param file 색인 파일 경로
+     * @return [HashIndex] 객체
+     * @throws IOException 색인 파일을 읽어들이거나 생성하는 과정에서 오류가 발생하면 던져짐
+     */
+    @NonNull public static HashIndex open(@NonNull Path file) throws IOException {
+        HashIndex index = new HashIndex(file.toAbsolutePath());
+        index.load();
+        index.writer = index.newWriter();
+
+        return index;
+    }
+
+    /**
+     * 색인 파일 경로를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 색인 파일 경로
+     */
+    @NonNull public Path getFile() {
+        return file;
+    }
+
+    /**
+     * 보관 중인 파일 개수를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 보관 중인 파일 개수
+     */
+    public synchronized int size() {
+        return records.size();
+    }
+
+    /**
+     * 색인 파일에 남아 있는, 더 이상 사용하지 않는 기록의 개수를 반환합니다.
+     * 이 값이 커지면 [#compact()] 메서드로 정리할 수 있습니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 사용하지 않는 기록의 개수
+     */
+    public synchronized long getObsoleteCount() {
+        long live = 0;
+        for (Record record : records.values()) {
+            live += record.count();
+        }
+
+        return lines - live;
+    }
+
+    /**
+     * 사용 중인 기록만 임시 파일에 다시 기록한 다음, 색인 파일을 임시 파일로 교체합니다.
+     * 더 이상 존재하지 않는 파일의 기록은 버립니다.
+     * 교체는 가능하면 원자적으로 이루어지므로, 도중에 중단되어도 기존 색인 파일은 손상되지 않습니다.
+     * 교체한 다음 색인 파일을 다시 열지 못하면, 이 객체는 닫힌 상태가 됩니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @throws IOException 색인 파일을 기록하는 과정에서 오류가 발생하면 던져짐
+     */
+    public synchronized void compact() throws IOException {
+        ensureOpen();
+
+        Path temporary = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            long written = 0;
+            List<String> missing = new ArrayList<>();
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                Writer temporaryWriter = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8));
+                for (Map.Entry<String, Record> entry : records.entrySet()) {
+                    // 존재 여부를 확인할 수 없는 파일의 기록은 남겨둠
+                    if (Files.notExists(Paths.get(entry.getKey()))) {
+                        missing.add(entry.getKey());
+                        continue;
+                    }
+
+                    Record record = entry.getValue();
+                    for (EHash hash : EHash.values()) {
+                        String value = record.hashes[hash.ordinal()];
+                        if (value != null) {
+                            temporaryWriter.write(line(entry.getKey(), record, hash, value));
+                            written++;
+                        }
+                    }
+                }
+
+                temporaryWriter.flush();
+                channel.force(true);
+            }
+
+            replace(temporary);
+            records.keySet().removeAll(missing);
+            lines = written;
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * 색인 파일을 닫습니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @throws IOException 색인 파일을 닫는 과정에서 오류가 발생하면 던져짐
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    /**
+     * 파일의 속성이 보관 중인 속성과 모두 같으면, 보관 중인 해시 코드를 반환합니다.
+     *
+     * @param path 파일 경로
+     * @param attributes 파일 속성
+     * @param hash 파일 해시 알고리즘
+     * @return 보관 중인 해시 코드 (없거나 파일이 바뀌었으면 null)
+     */
+    synchronized String get(@NonNull Path path, @NonNull FileSnapshot attributes, @NonNull EHash hash) {
+        Record record = records.get(key(path));
+        if (record == null || !record.matches(attributes)) {
+            return null;
+        }
+
+        return record.hashes[hash.ordinal()];
+    }
+
+    /**
+     * 파일의 해시 코드를 보관하고, 색인 파일에 기록합니다.
+     *
+     * @param path 파일 경로
+     * @param attributes 해시 코드를 계산하기 전에 읽어들인 파일 속성
+     * @param hash 파일 해시 알고리즘
+     * @param value 파일의 해시 코드
+     * @throws IOException 색인 파일에 기록하는 과정에서 오류가 발생하면 던져짐
+     */
+    synchronized void put(@NonNull Path path, @NonNull FileSnapshot attributes, @NonNull EHash hash, @NonNull String value) throws IOException {
+        ensureOpen();
+
+        String key = key(path);
+        Record record = records.get(key);
+        if (record != null && record.matches(attributes) && value.equals(record.hashes[hash.ordinal()])) {
+            return;
+        }
+
+        record = apply(key, attributes.getSize(), attributes.getLastModified(), fileKey(attributes.getFileKey()), hash, value);
+        writer.write(line(key, record, hash, value));
+        writer.flush();
+        lines++;
+    }
+
+    // 색인 파일을 읽어들임 (손상된 줄은 무시)
+    private void load() throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        // 기록 도중에 끊긴 문자는 오류 대신 대체 문자로 읽어들이고, 체크섬 검사에서 걸러냄
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines++;
+                parse(line);
+            }
+        }
+    }
+
+    // 한 줄을 해석해서 보관 (체크섬이 맞지 않거나 형식이 잘못된 줄은 무시)
+    private void parse(@NonNull String line) {
+        int checksumEnd = line.indexOf(SEPARATOR);
+        if (checksumEnd < 0) {
+            return;
+        }
+
+        String body = line.substring(checksumEnd + 1);
+        String[] fields = split(body);
+        if (fields.length != FIELDS) {
+            return;
+        }
+
+        try {
+            if (Long.parseLong(line.substring(0, checksumEnd), 16) != checksum(body)) {
+                return;
+            }
+
+            String fileKey = fields[3].isEmpty() ? null : unescape(fields[3]);
+            apply(unescape(fields[0]), Long.parseLong(fields[1]), Long.parseLong(fields[2]), fileKey, EHash.valueOf(fields[4]), fields[5]);
+        } catch (IllegalArgumentException e) {
+            // 숫자나 알고리즘 이름이 잘못된 줄은 무시
+        }
+    }
+
+    // 기록을 보관 (파일 속성이 바뀌었으면 이전 해시 코드는 모두 버림)
+    @NonNull private Record apply(@NonNull String key, long size, long lastModified, String fileKey, @NonNull EHash hash, @NonNull String value) {
+        Record record = records.get(key);
+        if (record == null || record.size != size || record.lastModified != lastModified || !Objects.equals(record.fileKey, fileKey)) {
+            record = new Record(size, lastModified, fileKey);
+            records.put(key, record);
+        }
+
+        record.hashes[hash.ordinal()] = value;
+        return record;
+    }
+
+    // 추가용 Writer를 닫고 색인 파일을 임시 파일로 교체한 다음, 다시 엶 (다시 열지 못하면 닫힌 상태로 두고, 교체 도중의 오류를 우선해서 던짐)
+    private void replace(@NonNull Path temporary) throws IOException {
+        IOException failure = null;
+        try {
+            writer.close();
+            try {
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            failure = e;
+        }
+
+        try {
+            writer = newWriter();
+        } catch (IOException e) {
+            writer = null;
+            if (failure == null) {
+                throw e;
+            }
+
+            failure.addSuppressed(e);
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    // 색인 파일 끝에 추가하는 Writer를 생성 (마지막 줄이 중간에 끊겨 있으면 줄을 바꾼 다음에 추가)
+    @NonNull private Writer newWriter() throws IOException {
+        boolean torn = endsWithoutNewline();
+        Writer result = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND), StandardCharsets.UTF_8));
+
+        if (torn) {
+            try {
+                result.write('\n');
+                result.flush();
+            } catch (IOException e) {
+                result.close();
+                throw e;
+            }
+        }
+
+        return result;
+    }
+
+    // 색인 파일의 마지막 줄이 줄바꿈 문자 없이 끝나는지 여부
+    private boolean endsWithoutNewline() throws IOException {
+        if (!Files.exists(file)) {
+            return false;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return false;
+            }
+
+            ByteBuffer last = ByteBuffer.allocate(1);
+            channel.read(last, size - 1);
+            return last.get(0) != '\n';
+        }
+    }
+
+    // 색인 파일이 닫혀 있으면 예외를 던짐
+    private void ensureOpen() throws IOException {
+        if (writer == null) {
+            throw new IOException("이미 닫힌 색인 파일입니다: " + file);
+        }
+    }
+
+    // 하나의 해시 코드를 기록하는 줄을 생성 (체크섬, 경로, 크기, 수정 시각, 파일 키, 알고리즘, 해시 코드)
+    @NonNull private static String line(@NonNull String key, @NonNull Record record, @NonNull EHash hash, @NonNull String value) {
+        String body = escape(key) + SEPARATOR + record.size + SEPARATOR + record.lastModified + SEPARATOR
+                    + (record.fileKey == null ? "" : escape(record.fileKey)) + SEPARATOR + hash.name() + SEPARATOR + value;
+
+        return Long.toHexString(checksum(body)) + SEPARATOR + body + '\n';
+    }
+
+    // 색인에서 사용하는 경로 문자열을 반환
+    @NonNull private static String key(@NonNull Path path) {
+        return path.toAbsolutePath().normalize().toString();
+    }
+
+    // 파일 키를 문자열로 변환 (지원하지 않으면 null)
+    private static String fileKey(Object fileKey) {
+        return fileKey == null ? null : fileKey.toString();
+    }
+
+    // 문자열의 CRC32 체크섬을 계산
+    private static long checksum(@NonNull String body) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(body.getBytes(StandardCharsets.UTF_8));
+
+        return crc32.getValue();
+    }
+
+    // 구분자를 기준으로 문자열을 나눔 (빈 항목도 유지)
+    @NonNull private static String[] split(@NonNull String body) {
+        return body.split(String.valueOf(SEPARATOR), -1);
+    }
+
+    // 구분자와 줄바꿈 문자가 항목에 포함되지 않도록 변환
+    @NonNull private static String escape(@NonNull String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                default:
+                    builder.append(c);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    // escape로 변환한 문자열을 원래대로 되돌림
+    @NonNull private static String unescape(@NonNull String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '\\' || i == value.length() - 1) {
+                builder.append(c);
+                continue;
+            }
+
+            char next = value.charAt(++i);
+            switch (next) {
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                default:
+                    builder.append(next);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    // 하나의 파일에 대한 기록
+    private static final class Record {
+        private final long size;
+        private final long lastModified;
+        private final String fileKey;
+        private final String[] hashes = new String[EHash.values().length];
+
+        private Record(long size, long lastModified, String fileKey) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.fileKey = fileKey;
+        }
+
+        // 파일 속성이 기록과 같은지 여부 (파일 키는 양쪽 모두 있는 경우에만 비교)
+        private boolean matches(@NonNull FileSnapshot attributes) {
+            String otherKey = fileKey(attributes.getFileKey());
+            return size == attributes.getSize() && lastModified == attributes.getLastModified()
+                && (fileKey == null || otherKey == null || fileKey.equals(otherKey));
+        }
+
+        // 보관 중인 해시 코드 개수
+        private int count() {
+            int count = 0;
+            for (String hash : hashes) {
+                if (hash != null) {
+                    count++;
+                }
+            }
+
+            return count;
+        }
+    }
+}
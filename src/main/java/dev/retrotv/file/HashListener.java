@@ -0,0 +1,39 @@
+package dev.retrotv.file;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+
+/**
+ * 여러 파일의 해시 코드를 병렬로 계산할 때, 파일마다 계산이 끝나는 대로 결과를 전달받는 인터페이스 입니다.
+ * 해시 코드를 계산한 스레드에서 호출되므로, 구현체는 스레드 안전해야 합니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+@FunctionalInterface
+public interface HashListener {
+
+    /**
+     * 파일의 해시 코드 계산이 끝나면 호출됩니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param file 해시 코드를 계산한 파일
+     * @param hash 파일의 해시 코드
+     */
+    void onSuccess(@NonNull ExtendedFile file, @NonNull String hash);
+
+    /**
+     * 파일을 읽어들이는 과정에서 오류가 발생하면 호출됩니다.
+     * 기본 구현은 아무것도 하지 않습니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param file 해시 코드를 계산하지 못한 파일
+     * @param e 발생한 오류
+     */
+    default void onFailure(@NonNull ExtendedFile file, @NonNull IOException e) {
+        // 기본 구현은 실패한 파일을 무시함
+    }
+}
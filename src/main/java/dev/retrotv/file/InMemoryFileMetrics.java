@@ -0,0 +1,307 @@
+package dev.retrotv.file;
+
+import dev.retrotv.file.ExtendedFile.EFileOperation;
+import dev.retrotv.file.ExtendedFile.EHash;
+
+import lombok.NonNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 파일 작업의 지표를 메모리에 집계하는 [FileMetrics] 구현체 입니다.
+ * 작업 종류와 해시 알고리즘별로 호출 횟수, 오류 횟수, 처리한 바이트 수, 소요 시간을 집계하며, 소요 시간의 백분위 수를 제공합니다.
+ *
+ * 소요 시간은 2의 거듭제곱 구간을 8개로 나눈 히스토그램에 기록하므로, 백분위 수는 최대 12.5%의 오차를 가진 근사값입니다.
+ * 기록할 때 잠금을 사용하지 않으며, 집계 중에 조회한 [Snapshot]은 일부 기록만 반영되어 있을 수 있습니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+public class InMemoryFileMetrics implements FileMetrics {
+
+    // 2의 거듭제곱 구간 하나를 나누는 하위 구간 수 (2^SUB_BUCKET_BITS)
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    // 이 값보다 작은 소요 시간은 정확한 값으로 기록
+    private static final int LINEAR_BUCKETS = SUB_BUCKETS * 2;
+
+    // 히스토그램의 구간 수 (long 범위의 음이 아닌 값을 모두 표현)
+    private static final int BUCKETS = LINEAR_BUCKETS + (Long.SIZE - 1 - (SUB_BUCKET_BITS + 1)) * SUB_BUCKETS;
+
+    // [작업 종류][해시 알고리즘 순서 + 1] (0은 알고리즘을 사용하지 않은 작업)
+    private final Recorder[][] recorders;
+
+    /**
+     * 비어 있는 InMemoryFileMetrics 객체를 생성합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     */
+    public InMemoryFileMetrics() {
+        EFileOperation[] operations = EFileOperation.values();
+        recorders = new Recorder[operations.length][EHash.values().length + 1];
+
+        for (Recorder[] row : recorders) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = new Recorder();
+            }
+        }
+    }
+
+    @Override
+    public void record(@NonNull EFileOperation operation, EHash hash, long bytes, long elapsedNanos, Throwable error) {
+        recorders[operation.ordinal()][hash == null ? 0 : hash.ordinal() + 1].record(bytes, elapsedNanos, error != null);
+    }
+
+    /**
+     * 작업 종류별 지표를 해시 알고리즘과 관계없이 합산해서 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param operation 작업 종류
+     * @return 집계된 지표
+     */
+    @NonNull public Snapshot getSnapshot(@NonNull EFileOperation operation) {
+        Snapshot snapshot = new Snapshot();
+        for (Recorder recorder : recorders[operation.ordinal()]) {
+            recorder.addTo(snapshot);
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * 작업 종류와 해시 알고리즘별 지표를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param operation 작업 종류
+     * @param hash 해시 알고리즘 (null이면 알고리즘을 사용하지 않은 작업)
+     * @return 집계된 지표
+     */
+    @NonNull public Snapshot getSnapshot(@NonNull EFileOperation operation, EHash hash) {
+        Snapshot snapshot = new Snapshot();
+        recorders[operation.ordinal()][hash == null ? 0 : hash.ordinal() + 1].addTo(snapshot);
+
+        return snapshot;
+    }
+
+    /**
+     * 집계된 지표를 모두 초기화합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     */
+    public void reset() {
+        for (Recorder[] row : recorders) {
+            for (Recorder recorder : row) {
+                recorder.reset();
+            }
+        }
+    }
+
+    // 소요 시간이 속하는 히스토그램 구간
+    static int bucket(long nanos) {
+        if (nanos < LINEAR_BUCKETS) {
+            return (int) Math.max(0, nanos);
+        }
+
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int sub = (int) (nanos >>> shift) & (SUB_BUCKETS - 1);
+
+        return LINEAR_BUCKETS + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKETS + sub;
+    }
+
+    // 히스토그램 구간에 속하는 가장 큰 소요 시간
+    static long bucketUpperBound(int bucket) {
+        if (bucket < LINEAR_BUCKETS) {
+            return bucket;
+        }
+
+        int exponent = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+        int sub = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long upper = ((long) (SUB_BUCKETS + sub + 1) << shift) - 1;
+
+        return upper < 0 ? Long.MAX_VALUE : upper;
+    }
+
+    /**
+     * 집계된 지표를 담는 클래스 입니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     */
+    public static final class Snapshot {
+        private long count;
+        private long errorCount;
+        private long bytes;
+        private long totalNanos;
+        private long maxNanos;
+        private final long[] histogram = new long[BUCKETS];
+
+        private Snapshot() {
+        }
+
+        /**
+         * 호출 횟수를 반환합니다. (오류가 발생한 호출 포함)
+         *
+         * @author yjj8353
+         * @since 1.8.0
+         * @return 호출 횟수
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * 오류가 발생한 호출 횟수를 반환합니다.
+         *
+         * @author yjj8353
+         * @since 1.8.0
+         * @return 오류 횟수
+         */
+        public long getErrorCount() {
+            return errorCount;
+        }
+
+        /**
+         * 처리한 바이트 수의 합계를 반환합니다.
+         *
+         * @author yjj8353
+         * @since 1.8.0
+         * @return 처리한 바이트 수
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * 소요 시간의 합계를 반환합니다.
+         *
+         * @author yjj8353
+         * @since 1.8.0
+         * @return 소요 시간의 합계 (nanosecond)
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * 가장 오래 걸린 호출의 소요 시간을 반환합니다.
+         *
+         * @author yjj8353
+         * @since 1.8.0
+         * @return 최대 소요 시간 (nanosecond, 호출이 없으면 0)
+         */
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * 평균 소요 시간을 반환합니다.
+         *
+         * @author yjj8353
+         * @since 1.8.0
+         * @return 평균 소요 시간 (nanosecond, 호출이 없으면 0)
+         */
+        public double getMeanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * 소요 시간의 백분위 수를 반환합니다.
+         * 히스토그램 구간의 상한을 반환하므로, 실제 값보다 최대 12.5% 클 수 있습니다. (최대 소요 시간을 넘지는 않음)
+         *
+         * @author yjj8353
+         * @since 1.8.0
+         * @param percentile 백분위 (0 이상 100 이하, 예: 99.9)
+         * @return 소요 시간의 백분위 수 (nanosecond, 호출이 없으면 0)
+         * @throws IllegalArgumentException percentile이 0 이상 100 이하가 아니면 던져짐
+         */
+        public long getPercentile(double percentile) {
+            if (!(percentile >= 0 && percentile <= 100)) {
+                throw new IllegalArgumentException("백분위는 0 이상 100 이하여야 합니다: " + percentile);
+            }
+
+            long total = 0;
+            for (long value : histogram) {
+                total += value;
+            }
+
+            if (total == 0) {
+                return 0;
+            }
+
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+            long seen = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                seen += histogram[i];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), maxNanos);
+                }
+            }
+
+            return maxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot{count=" + count + ", errorCount=" + errorCount + ", bytes=" + bytes
+                 + ", meanNanos=" + (long) getMeanNanos() + ", p50=" + getPercentile(50) + ", p99=" + getPercentile(99)
+                 + ", maxNanos=" + maxNanos + "}";
+        }
+    }
+
+    // 작업 종류와 해시 알고리즘 하나의 지표를 집계
+    private static final class Recorder {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errorCount = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+        // 호출 하나를 기록
+        private void record(long bytes, long elapsedNanos, boolean failed) {
+            long nanos = Math.max(0, elapsedNanos);
+
+            count.increment();
+            if (failed) {
+                errorCount.increment();
+            }
+            this.bytes.add(bytes);
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            histogram.incrementAndGet(bucket(nanos));
+        }
+
+        // 집계된 값을 스냅샷에 더함
+        private void addTo(@NonNull Snapshot snapshot) {
+            snapshot.count += count.sum();
+            snapshot.errorCount += errorCount.sum();
+            snapshot.bytes += bytes.sum();
+            snapshot.totalNanos += totalNanos.sum();
+            snapshot.maxNanos = Math.max(snapshot.maxNanos, maxNanos.get());
+            for (int i = 0; i < BUCKETS; i++) {
+                snapshot.histogram[i] += histogram.get(i);
+            }
+        }
+
+        // 집계된 값을 초기화
+        private void reset() {
+            count.reset();
+            errorCount.reset();
+            bytes.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram.set(i, 0);
+            }
+        }
+    }
+}
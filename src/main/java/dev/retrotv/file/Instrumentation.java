@@ -0,0 +1,124 @@
+package dev.retrotv.file;
+
+import dev.retrotv.file.ExtendedFile.EFileOperation;
+import dev.retrotv.file.ExtendedFile.EHash;
+
+import lombok.NonNull;
+
+import java.nio.file.Path;
+
+/**
+ * 파일 작업의 소요 시간을 측정해서 [ExtendedFile#getDefaultMetrics()]와 JFR 이벤트([FlightRecorder])에 전달하는 클래스 입니다.
+ * 지정된 [FileMetrics]가 [FileMetrics#NOOP]이고 JFR 이벤트도 기록하지 않는 경우에는, 시각을 읽지 않고 공유 객체를 반환하므로 객체를 생성하지 않습니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+final class Instrumentation {
+
+    // 아무것도 기록하지 않는 구간
+    private static final Span DISABLED = new Span(null, null, 0, null);
+
+    private Instrumentation() {
+        throw new UnsupportedOperationException("인스턴스를 생성할 수 없는 클래스입니다.");
+    }
+
+    /**
+     * 작업을 시작합니다. 작업이 끝나면 반환된 [Span]의 end 메서드를 호출해야 합니다.
+     *
+     * @param operation 작업 종류
+     * @return 작업 구간
+     */
+    @NonNull static Span start(@NonNull EFileOperation operation) {
+        FileMetrics metrics = ExtendedFile.getDefaultMetrics();
+        Object event = FlightRecorder.begin(operation);
+        if (metrics == FileMetrics.NOOP && event == null) {
+            return DISABLED;
+        }
+
+        return new Span(operation, metrics == FileMetrics.NOOP ? null : metrics, System.nanoTime(), event);
+    }
+
+    /**
+     * 하나의 파일 작업 구간 입니다.
+     */
+    static final class Span {
+        private final EFileOperation operation;
+        private final FileMetrics metrics;
+        private final long start;
+        private final Object event;
+
+        private Span(EFileOperation operation, FileMetrics metrics, long start, Object event) {
+            this.operation = operation;
+            this.metrics = metrics;
+            this.start = start;
+            this.event = event;
+        }
+
+        /**
+         * 지표나 이벤트를 기록하는지 여부를 반환합니다.
+         * 기록할 내용을 준비하는 데 비용이 드는 경우, 이 메서드로 먼저 확인합니다.
+         *
+         * @return 기록 여부
+         */
+        boolean isRecording() {
+            return this != DISABLED;
+        }
+
+        /**
+         * 작업이 끝났음을 기록합니다.
+         *
+         * @param path 작업 대상 경로
+         * @param hash 사용한 해시 알고리즘 (사용하지 않았으면 null)
+         * @param bytes 처리한 바이트 수
+         * @param entries 방문한 항목 수 (탐색 및 삭제가 아니면 0)
+         * @param error 작업 도중에 발생한 오류 (성공했으면 null)
+         */
+        void end(Path path, EHash hash, long bytes, long entries, Throwable error) {
+            if (metrics != null) {
+                record(hash, bytes, error);
+            }
+
+            if (event != null) {
+                FlightRecorder.commit(event, path, hash == null ? null : hash.name(), bytes, entries, error);
+            }
+        }
+
+        /**
+         * 여러 알고리즘의 해시 코드를 한 번에 계산한 작업이 끝났음을 기록합니다.
+         * 지표는 알고리즘마다 한 번씩, 이벤트는 알고리즘 이름을 이어붙여서 한 번 기록합니다.
+         *
+         * @param path 작업 대상 경로
+         * @param hashes 사용한 해시 알고리즘 목록
+         * @param bytes 처리한 바이트 수
+         * @param error 작업 도중에 발생한 오류 (성공했으면 null)
+         */
+        void end(Path path, @NonNull Iterable<EHash> hashes, long bytes, Throwable error) {
+            if (!isRecording()) {
+                return;
+            }
+
+            StringBuilder names = new StringBuilder();
+            for (EHash hash : hashes) {
+                if (metrics != null) {
+                    record(hash, bytes, error);
+                }
+
+                names.append(names.length() == 0 ? "" : ",").append(hash.name());
+            }
+
+            if (event != null) {
+                FlightRecorder.commit(event, path, names.toString(), bytes, 0, error);
+            }
+        }
+
+        // 지표를 기록 (기록하는 과정의 오류가 파일 작업에 영향을 주지 않도록 무시)
+        private void record(EHash hash, long bytes, Throwable error) {
+            try {
+                metrics.record(operation, hash, bytes, System.nanoTime() - start, error);
+            } catch (RuntimeException e) {
+                // 지표를 기록하는 과정의 오류는 무시
+            }
+        }
+    }
+}
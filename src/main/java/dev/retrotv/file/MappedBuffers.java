@@ -0,0 +1,78 @@
+package dev.retrotv.file;
+
+import lombok.NonNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * 메모리 매핑된 버퍼를 GC를 기다리지 않고 즉시 해제하기 위한 클래스 입니다.
+ * 매핑이 남아있으면 Windows에서 파일을 삭제할 수 없으므로, 사용이 끝난 버퍼는 곧바로 해제합니다.
+ * Java 9 이상은 sun.misc.Unsafe#invokeCleaner, Java 8은 DirectByteBuffer#cleaner를 사용하며,
+ * 둘 다 사용할 수 없는 환경에서는 GC가 해제할 때까지 기다립니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+final class MappedBuffers {
+
+    // 버퍼를 해제하는 메서드 핸들 (사용할 수 없는 환경이면 null)
+    private static final MethodHandle UNMAPPER = findUnmapper();
+
+    private MappedBuffers() {
+        throw new UnsupportedOperationException("인스턴스를 생성할 수 없는 클래스입니다.");
+    }
+
+    /**
+     * 메모리 매핑된 버퍼를 해제합니다. 해제한 버퍼는 더 이상 사용해서는 안됩니다.
+     *
+     * @param buffer 해제할 버퍼
+     */
+    static void unmap(@NonNull ByteBuffer buffer) {
+        if (UNMAPPER == null || !buffer.isDirect()) {
+            return;
+        }
+
+        try {
+            UNMAPPER.invokeExact(buffer);
+        } catch (Throwable e) {
+            // 해제에 실패한 버퍼는 GC가 해제하도록 둠
+        }
+    }
+
+    // 실행 중인 JDK에 맞는 해제 메서드 핸들을 반환
+    private static MethodHandle findUnmapper() {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodType type = MethodType.methodType(void.class, ByteBuffer.class);
+
+        // Java 9 이상
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+
+            return lookup.unreflect(invokeCleaner).bindTo(theUnsafe.get(null)).asType(type);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Java 8 방식으로 재시도
+        }
+
+        // Java 8
+        try {
+            Method cleaner = Class.forName("java.nio.DirectByteBuffer").getMethod("cleaner");
+            cleaner.setAccessible(true);
+            Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            clean.setAccessible(true);
+
+            MethodHandle getCleaner = lookup.unreflect(cleaner);
+            MethodHandle doClean = lookup.unreflect(clean);
+            return MethodHandles.filterReturnValue(getCleaner, doClean).asType(type);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.retrotv.file;
+
+import lombok.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * 파일의 MIME type을 판별하는 인터페이스 입니다.
+ * 여러 스레드에서 동시에 호출될 수 있으므로, 구현체는 스레드 안전해야 합니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+@FunctionalInterface
+public interface MimeTypeDetector {
+
+    /**
+     * 파일의 MIME type을 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param file MIME type을 판별할 파일
+     * @return 파일의 MIME type
+     * @throws IOException 파일을 읽어들이는 과정 혹은 파싱 도중에 오류가 발생하면 던져짐
+     */
+    @NonNull String detect(@NonNull File file) throws IOException;
+}
@@ -0,0 +1,36 @@
+package dev.retrotv.file;
+
+/**
+ * 파일을 읽어들이는 작업의 진행 상황을 전달받는 인터페이스 입니다.
+ * 작업을 수행하는 스레드에서 호출되므로, 오래 걸리는 작업을 수행해서는 안 됩니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    /**
+     * 블록을 읽어들일 때마다 호출됩니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param bytesRead 지금까지 읽어들인 바이트 수
+     * @param totalBytes 읽어들일 전체 바이트 수
+     * @param elapsedNanos 작업을 시작한 이후 경과한 시간 (nanosecond)
+     */
+    void onProgress(long bytesRead, long totalBytes, long elapsedNanos);
+
+    /**
+     * 작업을 취소할지 여부를 반환합니다.
+     * [#onProgress(long, long, long)] 메서드가 호출된 직후에 확인하며, true를 반환하면 작업을 중단합니다.
+     * 기본 구현은 항상 false를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 작업을 취소할지 여부
+     */
+    default boolean isCancelled() {
+        return false;
+    }
+}
@@ -0,0 +1,232 @@
+package dev.retrotv.file;
+
+import dev.retrotv.file.ExtendedFile.EHash;
+
+import lombok.NonNull;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.CRC32;
+
+/**
+ * 데이터를 조각 단위로 입력받아 해시 코드를 계산하는 클래스 입니다.
+ * [MessageDigest]와 [CRC32]를 이용하므로 파일의 크기와 관계없이 고정된 메모리만 사용합니다.
+ * CRC32는 [CRC32#getValue()]의 하위 32비트를 4바이트 빅 엔디언으로 출력합니다.
+ * JDK가 지원하지 않는 알고리즘(EX: Java 8의 SHA3 계열, SHA-512/224, SHA-512/256)은 사용할 수 없습니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+abstract class StreamingDigest {
+
+    /**
+     * 지정한 알고리즘의 [StreamingDigest] 객체를 생성합니다.
+     *
+     * @param hash 파일 해시 알고리즘
+     * @return [StreamingDigest] 객체
+     * @throws UnsupportedOperationException 실행 중인 JDK가 지원하지 않는 알고리즘이면 던져짐
+     */
+    @NonNull static StreamingDigest of(@NonNull EHash hash) {
+        if (hash == EHash.CRC32) {
+            return new Crc32Digest();
+        }
+
+        String algorithm = jdkAlgorithmName(hash);
+        try {
+            return new JdkDigest(MessageDigest.getInstance(algorithm));
+        } catch (NoSuchAlgorithmException e) {
+            throw new UnsupportedOperationException(algorithm + " 알고리즘은 실행 중인 JDK(" + System.getProperty("java.version")
+                + ")가 지원하지 않습니다. Java 9 이상에서 사용하세요.", e);
+        }
+    }
+
+    /**
+     * 데이터를 입력합니다.
+     *
+     * @param bytes 입력할 데이터
+     * @param offset 시작 위치
+     * @param length 길이
+     */
+    abstract void update(@NonNull byte[] bytes, int offset, int length);
+
+    /**
+     * 버퍼의 position부터 limit까지의 데이터를 입력합니다. 입력 후 버퍼의 position은 limit으로 이동합니다.
+     *
+     * @param buffer 입력할 데이터가 담긴 버퍼
+     */
+    void update(@NonNull ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+        } else {
+            byte[] bytes = new byte[Math.min(buffer.remaining(), 8192)];
+            while (buffer.hasRemaining()) {
+                int length = Math.min(buffer.remaining(), bytes.length);
+                buffer.get(bytes, 0, length);
+                update(bytes, 0, length);
+            }
+        }
+    }
+
+    /**
+     * 지금까지 입력된 데이터의 해시 코드를 반환합니다.
+     *
+     * @return 해시 코드
+     */
+    @NonNull abstract byte[] digest();
+
+    /**
+     * 입력된 데이터를 버리고 처음 상태로 되돌립니다. 같은 객체로 다른 데이터의 해시 코드를 계산할 때 사용합니다.
+     */
+    abstract void reset();
+
+    /**
+     * 해시 코드의 바이트 수를 반환합니다.
+     *
+     * @return 해시 코드의 바이트 수 (계산하기 전에 알 수 없으면 -1)
+     */
+    int length() {
+        return -1;
+    }
+
+    // ExtendedFile.EHash를 JDK의 MessageDigest 알고리즘 이름으로 변환
+    @NonNull private static String jdkAlgorithmName(@NonNull EHash hash) {
+        switch (hash) {
+            case MD5:
+                return "MD5";
+            case SHA1:
+                return "SHA-1";
+            case SHA224:
+                return "SHA-224";
+            case SHA256:
+                return "SHA-256";
+            case SHA384:
+                return "SHA-384";
+            case SHA512:
+                return "SHA-512";
+            case SHA512224:
+                return "SHA-512/224";
+            case SHA512256:
+                return "SHA-512/256";
+            case SHA3224:
+                return "SHA3-224";
+            case SHA3256:
+                return "SHA3-256";
+            case SHA3384:
+                return "SHA3-384";
+            case SHA3512:
+                return "SHA3-512";
+            default:
+                throw new IllegalArgumentException("지원하지 않는 해시 알고리즘입니다: " + hash);
+        }
+    }
+
+    // 선택한 해시 알고리즘을 dev.retrotv.crypto.enums.EHash로 변환
+    @NonNull static dev.retrotv.crypto.hash.enums.EHash selectHashAlgorithm(@NonNull EHash hash) {
+        switch (hash) {
+            case CRC32:
+                return dev.retrotv.crypto.hash.enums.EHash.CRC32;
+            case MD5:
+                return dev.retrotv.crypto.hash.enums.EHash.MD5;
+            case SHA1:
+                return dev.retrotv.crypto.hash.enums.EHash.SHA1;
+            case SHA224:
+                return dev.retrotv.crypto.hash.enums.EHash.SHA224;
+            case SHA256:
+                return dev.retrotv.crypto.hash.enums.EHash.SHA256;
+            case SHA384:
+                return dev.retrotv.crypto.hash.enums.EHash.SHA384;
+            case SHA512:
+                return dev.retrotv.crypto.hash.enums.EHash.SHA512;
+            case SHA512224:
+                return dev.retrotv.crypto.hash.enums.EHash.SHA512224;
+            case SHA512256:
+                return dev.retrotv.crypto.hash.enums.EHash.SHA512256;
+            case SHA3224:
+                return dev.retrotv.crypto.hash.enums.EHash.SHA3224;
+            case SHA3256:
+                return dev.retrotv.crypto.hash.enums.EHash.SHA3256;
+            case SHA3384:
+                return dev.retrotv.crypto.hash.enums.EHash.SHA3384;
+            case SHA3512:
+                return dev.retrotv.crypto.hash.enums.EHash.SHA3512;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 해시 알고리즘입니다: " + hash);
+        }
+    }
+
+    // JDK의 MessageDigest를 이용하는 구현체
+    private static final class JdkDigest extends StreamingDigest {
+        private final MessageDigest messageDigest;
+
+        private JdkDigest(@NonNull MessageDigest messageDigest) {
+            this.messageDigest = messageDigest;
+        }
+
+        @Override
+        void update(@NonNull byte[] bytes, int offset, int length) {
+            messageDigest.update(bytes, offset, length);
+        }
+
+        @Override
+        void update(@NonNull ByteBuffer buffer) {
+            messageDigest.update(buffer);
+        }
+
+        @Override
+        @NonNull byte[] digest() {
+            return messageDigest.digest();
+        }
+
+        @Override
+        void reset() {
+            messageDigest.reset();
+        }
+
+        @Override
+        int length() {
+            int length = messageDigest.getDigestLength();
+            return length > 0 ? length : -1;
+        }
+    }
+
+    // JDK의 CRC32를 이용하는 구현체 (4바이트 빅 엔디언으로 출력)
+    private static final class Crc32Digest extends StreamingDigest {
+        private static final int WIDTH = 4;
+
+        private final CRC32 crc32 = new CRC32();
+
+        @Override
+        void update(@NonNull byte[] bytes, int offset, int length) {
+            crc32.update(bytes, offset, length);
+        }
+
+        @Override
+        void update(@NonNull ByteBuffer buffer) {
+            crc32.update(buffer);
+        }
+
+        @Override
+        int length() {
+            return WIDTH;
+        }
+
+        @Override
+        void reset() {
+            crc32.reset();
+        }
+
+        @Override
+        @NonNull byte[] digest() {
+            long value = crc32.getValue();
+            byte[] result = new byte[WIDTH];
+            for (int i = WIDTH - 1; i >= 0; i--) {
+                result[i] = (byte) value;
+                value >>>= 8;
+            }
+
+            return result;
+        }
+    }
+}
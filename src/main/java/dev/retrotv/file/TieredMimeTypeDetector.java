@@ -0,0 +1,634 @@
+package dev.retrotv.file;
+
+import dev.retrotv.file.ExtendedFile.EMimeTypeTier;
+
+import lombok.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가벼운 단계부터 차례로 MIME type을 판별하는 클래스 입니다.
+ * 확장자 표(EXTENSION), 파일 앞부분 64 바이트의 시그니처(MAGIC), 대체 판별기(FALLBACK, 기본값은 [TikaMimeTypeDetector]) 순서로 판별하며,
+ * 앞 단계에서 판별되면 뒤 단계는 실행하지 않습니다. 판별 결과의 이름은 Tika와 같은 이름을 사용합니다.
+ *
+ * 기본 모드는 확장자 표에 있는 확장자를 파일을 읽지 않고 그대로 믿으므로, 확장자와 내용이 다른 파일(EX: 텍스트 파일인 not_word.docx)도 확장자대로 판별합니다.
+ * 엄격 모드는 확장자로 얻은 MIME type을 시그니처와 비교해서, 서로 맞지 않으면 확장자를 무시하고 다음 단계로 넘어갑니다.
+ * ZIP, OLE2 같은 컨테이너 형식은 시그니처만으로는 세부 형식(EX: docx)을 알 수 없으므로 대체 판별기에 맡깁니다.
+ *
+ * 단계별 판별 횟수는 [#getHits(ExtendedFile.EMimeTypeTier)] 메서드로 조회할 수 있습니다.
+ * [ExtendedFile#isImage()], [ExtendedFile#isText()] 등 최상위 유형만 필요한 메서드는, ZIP, OLE2 형식이면 대체 판별기 없이 application으로 판별합니다.
+ * 기본 판별기는 여전히 [TikaMimeTypeDetector]이며, 이 판별기는 [ExtendedFile#setMimeTypeDetector(MimeTypeDetector)] 혹은
+ * [ExtendedFile#setDefaultMimeTypeDetector(MimeTypeDetector)] 메서드로 지정했을 때만 사용됩니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+public final class TieredMimeTypeDetector implements MimeTypeDetector {
+
+    // 시그니처 판별에 사용할 파일 앞부분의 크기
+    static final int HEADER_SIZE = 64;
+
+    // 시그니처 판별에 재사용하는 스레드별 버퍼
+    private static final ThreadLocal<ByteBuffer> HEADER = ThreadLocal.withInitial(() -> ByteBuffer.allocate(HEADER_SIZE));
+
+    // 시그니처만으로는 세부 형식을 알 수 없는 컨테이너 형식
+    private static final String ZIP = "application/zip";
+    private static final String OLE2 = "application/x-tika-msoffice";
+    private static final String OGG = "application/ogg";
+
+    // 확장자(소문자) -> MIME type
+    private static final Map<String, String> EXTENSIONS = new HashMap<>();
+
+    // 같은 시그니처를 공유하는 MIME type -> 시그니처 계열
+    private static final Map<String, String> FAMILIES = new HashMap<>();
+
+    // 시그니처로 판별할 수 있는 계열
+    private static final Set<String> SIGNED = new HashSet<>();
+
+    // 시그니처가 없어서 내용에 NUL 바이트가 없는지로 확인하는 텍스트 형식
+    private static final Set<String> TEXTUAL = new HashSet<>();
+
+    static {
+        extension("image/jpeg", "jpg", "jpeg", "jpe");
+        extension("image/png", "png");
+        extension("image/gif", "gif");
+        extension("image/bmp", "bmp");
+        extension("image/webp", "webp");
+        extension("image/tiff", "tif", "tiff");
+        extension("image/vnd.microsoft.icon", "ico");
+        extension("image/vnd.adobe.photoshop", "psd");
+        extension("image/heic", "heic");
+        extension("image/avif", "avif");
+        extension("image/svg+xml", "svg");
+
+        extension("video/mp4", "mp4", "m4v");
+        extension("video/quicktime", "mov");
+        extension("video/3gpp", "3gp");
+        extension("video/x-msvideo", "avi");
+        extension("video/x-matroska", "mkv");
+        extension("video/webm", "webm");
+        extension("video/x-flv", "flv");
+        extension("video/mpeg", "mpg", "mpeg");
+        extension("video/x-ms-wmv", "wmv");
+        extension("video/ogg", "ogv");
+
+        extension("audio/mpeg", "mp3");
+        extension("audio/vnd.wave", "wav");
+        extension("audio/x-flac", "flac");
+        extension("audio/ogg", "ogg", "oga");
+        extension("audio/opus", "opus");
+        extension("audio/mp4", "m4a");
+        extension("audio/x-aac", "aac");
+        extension("audio/midi", "mid", "midi");
+        extension("audio/x-ms-wma", "wma");
+
+        extension("application/pdf", "pdf");
+        extension(ZIP, "zip");
+        extension("application/gzip", "gz", "tgz", "tar.gz");
+        extension("application/x-bzip2", "bz2", "tar.bz2");
+        extension("application/x-xz", "xz", "tar.xz");
+        extension("application/x-7z-compressed", "7z");
+        extension("application/x-rar-compressed", "rar");
+        extension("application/x-tar", "tar");
+        extension("application/java-archive", "jar");
+        extension("application/java-vm", "class");
+        extension("application/wasm", "wasm");
+        extension("application/x-sqlite3", "sqlite", "sqlite3");
+        extension("application/vnd.openxmlformats-officedocument.wordprocessingml.document", "docx");
+        extension("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+        extension("application/vnd.openxmlformats-officedocument.presentationml.presentation", "pptx");
+        extension("application/vnd.oasis.opendocument.text", "odt");
+        extension("application/vnd.oasis.opendocument.spreadsheet", "ods");
+        extension("application/epub+zip", "epub");
+        extension("application/vnd.android.package-archive", "apk");
+        extension("application/msword", "doc");
+        extension("application/vnd.ms-excel", "xls");
+        extension("application/vnd.ms-powerpoint", "ppt");
+        extension("application/rtf", "rtf");
+        extension("application/postscript", "ps", "eps");
+        extension("font/woff", "woff");
+        extension("font/woff2", "woff2");
+
+        extension("text/plain", "txt", "text");
+        extension("text/csv", "csv");
+        extension("text/tab-separated-values", "tsv");
+        extension("text/html", "html", "htm");
+        extension("text/css", "css");
+        extension("text/javascript", "js");
+        extension("text/x-web-markdown", "md");
+        extension("text/x-java-source", "java");
+        extension("text/x-java-properties", "properties");
+        extension("text/x-python", "py");
+        extension("text/x-sql", "sql");
+        extension("application/json", "json");
+        extension("application/xml", "xml");
+        extension("application/x-sh", "sh");
+
+        family(ZIP, ZIP, "application/java-archive", "application/epub+zip", "application/vnd.android.package-archive",
+               "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+               "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+               "application/vnd.openxmlformats-officedocument.presentationml.presentation",
+               "application/vnd.oasis.opendocument.text", "application/vnd.oasis.opendocument.spreadsheet");
+        family(OLE2, OLE2, "application/msword", "application/vnd.ms-excel", "application/vnd.ms-powerpoint");
+        family(OGG, OGG, "audio/ogg", "audio/vorbis", "audio/opus", "video/ogg", "video/theora");
+        family("ftyp", "video/mp4", "video/quicktime", "video/3gpp", "audio/mp4");
+        family("ebml", "video/webm", "video/x-matroska");
+
+        for (String mimeType : new String[] {
+                  "image/jpeg", "image/png", "image/gif", "image/tiff", "image/webp", "image/vnd.adobe.photoshop"
+                , "image/heic", "image/avif", "video/mp4", "video/webm", "video/x-flv", "video/mpeg", "video/x-msvideo"
+                , "audio/mpeg", "audio/vnd.wave", "audio/x-flac", "audio/midi", OGG, ZIP, OLE2
+                , "application/pdf", "application/gzip", "application/x-bzip2", "application/x-xz"
+                , "application/x-7z-compressed", "application/x-rar-compressed", "application/java-vm", "application/wasm"
+                , "application/x-sqlite3", "application/rtf", "application/postscript", "font/woff", "font/woff2" }) {
+            SIGNED.add(familyOf(mimeType));
+        }
+
+        Collections.addAll(TEXTUAL, "image/svg+xml", "application/json", "application/xml", "application/x-sh");
+        for (String mimeType : EXTENSIONS.values()) {
+            if (mimeType.startsWith("text/")) {
+                TEXTUAL.add(mimeType);
+            }
+        }
+    }
+
+    private final boolean strict;
+    private final MimeTypeDetector fallback;
+    private final LongAdder[] hits = new LongAdder[EMimeTypeTier.values().length];
+
+    /**
+     * 확장자를 그대로 믿고, [TikaMimeTypeDetector]의 공유 인스턴스를 대체 판별기로 사용하는 [TieredMimeTypeDetector] 객체를 생성합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     */
+    public TieredMimeTypeDetector() {
+        this(false);
+    }
+
+    /**
+     * [TikaMimeTypeDetector]의 공유 인스턴스를 대체 판별기로 사용하는 [TieredMimeTypeDetector] 객체를 생성합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param strict 확장자로 얻은 MIME type을 시그니처와 비교해서, 맞지 않으면 무시할지 여부
+     */
+    public TieredMimeTypeDetector(boolean strict) {
+        this(strict, TikaMimeTypeDetector.getInstance());
+    }
+
+    /**
+     * 확장자와 시그니처로 판별되지 않을 때 fallback으로 판별하는 [TieredMimeTypeDetector] 객체를 생성합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param strict 확장자로 얻은 MIME type을 시그니처와 비교해서, 맞지 않으면 무시할지 여부
+     * @param fallback 대체 판별기
+     */
+    public TieredMimeTypeDetector(boolean strict, @NonNull MimeTypeDetector fallback) {
+        this.strict = strict;
+        this.fallback = fallback;
+
+        for (int i = 0; i < hits.length; i++) {
+            hits[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 파일의 MIME type을 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param file MIME type을 판별할 파일
+     * @return 파일의 MIME type
+     * @throws IOException 파일을 읽어들이는 과정 혹은 파싱 도중에 오류가 발생하면 던져짐
+     */
+    @Override
+    @NonNull public String detect(@NonNull File file) throws IOException {
+        return detectWithTier(file).getMimeType();
+    }
+
+    /**
+     * 파일의 MIME type을 판별한 단계와 함께 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param file MIME type을 판별할 파일
+     * @return 판별 결과
+     * @throws IOException 파일을 읽어들이는 과정 혹은 파싱 도중에 오류가 발생하면 던져짐
+     */
+    @NonNull public Detection detectWithTier(@NonNull File file) throws IOException {
+        Detection detection = resolve(file, false);
+        hits[detection.getTier().ordinal()].increment();
+
+        return detection;
+    }
+
+    /**
+     * 엄격 모드인지 여부를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 엄격 모드인지 여부
+     */
+    public boolean isStrict() {
+        return strict;
+    }
+
+    /**
+     * 지정한 단계에서 판별된 횟수를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param tier 판별 단계
+     * @return 판별 횟수
+     */
+    public long getHits(@NonNull EMimeTypeTier tier) {
+        return hits[tier.ordinal()].sum();
+    }
+
+    /**
+     * 단계별 판별 횟수를 0으로 초기화합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     */
+    public void resetHits() {
+        for (LongAdder hit : hits) {
+            hit.reset();
+        }
+    }
+
+    /**
+     * 파일의 최상위 유형(EX: image, text)을 반환합니다.
+     * 컨테이너 형식은 세부 형식을 몰라도 최상위 유형이 application이므로, 대체 판별기를 실행하지 않습니다.
+     *
+     * @param file 유형을 판별할 파일
+     * @return 파일의 최상위 유형
+     * @throws IOException 파일을 읽어들이는 과정 혹은 파싱 도중에 오류가 발생하면 던져짐
+     */
+    @NonNull String detectMediaType(@NonNull File file) throws IOException {
+        Detection detection = resolve(file, true);
+        hits[detection.getTier().ordinal()].increment();
+
+        String mimeType = detection.getMimeType();
+        int index = mimeType.indexOf('/');
+        return index == -1 ? mimeType : mimeType.substring(0, index);
+    }
+
+    // 확장자, 시그니처, 대체 판별기 순서로 판별 (mediaTypeOnly가 true이면 최상위 유형만 알 수 있는 컨테이너 형식도 시그니처 단계에서 끝냄)
+    @NonNull private Detection resolve(@NonNull File file, boolean mediaTypeOnly) throws IOException {
+        String byExtension = lookup(file.getName());
+        if (byExtension != null && !strict) {
+            return new Detection(byExtension, EMimeTypeTier.EXTENSION);
+        }
+
+        if (!file.isFile()) {
+            return new Detection(fallback.detect(file), EMimeTypeTier.FALLBACK);
+        }
+
+        ByteBuffer header = readHeader(file);
+        String byMagic = match(header.array(), header.limit());
+
+        if (byExtension != null && accepts(byExtension, byMagic, header.array(), header.limit())) {
+            return new Detection(byExtension, EMimeTypeTier.EXTENSION);
+        }
+
+        if (byMagic != null) {
+            boolean container = ZIP.equals(byMagic) || OLE2.equals(byMagic) || OGG.equals(byMagic);
+            if (!container || (mediaTypeOnly && !OGG.equals(byMagic))) {
+                return new Detection(byMagic, EMimeTypeTier.MAGIC);
+            }
+        }
+
+        return new Detection(fallback.detect(file), EMimeTypeTier.FALLBACK);
+    }
+
+    // 복합 확장자, 확장자 순서로 확장자 표에서 MIME type을 찾음 (없으면 null)
+    private static String lookup(@NonNull String name) {
+        String compound = ExtendedFile.extensionOf(name, true).toLowerCase(Locale.ROOT);
+        String mimeType = EXTENSIONS.get(compound);
+        if (mimeType != null) {
+            return mimeType;
+        }
+
+        return EXTENSIONS.get(ExtendedFile.extensionOf(name, false).toLowerCase(Locale.ROOT));
+    }
+
+    // 확장자로 얻은 MIME type이 시그니처와 맞는지 여부를 반환
+    private static boolean accepts(@NonNull String byExtension, String byMagic, byte[] header, int length) {
+        if (byMagic != null) {
+            return familyOf(byExtension).equals(familyOf(byMagic));
+        }
+
+        if (SIGNED.contains(familyOf(byExtension))) {
+            return false;
+        }
+
+        if (TEXTUAL.contains(byExtension)) {
+            for (int i = 0; i < length; i++) {
+                if (header[i] == 0) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    // 파일의 앞부분을 HEADER_SIZE 바이트까지 스레드별 버퍼에 읽어들임
+    @NonNull private static ByteBuffer readHeader(@NonNull File file) throws IOException {
+        ByteBuffer buffer = HEADER.get();
+        buffer.clear();
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            FileComparator.readBlock(channel, buffer);
+        }
+
+        return buffer;
+    }
+
+    // 파일 앞부분의 시그니처로 MIME type을 판별 (판별할 수 없으면 null)
+    static String match(byte[] h, int n) {
+        if (startsWith(h, n, 0, 0xFF, 0xD8, 0xFF)) {
+            return "image/jpeg";
+        }
+
+        if (startsWith(h, n, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return "image/png";
+        }
+
+        if (startsWith(h, n, 0, "GIF87a") || startsWith(h, n, 0, "GIF89a")) {
+            return "image/gif";
+        }
+
+        if (startsWith(h, n, 0, "II*\0") || startsWith(h, n, 0, "MM\0*")) {
+            return "image/tiff";
+        }
+
+        if (startsWith(h, n, 0, "8BPS")) {
+            return "image/vnd.adobe.photoshop";
+        }
+
+        if (startsWith(h, n, 0, "%PDF-")) {
+            return "application/pdf";
+        }
+
+        if (startsWith(h, n, 0, "PK\3\4") || startsWith(h, n, 0, "PK\5\6")) {
+            return ZIP;
+        }
+
+        if (startsWith(h, n, 0, 0xD0, 0xCF, 0x11, 0xE0, 0xA1, 0xB1, 0x1A, 0xE1)) {
+            return OLE2;
+        }
+
+        if (startsWith(h, n, 0, 0x1F, 0x8B)) {
+            return "application/gzip";
+        }
+
+        if (startsWith(h, n, 0, "BZh") && n > 3 && h[3] >= '1' && h[3] <= '9') {
+            return "application/x-bzip2";
+        }
+
+        if (startsWith(h, n, 0, 0xFD, '7', 'z', 'X', 'Z', 0x00)) {
+            return "application/x-xz";
+        }
+
+        if (startsWith(h, n, 0, '7', 'z', 0xBC, 0xAF, 0x27, 0x1C)) {
+            return "application/x-7z-compressed";
+        }
+
+        if (startsWith(h, n, 0, "Rar!\u001A\u0007")) {
+            return "application/x-rar-compressed";
+        }
+
+        if (startsWith(h, n, 0, 0xCA, 0xFE, 0xBA, 0xBE)) {
+            return "application/java-vm";
+        }
+
+        if (startsWith(h, n, 0, "\0asm")) {
+            return "application/wasm";
+        }
+
+        if (startsWith(h, n, 0, "SQLite format 3\0")) {
+            return "application/x-sqlite3";
+        }
+
+        if (startsWith(h, n, 0, "{\\rtf")) {
+            return "application/rtf";
+        }
+
+        if (startsWith(h, n, 0, "%!PS")) {
+            return "application/postscript";
+        }
+
+        if (startsWith(h, n, 0, "wOFF")) {
+            return "font/woff";
+        }
+
+        if (startsWith(h, n, 0, "wOF2")) {
+            return "font/woff2";
+        }
+
+        if (startsWith(h, n, 0, "RIFF")) {
+            if (startsWith(h, n, 8, "WEBP")) {
+                return "image/webp";
+            }
+
+            if (startsWith(h, n, 8, "WAVE")) {
+                return "audio/vnd.wave";
+            }
+
+            if (startsWith(h, n, 8, "AVI ")) {
+                return "video/x-msvideo";
+            }
+
+            return null;
+        }
+
+        if (startsWith(h, n, 4, "ftyp")) {
+            if (startsWith(h, n, 8, "qt  ")) {
+                return "video/quicktime";
+            }
+
+            if (startsWith(h, n, 8, "M4A ")) {
+                return "audio/mp4";
+            }
+
+            if (startsWith(h, n, 8, "3gp")) {
+                return "video/3gpp";
+            }
+
+            if (startsWith(h, n, 8, "avif")) {
+                return "image/avif";
+            }
+
+            if (startsWith(h, n, 8, "heic") || startsWith(h, n, 8, "heix") || startsWith(h, n, 8, "mif1")) {
+                return "image/heic";
+            }
+
+            return "video/mp4";
+        }
+
+        if (startsWith(h, n, 0, 0x1A, 0x45, 0xDF, 0xA3)) {
+            return indexOf(h, n, "webm") != -1 ? "video/webm" : "video/x-matroska";
+        }
+
+        if (startsWith(h, n, 0, "OggS")) {
+            if (indexOf(h, n, "OpusHead") != -1) {
+                return "audio/opus";
+            }
+
+            if (indexOf(h, n, "\u0001vorbis") != -1) {
+                return "audio/vorbis";
+            }
+
+            if (indexOf(h, n, "\u0080theora") != -1) {
+                return "video/theora";
+            }
+
+            return OGG;
+        }
+
+        if (startsWith(h, n, 0, "FLV\u0001")) {
+            return "video/x-flv";
+        }
+
+        if (startsWith(h, n, 0, 0x00, 0x00, 0x01, 0xBA) || startsWith(h, n, 0, 0x00, 0x00, 0x01, 0xB3)) {
+            return "video/mpeg";
+        }
+
+        if (startsWith(h, n, 0, "ID3")) {
+            return "audio/mpeg";
+        }
+
+        if (startsWith(h, n, 0, 0xFF, 0xFB) || startsWith(h, n, 0, 0xFF, 0xF3) || startsWith(h, n, 0, 0xFF, 0xF2)) {
+            return "audio/mpeg";
+        }
+
+        if (startsWith(h, n, 0, "fLaC")) {
+            return "audio/x-flac";
+        }
+
+        if (startsWith(h, n, 0, "MThd")) {
+            return "audio/midi";
+        }
+
+        return null;
+    }
+
+    // offset 위치부터 지정한 바이트로 시작하는지 여부를 반환
+    private static boolean startsWith(byte[] h, int n, int offset, int... signature) {
+        if (offset + signature.length > n) {
+            return false;
+        }
+
+        for (int i = 0; i < signature.length; i++) {
+            if ((h[offset + i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // offset 위치부터 지정한 ISO-8859-1 문자열로 시작하는지 여부를 반환
+    private static boolean startsWith(byte[] h, int n, int offset, @NonNull String signature) {
+        if (offset + signature.length() > n) {
+            return false;
+        }
+
+        for (int i = 0; i < signature.length(); i++) {
+            if ((h[offset + i] & 0xFF) != signature.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // 앞부분에서 지정한 ISO-8859-1 문자열이 처음 나오는 위치를 반환 (없으면 -1)
+    private static int indexOf(byte[] h, int n, @NonNull String signature) {
+        for (int i = 0; i + signature.length() <= n; i++) {
+            if (startsWith(h, n, i, signature)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    // MIME type이 속한 시그니처 계열을 반환 (계열이 없으면 MIME type 자신)
+    @NonNull private static String familyOf(@NonNull String mimeType) {
+        String family = FAMILIES.get(mimeType);
+        return family != null ? family : mimeType;
+    }
+
+    // 확장자 표에 항목을 추가
+    private static void extension(@NonNull String mimeType, @NonNull String... extensions) {
+        for (String extension : extensions) {
+            EXTENSIONS.put(extension, mimeType);
+        }
+    }
+
+    // 시그니처 계열에 MIME type을 추가
+    private static void family(@NonNull String family, @NonNull String... mimeTypes) {
+        for (String mimeType : mimeTypes) {
+            FAMILIES.put(mimeType, family);
+        }
+    }
+
+    /**
+     * [TieredMimeTypeDetector]의 판별 결과를 담는 클래스 입니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     */
+    public static final class Detection {
+        private final String mimeType;
+        private final EMimeTypeTier tier;
+
+        Detection(@NonNull String mimeType, @NonNull EMimeTypeTier tier) {
+            this.mimeType = mimeType;
+            this.tier = tier;
+        }
+
+        /**
+         * 판별된 MIME type을 반환합니다.
+         *
+         * @author yjj8353
+         * @since 1.8.0
+         * @return 파일의 MIME type
+         */
+        @NonNull public String getMimeType() {
+            return mimeType;
+        }
+
+        /**
+         * MIME type을 판별한 단계를 반환합니다.
+         *
+         * @author yjj8353
+         * @since 1.8.0
+         * @return 판별 단계
+         */
+        @NonNull public EMimeTypeTier getTier() {
+            return tier;
+        }
+
+        @Override
+        public String toString() {
+            return "Detection{mimeType=" + mimeType + ", tier=" + tier + "}";
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package dev.retrotv.file;
+
+import lombok.NonNull;
+import org.apache.tika.Tika;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Apache Tika를 이용해 MIME type을 판별하는 클래스 입니다.
+ * [Tika] 객체는 생성 비용이 크므로, 처음 사용할 때 한 번만 생성해서 모든 인스턴스가 공유합니다. ([Tika]는 스레드 안전합니다.)
+ * headerLimit을 지정하면 파일 전체 대신 앞부분의 지정한 크기만 읽어서 파일명과 함께 판별합니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+public final class TikaMimeTypeDetector implements MimeTypeDetector {
+    private final int headerLimit;
+
+    /**
+     * 파일 전체를 대상으로 판별하는 [TikaMimeTypeDetector] 객체를 생성합니다.
+     * 파일을 여는 방식은 Tika에 맡기므로, 컨테이너 형식(EX: docx)도 정확하게 판별합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     */
+    public TikaMimeTypeDetector() {
+        this(0);
+    }
+
+    /**
+     * 파일의 앞부분 headerLimit 바이트만 읽어서 판별하는 [TikaMimeTypeDetector] 객체를 생성합니다.
+     * 읽어들이는 양이 제한되므로 빠르지만, 컨테이너 형식은 파일명에 의존해 판별하게 됩니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param headerLimit 읽어들일 최대 바이트 수 (0 이하이면 파일 전체를 대상으로 판별)
+     */
+    public TikaMimeTypeDetector(int headerLimit) {
+        this.headerLimit = headerLimit;
+    }
+
+    /**
+     * 파일 전체를 대상으로 판별하는 공유 [TikaMimeTypeDetector] 객체를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 공유 [TikaMimeTypeDetector] 객체
+     */
+    @NonNull public static TikaMimeTypeDetector getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * 파일의 MIME type을 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param file MIME type을 판별할 파일
+     * @return 파일의 MIME type
+     * @throws IOException 파일을 읽어들이는 과정 혹은 파싱 도중에 오류가 발생하면 던져짐
+     */
+    @Override
+    @NonNull public String detect(@NonNull File file) throws IOException {
+        if (headerLimit <= 0) {
+            return TikaHolder.TIKA.detect(file);
+        }
+
+        return TikaHolder.TIKA.detect(readHeader(file), file.getName());
+    }
+
+    // 파일의 앞부분을 headerLimit 바이트까지 읽어서 반환
+    @NonNull private byte[] readHeader(@NonNull File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(headerLimit, channel.size()));
+            int read = FileComparator.readBlock(channel, buffer);
+
+            return read == buffer.capacity() ? buffer.array() : Arrays.copyOf(buffer.array(), read);
+        }
+    }
+
+    // 처음 사용할 때 Tika 객체를 생성하기 위한 홀더 클래스
+    private static final class TikaHolder {
+        private static final Tika TIKA = new Tika();
+    }
+
+    // 처음 사용할 때 공유 인스턴스를 생성하기 위한 홀더 클래스
+    private static final class InstanceHolder {
+        private static final TikaMimeTypeDetector INSTANCE = new TikaMimeTypeDetector();
+    }
+}
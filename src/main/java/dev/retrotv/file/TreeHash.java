@@ -0,0 +1,132 @@
+package dev.retrotv.file;
+
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 파일을 고정 크기의 조각으로 나누어 계산한 트리 해시(Merkle tree) 결과를 담는 클래스 입니다.
+ * 루트 해시 코드와 함께 조각마다의 해시 코드를 제공하므로, 두 결과를 비교해서 내용이 바뀐 구간만 찾아낼 수 있습니다.
+ * 조각의 해시 코드는 H(0x00 || 조각), 내부 노드의 해시 코드는 H(0x01 || 왼쪽 || 오른쪽)으로 계산하며,
+ * 짝이 없는 마지막 노드는 그대로 윗 단계로 올라갑니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+public final class TreeHash {
+    private final ExtendedFile.EHash algorithm;
+    private final int chunkSize;
+    private final long length;
+    private final String root;
+    private final List<String> chunkHashes;
+
+    TreeHash(@NonNull ExtendedFile.EHash algorithm, int chunkSize, long length, @NonNull String root, @NonNull List<String> chunkHashes) {
+        this.algorithm = algorithm;
+        this.chunkSize = chunkSize;
+        this.length = length;
+        this.root = root;
+        this.chunkHashes = Collections.unmodifiableList(new ArrayList<>(chunkHashes));
+    }
+
+    /**
+     * 해시 코드를 계산한 알고리즘을 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 파일 해시 알고리즘
+     */
+    @NonNull public ExtendedFile.EHash getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * 조각의 크기를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 조각의 크기 (byte)
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * 해시 코드를 계산한 파일의 길이를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 파일의 길이 (byte)
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * 루트 해시 코드를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 루트 해시 코드
+     */
+    @NonNull public String getRoot() {
+        return root;
+    }
+
+    /**
+     * 조각마다의 해시 코드를 파일 앞부분부터 순서대로 반환합니다.
+     * 빈 파일은 하나의 빈 조각으로 계산합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 조각마다의 해시 코드 (수정할 수 없는 리스트)
+     */
+    @NonNull public List<String> getChunkHashes() {
+        return chunkHashes;
+    }
+
+    /**
+     * 조각이 시작하는 위치를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param index 조각의 순번
+     * @return 조각이 시작하는 위치 (byte)
+     */
+    public long getChunkOffset(int index) {
+        return (long) index * chunkSize;
+    }
+
+    /**
+     * 다른 결과와 비교해서, 해시 코드가 다른 조각의 순번을 반환합니다.
+     * 한쪽에만 있는 조각도 다른 조각으로 간주합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param other 비교할 [TreeHash] 객체
+     * @return 해시 코드가 다른 조각의 순번 목록
+     * @throws IllegalArgumentException 알고리즘이나 조각의 크기가 다르면 던져짐
+     */
+    @NonNull public List<Integer> diff(@NonNull TreeHash other) {
+        if (algorithm != other.algorithm || chunkSize != other.chunkSize) {
+            throw new IllegalArgumentException("알고리즘과 조각의 크기가 같은 결과끼리만 비교할 수 있습니다.");
+        }
+
+        List<Integer> result = new ArrayList<>();
+        int count = Math.max(chunkHashes.size(), other.chunkHashes.size());
+        for (int i = 0; i < count; i++) {
+            if (i >= chunkHashes.size() || i >= other.chunkHashes.size() || !chunkHashes.get(i).equals(other.chunkHashes.get(i))) {
+                result.add(i);
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "TreeHash{algorithm=" + algorithm + ", chunkSize=" + chunkSize + ", length=" + length
+             + ", chunks=" + chunkHashes.size() + ", root=" + root + "}";
+    }
+}
@@ -0,0 +1,170 @@
+package dev.retrotv.file;
+
+import dev.retrotv.crypto.util.HEXCodecUtils;
+import dev.retrotv.file.ExtendedFile.EFileOperation;
+import dev.retrotv.file.ExtendedFile.EHash;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 파일을 고정 크기의 조각으로 나누어, 조각마다의 해시 코드를 병렬로 계산한 다음 트리 해시를 구성하는 클래스 입니다.
+ * 조각은 위치를 지정해서 읽어들이므로, 하나의 채널을 여러 스레드가 함께 사용합니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+final class TreeHasher {
+
+    // 조각(leaf)과 내부 노드의 해시 코드를 구분하기 위한 접두어
+    private static final byte[] LEAF_PREFIX = { 0x00 };
+    private static final byte[] NODE_PREFIX = { 0x01 };
+
+    private TreeHasher() {
+        throw new UnsupportedOperationException("인스턴스를 생성할 수 없는 클래스입니다.");
+    }
+
+    /**
+     * 파일의 트리 해시를 계산해서 반환합니다.
+     *
+     * @param path 파일 경로
+     * @param hash 파일 해시 알고리즘
+     * @param chunkSize 조각의 크기
+     * @param pool 조각마다의 해시 코드 계산에 사용할 [ForkJoinPool]
+     * @return 트리 해시 결과
+     * @throws IOException 파일을 읽어들이는 과정에서 오류가 발생하면 던져짐
+     * @throws IllegalArgumentException chunkSize가 1보다 작으면 던져짐
+     */
+    @NonNull static TreeHash hash(@NonNull Path path, @NonNull EHash hash, int chunkSize, @NonNull ForkJoinPool pool) throws IOException {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize는 1 이상이어야 합니다: " + chunkSize);
+        }
+
+        Instrumentation.Span span = Instrumentation.start(EFileOperation.HASH);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            long count = Math.max(1, (length + chunkSize - 1) / chunkSize);
+            if (count > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("조각의 개수가 너무 많습니다. chunkSize를 늘려야 합니다: " + count);
+            }
+
+            byte[][] leaves = new byte[(int) count][];
+            try {
+                pool.invoke(new ChunkTask(channel, hash, chunkSize, length, leaves, 0, leaves.length));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            List<String> chunkHashes = new ArrayList<>(leaves.length);
+            for (byte[] leaf : leaves) {
+                chunkHashes.add(HEXCodecUtils.encode(leaf));
+            }
+
+            TreeHash result = new TreeHash(hash, chunkSize, length, HEXCodecUtils.encode(root(leaves, hash)), chunkHashes);
+            span.end(path, hash, length, 0, null);
+
+            return result;
+        } catch (IOException | RuntimeException e) {
+            span.end(path, hash, 0, 0, e);
+            throw e;
+        }
+    }
+
+    // 조각의 해시 코드로부터 루트 해시 코드를 계산 (짝이 없는 마지막 노드는 그대로 윗 단계로 올라감)
+    @NonNull private static byte[] root(@NonNull byte[][] leaves, @NonNull EHash hash) {
+        byte[][] level = leaves;
+        while (level.length > 1) {
+            byte[][] parent = new byte[(level.length + 1) / 2][];
+            for (int i = 0; i < parent.length; i++) {
+                int left = i * 2;
+                if (left + 1 == level.length) {
+                    parent[i] = level[left];
+                    continue;
+                }
+
+                StreamingDigest digest = StreamingDigest.of(hash);
+                digest.update(NODE_PREFIX, 0, NODE_PREFIX.length);
+                digest.update(level[left], 0, level[left].length);
+                digest.update(level[left + 1], 0, level[left + 1].length);
+                parent[i] = digest.digest();
+            }
+
+            level = parent;
+        }
+
+        return level[0];
+    }
+
+    // 조각 범위를 반으로 나누어 가며 조각마다의 해시 코드를 계산하는 작업
+    private static final class ChunkTask extends RecursiveAction {
+        private final transient FileChannel channel;
+        private final EHash hash;
+        private final int chunkSize;
+        private final long length;
+        private final byte[][] leaves;
+        private final int from;
+        private final int to;
+
+        private ChunkTask(@NonNull FileChannel channel, @NonNull EHash hash, int chunkSize, long length, @NonNull byte[][] leaves, int from, int to) {
+            this.channel = channel;
+            this.hash = hash;
+            this.chunkSize = chunkSize;
+            this.length = length;
+            this.leaves = leaves;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ChunkTask(channel, hash, chunkSize, length, leaves, from, middle),
+                          new ChunkTask(channel, hash, chunkSize, length, leaves, middle, to));
+                return;
+            }
+
+            try {
+                leaves[from] = leaf(from);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        // 하나의 조각을 위치를 지정해서 읽어들이며 해시 코드를 계산
+        @NonNull private byte[] leaf(int index) throws IOException {
+            StreamingDigest digest = StreamingDigest.of(hash);
+            digest.update(LEAF_PREFIX, 0, LEAF_PREFIX.length);
+
+            ByteBuffer buffer = FileHasher.buffer();
+            long position = (long) index * chunkSize;
+            long end = Math.min(position + chunkSize, length);
+
+            while (position < end) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), end - position));
+
+                int read = channel.read(buffer, position);
+                if (read == -1) {
+                    throw new IOException("파일의 길이가 해시 코드를 계산하는 도중에 줄어들었습니다.");
+                }
+
+                buffer.flip();
+                digest.update(buffer);
+                position += read;
+            }
+
+            return digest.digest();
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package dev.retrotv.file;
+
+import lombok.NonNull;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 디렉터리 트리를 탐색할 때 적용할 조건을 담는 클래스 입니다.
+ * 모든 조건은 탐색 도중에 항목의 속성을 읽어들인 직후 평가되므로, 조건에 맞지 않는 항목은 [ExtendedFile] 객체를 생성하지 않으며
+ * 제외한 디렉터리([#prune(Predicate)])는 내부를 탐색하지 않습니다.
+ *
+ * 파일 조건(glob, 확장자, 크기, 수정 시각)은 일반 파일에만 적용되며, 디렉터리는 제외하지 않는 한 결과에 포함됩니다. ([#includeDirectories(boolean)])
+ * 불변 객체이므로, 조건을 지정하는 메서드는 조건이 추가된 새로운 객체를 반환합니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+public final class WalkOptions {
+    private static final WalkOptions DEFAULTS = new WalkOptions();
+
+    private int maxDepth = -1;
+    private PathMatcher glob;
+    private boolean globOnName;
+    private Set<String> extensions;
+    private long minSize = 0;
+    private long maxSize = Long.MAX_VALUE;
+    private long modifiedSince = Long.MIN_VALUE;
+    private long modifiedBefore = Long.MAX_VALUE;
+    private Predicate<Path> prune;
+    private boolean includeDirectories = true;
+
+    private WalkOptions() {
+    }
+
+    // 다른 객체의 조건을 복사
+    private WalkOptions(@NonNull WalkOptions other) {
+        this.maxDepth = other.maxDepth;
+        this.glob = other.glob;
+        this.globOnName = other.globOnName;
+        this.extensions = other.extensions;
+        this.minSize = other.minSize;
+        this.maxSize = other.maxSize;
+        this.modifiedSince = other.modifiedSince;
+        this.modifiedBefore = other.modifiedBefore;
+        this.prune = other.prune;
+        this.includeDirectories = other.includeDirectories;
+    }
+
+    /**
+     * 아무 조건도 없는 [WalkOptions] 객체를 반환합니다. (깊이 제한 없음, 모든 파일 및 디렉터리 포함)
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 기본 [WalkOptions] 객체
+     */
+    @NonNull public static WalkOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * 깊이 제한을 지정합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param maxDepth 깊이 제한 (-1이면 제한 없음)
+     * @return 조건이 추가된 [WalkOptions] 객체
+     * @throws IllegalArgumentException maxDepth가 -1보다 작으면 던져짐
+     */
+    @NonNull public WalkOptions maxDepth(int maxDepth) {
+        if (maxDepth < -1) {
+            throw new IllegalArgumentException("깊이 제한은 -1 이상이어야 합니다: " + maxDepth);
+        }
+
+        WalkOptions options = new WalkOptions(this);
+        options.maxDepth = maxDepth;
+        return options;
+    }
+
+    /**
+     * glob 패턴과 일치하는 파일만 포함합니다. (EX: *.java, src/**&#47;*.java)
+     * 패턴에 경로 구분자(/)가 없으면 파일명과, 있으면 탐색을 시작한 경로로부터의 상대 경로와 비교합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param pattern glob 패턴
+     * @return 조건이 추가된 [WalkOptions] 객체
+     * @throws IllegalArgumentException 올바른 glob 패턴이 아니면 던져짐
+     */
+    @NonNull public WalkOptions glob(@NonNull String pattern) {
+        WalkOptions options = new WalkOptions(this);
+        options.glob = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+        options.globOnName = pattern.indexOf('/') == -1;
+        return options;
+    }
+
+    /**
+     * 확장자가 일치하는 파일만 포함합니다. 대소문자를 구분하지 않습니다.
+     * [ExtendedFile#getExtension()] 혹은 [ExtendedFile#getCompoundExtension()]의 값 중 하나라도 일치하면 포함합니다. (EX: gz, tar.gz)
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param extensions 포함할 확장자 목록 (점(.) 제외)
+     * @return 조건이 추가된 [WalkOptions] 객체
+     * @throws IllegalArgumentException 확장자 목록이 비어있으면 던져짐
+     */
+    @NonNull public WalkOptions extensions(@NonNull String... extensions) {
+        if (extensions.length == 0) {
+            throw new IllegalArgumentException("확장자를 하나 이상 지정해야 합니다.");
+        }
+
+        Set<String> set = new HashSet<>();
+        for (String extension : extensions) {
+            set.add(extension.toLowerCase(Locale.ROOT));
+        }
+
+        WalkOptions options = new WalkOptions(this);
+        options.extensions = Collections.unmodifiableSet(set);
+        return options;
+    }
+
+    /**
+     * 크기가 범위 안에 있는 파일만 포함합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param minSize 최소 크기 (byte, 이 값 포함)
+     * @param maxSize 최대 크기 (byte, 이 값 포함)
+     * @return 조건이 추가된 [WalkOptions] 객체
+     * @throws IllegalArgumentException minSize가 0보다 작거나 maxSize보다 크면 던져짐
+     */
+    @NonNull public WalkOptions size(long minSize, long maxSize) {
+        if (minSize < 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("올바른 크기 범위가 아닙니다: " + minSize + " ~ " + maxSize);
+        }
+
+        WalkOptions options = new WalkOptions(this);
+        options.minSize = minSize;
+        options.maxSize = maxSize;
+        return options;
+    }
+
+    /**
+     * 마지막 수정 시각이 범위 안에 있는 파일만 포함합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param since 이 시각 이후에 수정된 파일만 포함 (epoch milliseconds, 이 값 포함)
+     * @param before 이 시각 이전에 수정된 파일만 포함 (epoch milliseconds, 이 값 제외)
+     * @return 조건이 추가된 [WalkOptions] 객체
+     * @throws IllegalArgumentException since가 before보다 크면 던져짐
+     */
+    @NonNull public WalkOptions modified(long since, long before) {
+        if (since > before) {
+            throw new IllegalArgumentException("올바른 수정 시각 범위가 아닙니다: " + since + " ~ " + before);
+        }
+
+        WalkOptions options = new WalkOptions(this);
+        options.modifiedSince = since;
+        options.modifiedBefore = before;
+        return options;
+    }
+
+    /**
+     * 조건에 맞는 디렉터리를 결과에서 제외하고, 내부도 탐색하지 않습니다.
+     * 탐색을 시작한 경로는 제외하지 않습니다. 이미 지정한 조건이 있으면, 어느 하나라도 맞는 디렉터리를 제외합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param prune 제외할 디렉터리를 판별하는 [Predicate] 객체 (디렉터리의 절대 경로를 전달받음)
+     * @return 조건이 추가된 [WalkOptions] 객체
+     */
+    @NonNull public WalkOptions prune(@NonNull Predicate<Path> prune) {
+        WalkOptions options = new WalkOptions(this);
+        options.prune = this.prune == null ? prune : this.prune.or(prune);
+        return options;
+    }
+
+    /**
+     * 이름이 일치하는 디렉터리를 결과에서 제외하고, 내부도 탐색하지 않습니다. (EX: .git, node_modules)
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param names 제외할 디렉터리명 목록
+     * @return 조건이 추가된 [WalkOptions] 객체
+     */
+    @NonNull public WalkOptions pruneNames(@NonNull String... names) {
+        Set<String> set = new HashSet<>();
+        Collections.addAll(set, names);
+
+        return prune(directory -> {
+            Path name = directory.getFileName();
+            return name != null && set.contains(name.toString());
+        });
+    }
+
+    /**
+     * 디렉터리를 결과에 포함할지 여부를 지정합니다. (기본 값: true)
+     * false를 지정해도 디렉터리 내부는 탐색합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @param includeDirectories 디렉터리 포함 여부
+     * @return 조건이 추가된 [WalkOptions] 객체
+     */
+    @NonNull public WalkOptions includeDirectories(boolean includeDirectories) {
+        WalkOptions options = new WalkOptions(this);
+        options.includeDirectories = includeDirectories;
+        return options;
+    }
+
+    /**
+     * 깊이 제한을 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 깊이 제한 (-1이면 제한 없음)
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * 디렉터리를 결과에 포함하는지 여부를 반환합니다.
+     *
+     * @author yjj8353
+     * @since 1.8.0
+     * @return 디렉터리 포함 여부
+     */
+    public boolean isIncludeDirectories() {
+        return includeDirectories;
+    }
+
+    // 디렉터리를 제외하고 내부도 탐색하지 않아야 하는지 여부
+    boolean prunes(@NonNull Path directory) {
+        return prune != null && prune.test(directory);
+    }
+
+    // 일반 파일이 파일 조건을 모두 만족하는지 여부 (root는 탐색을 시작한 경로)
+    boolean accepts(@NonNull Path root, @NonNull Path file, @NonNull BasicFileAttributes attributes) {
+        long size = attributes.size();
+        if (size < minSize || size > maxSize) {
+            return false;
+        }
+
+        if (modifiedSince != Long.MIN_VALUE || modifiedBefore != Long.MAX_VALUE) {
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            if (lastModified < modifiedSince || lastModified >= modifiedBefore) {
+                return false;
+            }
+        }
+
+        Path name = file.getFileName();
+        if (extensions != null && (name == null || !matchesExtension(name.toString()))) {
+            return false;
+        }
+
+        if (glob != null) {
+            Path target = globOnName ? name : root.relativize(file);
+            return target != null && glob.matches(target);
+        }
+
+        return true;
+    }
+
+    // 파일명의 확장자 혹은 복합 확장자가 지정한 확장자 중 하나와 일치하는지 여부
+    private boolean matchesExtension(@NonNull String name) {
+        String extension = ExtendedFile.extensionOf(name, false);
+        String compoundExtension = ExtendedFile.extensionOf(name, true);
+
+        return !extension.isEmpty()
+            && (extensions.contains(extension.toLowerCase(Locale.ROOT)) || extensions.contains(compoundExtension.toLowerCase(Locale.ROOT)));
+    }
+}
@@ -0,0 +1,156 @@
+package dev.retrotv.file;
+
+import dev.retrotv.file.ExtendedFile.EFileOperation;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 파일 작업의 JFR(Java Flight Recorder) 이벤트를 기록하는 클래스 입니다. (Java 11 이상)
+ * 작업 종류마다 dev.retrotv.file.Hash, MimeType, Compare, Walk, Delete 이벤트를 기록하며, 기본적으로 1ms 이상 걸린 작업만 기록합니다.
+ * 기준 시간은 JFR 설정에서 바꿀 수 있습니다. (예: jfr configure dev.retrotv.file.Hash#threshold=0ms)
+ *
+ * 이벤트가 어떤 기록에서도 활성화되어 있지 않으면 이벤트 객체를 생성하지 않습니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+final class FlightRecorder {
+
+    // 작업 종류별 이벤트 유형 (활성화 여부 확인용)
+    private static final Map<EFileOperation, EventType> TYPES = new EnumMap<>(EFileOperation.class);
+
+    static {
+        for (EFileOperation operation : EFileOperation.values()) {
+            TYPES.put(operation, EventType.getEventType(create(operation).getClass()));
+        }
+    }
+
+    private FlightRecorder() {
+        throw new UnsupportedOperationException("인스턴스를 생성할 수 없는 클래스입니다.");
+    }
+
+    /**
+     * 작업의 이벤트를 시작합니다.
+     *
+     * @param operation 작업 종류
+     * @return 시작한 이벤트 (이벤트가 활성화되어 있지 않으면 null)
+     */
+    static Object begin(EFileOperation operation) {
+        if (!TYPES.get(operation).isEnabled()) {
+            return null;
+        }
+
+        FileOperationEvent event = create(operation);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 시작한 이벤트를 끝내고, 기준 시간을 넘겼으면 기록합니다.
+     *
+     * @param event [#begin(EFileOperation)] 메서드가 반환한 이벤트
+     * @param path 작업 대상 경로
+     * @param algorithm 사용한 해시 알고리즘 이름 (사용하지 않았으면 null)
+     * @param bytes 처리한 바이트 수
+     * @param entries 방문한 항목 수
+     * @param error 작업 도중에 발생한 오류 (성공했으면 null)
+     */
+    static void commit(Object event, Path path, String algorithm, long bytes, long entries, Throwable error) {
+        FileOperationEvent operationEvent = (FileOperationEvent) event;
+        operationEvent.end();
+        if (!operationEvent.shouldCommit()) {
+            return;
+        }
+
+        operationEvent.path = path == null ? null : path.toString();
+        operationEvent.algorithm = algorithm;
+        operationEvent.bytes = bytes;
+        operationEvent.entries = entries;
+        operationEvent.error = error == null ? null : error.getClass().getName() + ": " + error.getMessage();
+        operationEvent.commit();
+    }
+
+    // 작업 종류에 해당하는 이벤트 객체를 생성
+    private static FileOperationEvent create(EFileOperation operation) {
+        switch (operation) {
+            case HASH:
+                return new HashEvent();
+            case MIME_TYPE:
+                return new MimeTypeEvent();
+            case COMPARE:
+                return new CompareEvent();
+            case WALK:
+                return new WalkEvent();
+            default:
+                return new DeleteEvent();
+        }
+    }
+
+    // 모든 파일 작업 이벤트가 공통으로 가지는 필드
+    @Category("Extended File")
+    @StackTrace(false)
+    @Threshold("1 ms")
+    abstract static class FileOperationEvent extends Event {
+
+        @Label("Path")
+        String path;
+
+        @Label("Algorithm")
+        @Description("사용한 해시 알고리즘 (여러 개이면 쉼표로 구분)")
+        String algorithm;
+
+        @Label("Bytes")
+        @Description("해시 코드 생성은 읽어들인 바이트 수, 비교는 비교를 마친 길이, 삭제는 확보한 용량")
+        @DataAmount
+        long bytes;
+
+        @Label("Entries")
+        @Description("탐색 및 삭제에서 방문한 항목 수")
+        long entries;
+
+        @Label("Error")
+        String error;
+    }
+
+    @Name("dev.retrotv.file.Hash")
+    @Label("File Hash")
+    @Description("파일의 해시 코드 생성 및 검증")
+    static final class HashEvent extends FileOperationEvent {
+    }
+
+    @Name("dev.retrotv.file.MimeType")
+    @Label("File MIME Type Detection")
+    @Description("파일의 MIME type 판별")
+    static final class MimeTypeEvent extends FileOperationEvent {
+    }
+
+    @Name("dev.retrotv.file.Compare")
+    @Label("File Compare")
+    @Description("두 파일의 내용 비교")
+    static final class CompareEvent extends FileOperationEvent {
+    }
+
+    @Name("dev.retrotv.file.Walk")
+    @Label("Directory Walk")
+    @Description("디렉터리 트리 탐색")
+    static final class WalkEvent extends FileOperationEvent {
+    }
+
+    @Name("dev.retrotv.file.Delete")
+    @Label("File Delete")
+    @Description("파일 및 디렉터리 삭제")
+    static final class DeleteEvent extends FileOperationEvent {
+    }
+}
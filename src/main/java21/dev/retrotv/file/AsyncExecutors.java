@@ -0,0 +1,34 @@
+package dev.retrotv.file;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 비동기 메서드가 기본으로 사용하는 [Executor]를 제공하는 클래스 입니다. (Java 21 이상)
+ * 작업마다 가상 스레드를 생성하므로, 파일 I/O를 기다리는 동안 플랫폼 스레드를 점유하지 않습니다.
+ *
+ * @author yjj8353
+ * @since 1.8.0
+ */
+final class AsyncExecutors {
+
+    private AsyncExecutors() {
+        throw new UnsupportedOperationException("인스턴스를 생성할 수 없는 클래스입니다.");
+    }
+
+    /**
+     * 비동기 메서드가 기본으로 사용하는 [Executor]를 반환합니다.
+     *
+     * @return 기본 [Executor]
+     */
+    static Executor defaultExecutor() {
+        return Holder.EXECUTOR;
+    }
+
+    // 처음 사용할 때 실행기를 생성
+    private static final class Holder {
+        private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("extended-file-async-", 1).factory());
+    }
+}
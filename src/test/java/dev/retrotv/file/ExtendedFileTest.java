@@ -1,14 +1,47 @@
 package dev.retrotv.file;
 
+import dev.retrotv.crypto.hash.Hash;
+import dev.retrotv.crypto.util.HEXCodecUtils;
 import org.junit.jupiter.api.*;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -71,6 +104,25 @@ class ExtendedFileTest {
         assertFalse(file.getMimeType().startsWith("application/vnd.openxmlformats-officedocument.wordprocessingml.document"));
     }
 
+    @Test
+    @DisplayName("getMimeType() 메서드 테스트 - MIME type 판별기 지정")
+    void test_getMimeType_detector() throws IOException, URISyntaxException {
+        assertSame(TikaMimeTypeDetector.getInstance(), ExtendedFile.getDefaultMimeTypeDetector());
+
+        ExtendedFile file = new ExtendedFile(Objects.requireNonNull(textFile).toURI());
+        assertSame(ExtendedFile.getDefaultMimeTypeDetector(), file.getMimeTypeDetector());
+
+        file.setMimeTypeDetector(new TikaMimeTypeDetector(8));
+        assertTrue(file.getMimeType().startsWith("text/plain"));
+
+        file.setMimeTypeDetector(f -> "image/png");
+        assertTrue(file.isImage());
+        assertFalse(file.isText());
+
+        file.setMimeTypeDetector(null);
+        assertTrue(file.isText());
+    }
+
     @Test
     @DisplayName("matchesMimeType() 메서드 테스트")
     void test_matchesMimeType() throws IOException, URISyntaxException {
@@ -117,6 +169,103 @@ class ExtendedFileTest {
         assertNotNull(file.getHash("SHA-512"));
     }
 
+    @Test
+    @DisplayName("getHash() 메서드 테스트 - 버퍼보다 큰 파일")
+    void test_getHash_streaming() throws IOException, URISyntaxException, NoSuchAlgorithmException {
+        ExtendedFile file = new ExtendedFile(Objects.requireNonNull(textFileMega).toURI());
+        byte[] expected = MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file.toPath()));
+
+        assertEquals(HEXCodecUtils.encode(expected), file.getHash(ExtendedFile.EHash.SHA256));
+
+        // 기존 방식(전체 파일을 읽어서 라이브러리로 계산)과 결과가 같아야 함 (실행 중인 JDK가 지원하지 않는 알고리즘은 제외)
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        for (ExtendedFile.EHash hash : ExtendedFile.EHash.values()) {
+            if (isSupported(hash)) {
+                Hash hashInstance = Hash.getInstance(StreamingDigest.selectHashAlgorithm(hash));
+                assertEquals(HEXCodecUtils.encode(hashInstance.hashing(bytes)), file.getHash(hash));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("getHash() 메서드 테스트 - CRC32는 4바이트 빅 엔디언으로 출력")
+    void test_getHash_crc32() throws IOException {
+        Path path = Files.createTempFile("crc32", ".txt");
+        try {
+            // CRC-32 검사 값 (CRC32("123456789") = 0xCBF43926)
+            Files.write(path, "123456789".getBytes(StandardCharsets.US_ASCII));
+            String expected = HEXCodecUtils.encode(new byte[] { (byte) 0xCB, (byte) 0xF4, 0x39, 0x26 });
+            assertEquals(expected, new ExtendedFile(path.toString()).getHash(ExtendedFile.EHash.CRC32));
+
+            // 상위 바이트가 0인 값도 4바이트로 출력 (CRC32("a") = 0xE8B7BE43, CRC32("") = 0x00000000)
+            Files.write(path, "a".getBytes(StandardCharsets.US_ASCII));
+            assertEquals(HEXCodecUtils.encode(new byte[] { (byte) 0xE8, (byte) 0xB7, (byte) 0xBE, 0x43 }), new ExtendedFile(path.toString()).getHash(ExtendedFile.EHash.CRC32));
+            Files.write(path, new byte[0]);
+            assertEquals(HEXCodecUtils.encode(new byte[4]), new ExtendedFile(path.toString()).getHash(ExtendedFile.EHash.CRC32));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    @DisplayName("getHash() 메서드 테스트 - JDK가 지원하지 않는 알고리즘")
+    void test_getHash_unsupported() throws NoSuchAlgorithmException {
+        ExtendedFile.EHash[] hashes = {
+              ExtendedFile.EHash.SHA512224, ExtendedFile.EHash.SHA512256
+            , ExtendedFile.EHash.SHA3224, ExtendedFile.EHash.SHA3256, ExtendedFile.EHash.SHA3384, ExtendedFile.EHash.SHA3512
+        };
+        String[] names = { "SHA-512/224", "SHA-512/256", "SHA3-224", "SHA3-256", "SHA3-384", "SHA3-512" };
+
+        byte[] data = new byte[1000];
+        new Random(1).nextBytes(data);
+
+        for (int i = 0; i < hashes.length; i++) {
+            ExtendedFile.EHash hash = hashes[i];
+            if (!isSupported(hash)) {
+                // Java 8에서는 직접 계산하지 않고 명확하게 실패해야 함
+                assertThrows(UnsupportedOperationException.class, () -> StreamingDigest.of(hash));
+                continue;
+            }
+
+            // 조각 단위로 입력해도 한 번에 계산한 결과와 같아야 함
+            byte[] expected = MessageDigest.getInstance(names[i]).digest(data);
+            StreamingDigest digest = StreamingDigest.of(hash);
+            for (int offset = 0; offset < data.length; offset += 7) {
+                digest.update(data, offset, Math.min(7, data.length - offset));
+            }
+            assertArrayEquals(expected, digest.digest());
+        }
+    }
+
+    // 실행 중인 JDK가 알고리즘을 지원하는지 여부
+    private static boolean isSupported(ExtendedFile.EHash hash) {
+        try {
+            StreamingDigest.of(hash);
+            return true;
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    @Test
+    @DisplayName("getHashes() 메서드 테스트")
+    void test_getHashes() throws IOException, URISyntaxException {
+        ExtendedFile file = new ExtendedFile(Objects.requireNonNull(textFileMega).toURI());
+        ExtendedFile.EHash[] hashes = ExtendedFile.EHash.values();
+
+        Map<ExtendedFile.EHash, String> sequential = file.getHashes(hashes);
+        Map<ExtendedFile.EHash, String> parallel = file.getHashes(ForkJoinPool.commonPool(), hashes);
+
+        assertEquals(hashes.length, sequential.size());
+        for (ExtendedFile.EHash hash : hashes) {
+            String expected = new ExtendedFile(file.getPath()).getHash(hash);
+            assertEquals(expected, sequential.get(hash));
+            assertEquals(expected, parallel.get(hash));
+        }
+
+        assertThrows(IllegalArgumentException.class, file::getHashes);
+    }
+
     @Nested
     @DisplayName("matches() 메서드 테스트")
     class MatchesTest {
@@ -152,6 +301,1222 @@ class ExtendedFileTest {
             assertFalse(file.matches(file2, ExtendedFile.EHash.SHA256));
             assertFalse(file.matches(file2, "SHA-256"));
         }
+
+        @Test
+        @DisplayName("읽기 방식을 지정한 경우")
+        void test_matches_readMode() throws IOException, URISyntaxException {
+            ExtendedFile file = new ExtendedFile(Objects.requireNonNull(textFile).toURI());
+            ExtendedFile same = new ExtendedFile(Objects.requireNonNull(textFileCopy).toURI());
+            ExtendedFile different = new ExtendedFile(Objects.requireNonNull(textFileDifferent).toURI());
+
+            for (ExtendedFile.EReadMode readMode : ExtendedFile.EReadMode.values()) {
+                assertTrue(file.matches(same, readMode));
+                assertFalse(file.matches(different, readMode));
+            }
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 해시 알고리즘 문자열인 경우")
+        void test_matches_invalidAlgorithm() throws URISyntaxException {
+            ExtendedFile file = new ExtendedFile(Objects.requireNonNull(textFile).toURI());
+            ExtendedFile file2 = new ExtendedFile(Objects.requireNonNull(textFileCopy).toURI());
+            assertThrows(IllegalArgumentException.class, () -> file.matches(file2, "SHA-0"));
+        }
+    }
+
+    @Nested
+    @DisplayName("compare() 메서드 테스트")
+    class CompareTest {
+
+        @Test
+        @DisplayName("파일이 같은 경우 - 해시 코드 반환")
+        void test_compare_same() throws IOException, URISyntaxException {
+            ExtendedFile file = new ExtendedFile(Objects.requireNonNull(textFile).toURI());
+            ExtendedFile file2 = new ExtendedFile(Objects.requireNonNull(textFileCopy).toURI());
+
+            FileComparison comparison = file.compare(file2, ExtendedFile.EHash.SHA256);
+            assertTrue(comparison.isMatch());
+            assertEquals(file.length(), comparison.getComparedBytes());
+            assertEquals(file.getHash(ExtendedFile.EHash.SHA256), comparison.getHash());
+            assertEquals(file2.getHash(ExtendedFile.EHash.SHA256), comparison.getHash());
+        }
+
+        @Test
+        @DisplayName("파일의 길이가 다른 경우 - 내용을 읽지 않음")
+        void test_compare_differentLength() throws IOException, URISyntaxException {
+            ExtendedFile file = new ExtendedFile(Objects.requireNonNull(textFile).toURI());
+            ExtendedFile file2 = new ExtendedFile(Objects.requireNonNull(textFileDifferent).toURI());
+
+            FileComparison comparison = file.compare(file2, ExtendedFile.EHash.SHA256);
+            assertFalse(comparison.isMatch());
+            assertEquals(0, comparison.getComparedBytes());
+            assertNull(comparison.getHash());
+        }
+
+        @Test
+        @DisplayName("첫 블록이 다른 경우 - 나머지 블록을 읽지 않음")
+        void test_compare_differentFirstBlock() throws IOException {
+            byte[] content = new byte[1024 * 1024];
+            Path source = Files.createTempFile("compare", ".bin");
+            Path target = Files.createTempFile("compare", ".bin");
+            try {
+                Files.write(source, content);
+                content[0] = 1;
+                Files.write(target, content);
+
+                FileComparison comparison = new ExtendedFile(source.toString()).compare(target.toFile(), ExtendedFile.EHash.MD5);
+                assertFalse(comparison.isMatch());
+                assertEquals(0, comparison.getComparedBytes());
+                assertFalse(new ExtendedFile(source.toString()).matches(target.toFile()));
+            } finally {
+                Files.delete(source);
+                Files.delete(target);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("메타데이터 캐시 테스트")
+    class MetadataCacheTest {
+
+        @Test
+        @DisplayName("객체에 보관 - 크기나 수정 시각이 바뀌면 다시 계산")
+        void test_metadataCaching() throws IOException {
+            Path path = Files.createTempFile("cache", ".txt");
+            try {
+                Files.write(path, "metadata".getBytes());
+                AtomicInteger detections = new AtomicInteger();
+
+                ExtendedFile file = new ExtendedFile(path.toString());
+                file.setMimeTypeDetector(f -> {
+                    detections.incrementAndGet();
+                    return "text/plain";
+                });
+                file.setMetadataCaching(true);
+
+                assertTrue(file.isText());
+                assertFalse(file.isImage());
+                assertEquals(1, detections.get());
+
+                String hash = file.getHash();
+                assertEquals(hash, file.getHash());
+
+                Files.write(path, "changed metadata".getBytes());
+                assertTrue(file.setLastModified(file.lastModified() + 2000));
+                assertTrue(file.isText());
+                assertEquals(2, detections.get());
+                assertNotEquals(hash, file.getHash());
+            } finally {
+                Files.delete(path);
+            }
+        }
+
+        @Test
+        @DisplayName("탐색 결과 - 탐색 이후에 파일이 바뀌면 다시 계산")
+        void test_metadataCaching_walkResult() throws IOException {
+            Path directory = Files.createTempDirectory("cache");
+            Path path = Files.write(directory.resolve("file.txt"), "metadata".getBytes());
+            try {
+                ExtendedFile file = new ExtendedFile(directory.toString()).walkFiles(WalkOptions.defaults().includeDirectories(false)).get(0);
+                assertNotNull(file.getSnapshot());
+                file.setMetadataCaching(true);
+
+                String hash = file.getHash();
+                assertEquals(hash, file.getHash());
+
+                // 보관 중인 속성을 거치지 않고 파일을 바꿈
+                long lastModified = path.toFile().lastModified();
+                Files.write(path, "changed metadata".getBytes());
+                assertTrue(path.toFile().setLastModified(lastModified + 2000));
+
+                assertEquals(Files.size(path), file.length());
+                assertNotEquals(hash, file.getHash());
+                assertEquals(new ExtendedFile(path.toString()).getHash(), file.getHash());
+            } finally {
+                new ExtendedFile(directory.toString()).rm(true);
+            }
+        }
+
+        @Test
+        @DisplayName("공유 캐시 - 같은 경로의 다른 객체도 캐시 사용")
+        void test_defaultMetadataCache() throws IOException {
+            Path path = Files.createTempFile("cache", ".txt");
+            Path other = Files.createTempFile("cache", ".txt");
+            FileMetadataCache cache = new FileMetadataCache(1);
+            ExtendedFile.setDefaultMetadataCache(cache);
+            try {
+                Files.write(path, "metadata".getBytes());
+                AtomicInteger detections = new AtomicInteger();
+                MimeTypeDetector detector = f -> {
+                    detections.incrementAndGet();
+                    return "text/plain";
+                };
+
+                ExtendedFile file = new ExtendedFile(path.toString());
+                file.setMimeTypeDetector(detector);
+                file.getMimeType();
+
+                ExtendedFile sameFile = new ExtendedFile(path.toString());
+                sameFile.setMimeTypeDetector(detector);
+                sameFile.getMimeType();
+                assertEquals(1, detections.get());
+
+                // 최대 개수를 넘으면 가장 오래된 항목이 제거됨
+                ExtendedFile otherFile = new ExtendedFile(other.toString());
+                otherFile.setMimeTypeDetector(detector);
+                otherFile.getMimeType();
+                assertEquals(1, cache.size());
+
+                sameFile.getMimeType();
+                assertEquals(3, detections.get());
+            } finally {
+                ExtendedFile.setDefaultMetadataCache(null);
+                Files.delete(path);
+                Files.delete(other);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("해시 코드 색인 테스트")
+    class HashIndexTest {
+
+        @Test
+        @DisplayName("크기와 수정 시각이 같으면 색인의 해시 코드 사용")
+        void test_hashIndex() throws IOException {
+            Path directory = Files.createTempDirectory("index");
+            Path path = Files.write(directory.resolve("file.txt"), "original".getBytes());
+            Path indexFile = directory.resolve("hash.index");
+            try {
+                String hash;
+                try (HashIndex index = HashIndex.open(indexFile)) {
+                    ExtendedFile.setDefaultHashIndex(index);
+                    hash = new ExtendedFile(path.toString()).getHash();
+                    assertEquals(1, index.size());
+                } finally {
+                    ExtendedFile.setDefaultHashIndex(null);
+                }
+
+                // 크기와 수정 시각을 유지한 채 내용만 바꾸면 색인의 해시 코드가 반환됨
+                long lastModified = path.toFile().lastModified();
+                Files.write(path, "modified".getBytes());
+                assertTrue(path.toFile().setLastModified(lastModified));
+
+                try (HashIndex index = HashIndex.open(indexFile)) {
+                    ExtendedFile.setDefaultHashIndex(index);
+                    ExtendedFile file = new ExtendedFile(path.toString());
+                    assertEquals(hash, file.getHash());
+                    assertEquals(hash, file.getHashes(ExtendedFile.EHash.SHA256, ExtendedFile.EHash.MD5).get(ExtendedFile.EHash.SHA256));
+
+                    assertTrue(path.toFile().setLastModified(lastModified + 2000));
+                    assertNotEquals(hash, file.getHash());
+
+                    // 수정 시각이 바뀌기 전의 SHA-256, MD5 기록은 더 이상 사용하지 않음
+                    assertEquals(2, index.getObsoleteCount());
+                } finally {
+                    ExtendedFile.setDefaultHashIndex(null);
+                }
+            } finally {
+                new ExtendedFile(directory.toString()).rm(true);
+            }
+        }
+
+        @Test
+        @DisplayName("손상된 줄은 무시하고, 정리하면 사용 중인 기록만 남음")
+        void test_hashIndex_compact() throws IOException {
+            Path directory = Files.createTempDirectory("index");
+            Path path = Files.write(directory.resolve("file.txt"), "content".getBytes());
+            Path indexFile = directory.resolve("hash.index");
+            try {
+                String md5;
+                try (HashIndex index = HashIndex.open(indexFile)) {
+                    ExtendedFile.setDefaultHashIndex(index);
+                    ExtendedFile file = new ExtendedFile(path.toString());
+                    file.getHash(ExtendedFile.EHash.SHA256);
+                    md5 = file.getHash(ExtendedFile.EHash.MD5);
+                } finally {
+                    ExtendedFile.setDefaultHashIndex(null);
+                }
+
+                // 기록 도중에 중단된 것처럼 끊긴 줄을 추가
+                List<String> lines = Files.readAllLines(indexFile);
+                String torn = lines.get(0).substring(0, lines.get(0).length() - 5);
+                Files.write(indexFile, torn.getBytes(), StandardOpenOption.APPEND);
+
+                try (HashIndex index = HashIndex.open(indexFile)) {
+                    assertEquals(1, index.size());
+                    assertEquals(1, index.getObsoleteCount());
+
+                    index.compact();
+                    assertEquals(0, index.getObsoleteCount());
+                    assertEquals(2, Files.readAllLines(indexFile).size());
+                }
+
+                try (HashIndex index = HashIndex.open(indexFile)) {
+                    ExtendedFile.setDefaultHashIndex(index);
+                    assertEquals(1, index.size());
+                    assertEquals(md5, new ExtendedFile(path.toString()).getHash(ExtendedFile.EHash.MD5));
+                    assertEquals(0, index.getObsoleteCount());
+                } finally {
+                    ExtendedFile.setDefaultHashIndex(null);
+                }
+            } finally {
+                new ExtendedFile(directory.toString()).rm(true);
+            }
+        }
+
+        @Test
+        @DisplayName("정리하면 삭제된 파일의 기록을 버림")
+        void test_hashIndex_compact_missing() throws IOException {
+            Path directory = Files.createTempDirectory("index");
+            Path kept = Files.write(directory.resolve("kept.txt"), "kept".getBytes());
+            Path removed = Files.write(directory.resolve("removed.txt"), "removed".getBytes());
+            Path indexFile = directory.resolve("hash.index");
+            try (HashIndex index = HashIndex.open(indexFile)) {
+                ExtendedFile.setDefaultHashIndex(index);
+                new ExtendedFile(kept.toString()).getHash();
+                new ExtendedFile(removed.toString()).getHash();
+                assertEquals(2, index.size());
+
+                Files.delete(removed);
+                index.compact();
+                assertEquals(1, index.size());
+                assertEquals(0, index.getObsoleteCount());
+                assertEquals(1, Files.readAllLines(indexFile).size());
+
+                // 정리한 다음에도 계속 기록할 수 있어야 함
+                new ExtendedFile(kept.toString()).getHash(ExtendedFile.EHash.MD5);
+                assertEquals(2, Files.readAllLines(indexFile).size());
+            } finally {
+                ExtendedFile.setDefaultHashIndex(null);
+                new ExtendedFile(directory.toString()).rm(true);
+            }
+        }
+
+        @Test
+        @DisplayName("교체에 실패하면 원래 오류를 던지고, 다시 열지 못한 오류는 suppressed로 전달")
+        void test_hashIndex_compact_failure() throws IOException {
+            Path directory = Files.createTempDirectory("index");
+            Path path = Files.write(directory.resolve("file.txt"), "content".getBytes());
+            Path indexFile = directory.resolve("hash.index");
+            try {
+                HashIndex index = HashIndex.open(indexFile);
+                ExtendedFile.setDefaultHashIndex(index);
+                new ExtendedFile(path.toString()).getHash();
+                ExtendedFile.setDefaultHashIndex(null);
+
+                // 색인 파일 자리에 비어 있지 않은 디렉터리를 두어 교체와 다시 열기가 모두 실패하도록 함
+                Files.delete(indexFile);
+                Files.write(Files.createDirectory(indexFile).resolve("blocker"), new byte[0]);
+
+                IOException e = assertThrows(IOException.class, index::compact);
+                assertEquals(1, e.getSuppressed().length);
+                assertThrows(IOException.class, index::compact);
+                index.close();
+
+                try (Stream<Path> temporaries = Files.list(directory)) {
+                    assertEquals(0, temporaries.filter(p -> p.toString().endsWith(".tmp")).count());
+                }
+            } finally {
+                ExtendedFile.setDefaultHashIndex(null);
+                new ExtendedFile(directory.toString()).rm(true);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("읽기 방식 테스트")
+    class ReadModeTest {
+
+        @Test
+        @DisplayName("읽기 방식과 관계없이 같은 결과")
+        void test_readMode() throws IOException, URISyntaxException {
+            ExtendedFile file = new ExtendedFile(Objects.requireNonNull(textFileMega).toURI());
+            ExtendedFile different = new ExtendedFile(Objects.requireNonNull(textFile).toURI());
+            Path copy = Files.createTempFile("mode", ".txt");
+            try {
+                Files.copy(file.toPath(), copy, StandardCopyOption.REPLACE_EXISTING);
+                ExtendedFile same = new ExtendedFile(copy.toString());
+
+                for (ExtendedFile.EHash hash : Arrays.asList(ExtendedFile.EHash.CRC32, ExtendedFile.EHash.SHA256, ExtendedFile.EHash.SHA512)) {
+                    String expected = file.getHash(hash, ExtendedFile.EReadMode.HEAP);
+                    for (ExtendedFile.EReadMode mode : ExtendedFile.EReadMode.values()) {
+                        assertEquals(expected, file.getHash(hash, mode));
+                        assertEquals(expected, file.compare(same, hash, mode).getHash());
+                    }
+                }
+
+                for (ExtendedFile.EReadMode mode : ExtendedFile.EReadMode.values()) {
+                    assertTrue(file.matches(same, mode));
+                    assertFalse(file.matches(different, mode));
+                }
+            } finally {
+                // 매핑한 구간은 곧바로 해제되므로 삭제할 수 있음
+                Files.delete(copy);
+            }
+        }
+
+        @Test
+        @DisplayName("기본 읽기 방식 지정")
+        void test_defaultReadMode() throws IOException, URISyntaxException {
+            ExtendedFile file = new ExtendedFile(Objects.requireNonNull(textFileMega).toURI());
+            String expected = file.getHash();
+            assertEquals(ExtendedFile.EReadMode.HEAP, ExtendedFile.getDefaultReadMode());
+
+            ExtendedFile.setDefaultReadMode(ExtendedFile.EReadMode.MAPPED);
+            try {
+                assertEquals(expected, new ExtendedFile(file.getPath()).getHash());
+                assertTrue(file.verify(ExtendedFile.EHash.SHA256, expected));
+                assertEquals(-1, file.mismatch(new ExtendedFile(file.getPath())));
+            } finally {
+                ExtendedFile.setDefaultReadMode(ExtendedFile.EReadMode.HEAP);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("verify() 메서드 테스트")
+    class VerifyTest {
+
+        @Test
+        @DisplayName("기대하는 해시 코드와 비교")
+        void test_verify() throws IOException, URISyntaxException {
+            ExtendedFile file = new ExtendedFile(Objects.requireNonNull(textFileMega).toURI());
+            String hash = file.getHash(ExtendedFile.EHash.SHA256);
+
+            assertTrue(file.verify(ExtendedFile.EHash.SHA256, hash));
+            assertTrue(file.verify(ExtendedFile.EHash.SHA256, hash.toUpperCase()));
+            assertFalse(file.verify(ExtendedFile.EHash.SHA256, new ExtendedFile(Objects.requireNonNull(textFile).toURI()).getHash()));
+            assertTrue(file.verify(ExtendedFile.EHash.CRC32, file.getHash(ExtendedFile.EHash.CRC32)));
+
+            // 길이가 다르면 파일을 읽지 않음
+            AtomicInteger progress = new AtomicInteger();
+            assertFalse(file.verify(ExtendedFile.EHash.SHA256, "abcd", (read, total, elapsed) -> progress.incrementAndGet(), 0, TimeUnit.SECONDS));
+            assertEquals(0, progress.get());
+
+            assertThrows(IllegalArgumentException.class, () -> file.verify(ExtendedFile.EHash.SHA256, "xyz"));
+        }
+
+        @Test
+        @DisplayName("진행 상황 전달과 취소")
+        void test_verify_progress() throws IOException, URISyntaxException {
+            ExtendedFile file = new ExtendedFile(Objects.requireNonNull(textFileMega).toURI());
+            String hash = file.getHash(ExtendedFile.EHash.SHA256);
+            long[] last = new long[2];
+
+            assertTrue(file.verify(ExtendedFile.EHash.SHA256, hash, (read, total, elapsed) -> {
+                assertTrue(read > last[0]);
+                last[0] = read;
+                last[1] = total;
+            }, 1, TimeUnit.HOURS));
+            assertEquals(file.length(), last[0]);
+            assertEquals(file.length(), last[1]);
+
+            ProgressListener cancel = new ProgressListener() {
+                @Override
+                public void onProgress(long bytesRead, long totalBytes, long elapsedNanos) {
+                    // 진행 상황은 사용하지 않음
+                }
+
+                @Override
+                public boolean isCancelled() {
+                    return true;
+                }
+            };
+            assertThrows(InterruptedIOException.class, () -> file.verify(ExtendedFile.EHash.SHA256, hash, cancel, 0, TimeUnit.SECONDS));
+            assertThrows(InterruptedIOException.class, () -> file.verify(ExtendedFile.EHash.SHA256, hash, null, 1, TimeUnit.NANOSECONDS));
+        }
+    }
+
+    @Nested
+    @DisplayName("비동기 메서드 테스트")
+    class AsyncTest {
+
+        @Test
+        @DisplayName("동기 메서드와 같은 결과 반환")
+        void test_async() throws Exception {
+            ExtendedFile file = new ExtendedFile(Objects.requireNonNull(textFile).toURI());
+            ExtendedFile copy = new ExtendedFile(Objects.requireNonNull(textFileCopy).toURI());
+            ExtendedFile directory = new ExtendedFile(Objects.requireNonNull(directoryFile).toURI());
+
+            assertEquals(file.getHash(ExtendedFile.EHash.SHA256), file.getHashAsync(ExtendedFile.EHash.SHA256).get(10, TimeUnit.SECONDS));
+            assertEquals(file.getMimeType(), file.getMimeTypeAsync().get(10, TimeUnit.SECONDS));
+            assertTrue(file.matchesAsync(copy).get(10, TimeUnit.SECONDS));
+            assertTrue(file.matchesDeepAsync(copy).get(10, TimeUnit.SECONDS));
+            assertEquals(directory.walkFiles(), directory.walkFilesAsync().get(10, TimeUnit.SECONDS));
+            assertEquals(directory.walkFiles(1), directory.walkFilesAsync(1).get(10, TimeUnit.SECONDS));
+
+            Path root = Files.createTempDirectory("async");
+            Files.write(Files.createDirectories(root.resolve("one/two")).resolve("a.txt"), new byte[10]);
+            assertTrue(new ExtendedFile(root.toString()).rmAsync(true).get(10, TimeUnit.SECONDS));
+            assertFalse(Files.exists(root));
+        }
+
+        @Test
+        @DisplayName("재귀 삭제는 지정한 실행기에서 실행")
+        void test_rmAsync_executor() throws Exception {
+            // ForkJoinPool이 아니면 실행기의 스레드에서 순서대로 삭제하므로, 호출한 스레드에서 실행하는 실행기는 삭제를 마친 future를 반환
+            Path root = Files.createTempDirectory("async");
+            Files.write(Files.createDirectories(root.resolve("one/two")).resolve("a.txt"), new byte[10]);
+            Files.write(Files.createDirectories(root.resolve("three")).resolve("b.txt"), new byte[10]);
+            CompletableFuture<Boolean> future = new ExtendedFile(root.toString()).rmAsync(true, Runnable::run);
+            assertTrue(future.isDone());
+            assertTrue(future.join());
+            assertFalse(Files.exists(root));
+
+            // ForkJoinPool이면 해당 풀에서 병렬로 삭제
+            ForkJoinPool pool = new ForkJoinPool(2);
+            try {
+                root = Files.createTempDirectory("async");
+                Files.write(Files.createDirectories(root.resolve("one/two")).resolve("a.txt"), new byte[10]);
+                assertTrue(new ExtendedFile(root.toString()).rmAsync(true, pool).get(10, TimeUnit.SECONDS));
+                assertFalse(Files.exists(root));
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("기본 실행기 지정과 오류 전달")
+        void test_async_executor() throws URISyntaxException {
+            ExtendedFile file = new ExtendedFile(Objects.requireNonNull(textFile).toURI());
+            AtomicInteger executed = new AtomicInteger();
+            Executor executor = command -> {
+                executed.incrementAndGet();
+                command.run();
+            };
+
+            ExtendedFile.setDefaultAsyncExecutor(executor);
+            try {
+                assertSame(executor, ExtendedFile.getDefaultAsyncExecutor());
+                assertTrue(file.getHashAsync(ExtendedFile.EHash.CRC32).isDone());
+                assertEquals(1, executed.get());
+            } finally {
+                ExtendedFile.setDefaultAsyncExecutor(null);
+            }
+            assertNotSame(executor, ExtendedFile.getDefaultAsyncExecutor());
+
+            CompletableFuture<String> missing = new ExtendedFile("./not_exists_file").getHashAsync(ExtendedFile.EHash.SHA256);
+            ExecutionException e = assertThrows(ExecutionException.class, () -> missing.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(IOException.class, e.getCause());
+        }
+
+        @Test
+        @DisplayName("취소하면 작업 중인 스레드를 인터럽트")
+        void test_async_cancel() throws InterruptedException {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch interrupted = new CountDownLatch(1);
+
+            CompletableFuture<String> future = AsyncTask.submit(ExtendedFile.getDefaultAsyncExecutor(), cancelled -> {
+                started.countDown();
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                } catch (InterruptedException e) {
+                    assertTrue(cancelled.getAsBoolean());
+                    interrupted.countDown();
+                }
+
+                return "done";
+            });
+
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            assertTrue(future.cancel(true));
+            assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+            assertThrows(CancellationException.class, future::join);
+        }
+    }
+
+    @Nested
+    @DisplayName("파일 작업 지표 테스트")
+    class MetricsTest {
+
+        @Test
+        @DisplayName("작업 종류와 알고리즘별로 지표 기록")
+        void test_metrics() throws IOException, URISyntaxException {
+            ExtendedFile file = new ExtendedFile(Objects.requireNonNull(textFileMega).toURI());
+            ExtendedFile copy = new ExtendedFile(Objects.requireNonNull(textFile).toURI());
+            ExtendedFile directory = new ExtendedFile(Objects.requireNonNull(directoryFile).toURI());
+            InMemoryFileMetrics metrics = new InMemoryFileMetrics();
+
+            assertSame(FileMetrics.NOOP, ExtendedFile.getDefaultMetrics());
+            ExtendedFile.setDefaultMetrics(metrics);
+            try {
+                file.getHash(ExtendedFile.EHash.SHA256);
+                file.getHashes(ExtendedFile.EHash.MD5, ExtendedFile.EHash.CRC32);
+                file.getMimeType();
+                file.matchesDeep(file);
+                file.mismatch(copy);
+                directory.walkFiles();
+                assertThrows(IOException.class, () -> new ExtendedFile("./not_exists_file").getHash(ExtendedFile.EHash.SHA256));
+
+                Path root = Files.createTempDirectory("metrics");
+                Files.write(root.resolve("a.txt"), new byte[10]);
+                assertTrue(new ExtendedFile(root.toString()).rm(true));
+            } finally {
+                ExtendedFile.setDefaultMetrics(null);
+            }
+            assertSame(FileMetrics.NOOP, ExtendedFile.getDefaultMetrics());
+
+            InMemoryFileMetrics.Snapshot sha256 = metrics.getSnapshot(ExtendedFile.EFileOperation.HASH, ExtendedFile.EHash.SHA256);
+            assertEquals(2, sha256.getCount());
+            assertEquals(1, sha256.getErrorCount());
+            assertEquals(file.length(), sha256.getBytes());
+            assertTrue(sha256.getMaxNanos() > 0);
+
+            assertEquals(1, metrics.getSnapshot(ExtendedFile.EFileOperation.HASH, ExtendedFile.EHash.MD5).getCount());
+            assertEquals(4, metrics.getSnapshot(ExtendedFile.EFileOperation.HASH).getCount());
+            assertEquals(1, metrics.getSnapshot(ExtendedFile.EFileOperation.MIME_TYPE).getCount());
+            assertEquals(2, metrics.getSnapshot(ExtendedFile.EFileOperation.COMPARE).getCount());
+            // 내용이 다른 파일은 첫 블록에서 비교를 마치므로, 비교를 마친 길이는 같은 파일과 비교한 길이뿐
+            assertEquals(file.length(), metrics.getSnapshot(ExtendedFile.EFileOperation.COMPARE).getBytes());
+            assertEquals(1, metrics.getSnapshot(ExtendedFile.EFileOperation.WALK).getCount());
+            assertEquals(10, metrics.getSnapshot(ExtendedFile.EFileOperation.DELETE).getBytes());
+
+            metrics.reset();
+            assertEquals(0, metrics.getSnapshot(ExtendedFile.EFileOperation.HASH).getCount());
+        }
+
+        @Test
+        @DisplayName("탐색 도중 예외가 발생해도 탐색 지표 기록")
+        void test_metrics_walkError() throws IOException {
+            Path root = Files.createTempDirectory("metrics");
+            Files.createDirectories(root.resolve("one/two"));
+            ExtendedFile directory = new ExtendedFile(root.toString());
+            WalkOptions options = WalkOptions.defaults().prune(path -> {
+                throw new IllegalStateException(path.toString());
+            });
+            InMemoryFileMetrics metrics = new InMemoryFileMetrics();
+
+            ExtendedFile.setDefaultMetrics(metrics);
+            try {
+                assertThrows(IllegalStateException.class, () -> directory.walkFiles(options));
+                assertThrows(IllegalStateException.class, () -> directory.walkFilesParallel(options));
+            } finally {
+                ExtendedFile.setDefaultMetrics(null);
+                assertTrue(directory.rm(true));
+            }
+
+            InMemoryFileMetrics.Snapshot walk = metrics.getSnapshot(ExtendedFile.EFileOperation.WALK);
+            assertEquals(2, walk.getCount());
+            assertEquals(2, walk.getErrorCount());
+        }
+
+        @Test
+        @DisplayName("소요 시간의 백분위 수")
+        void test_metrics_percentile() {
+            InMemoryFileMetrics metrics = new InMemoryFileMetrics();
+            for (long i = 1; i <= 1000; i++) {
+                metrics.record(ExtendedFile.EFileOperation.WALK, null, 0, TimeUnit.MICROSECONDS.toNanos(i), null);
+            }
+
+            InMemoryFileMetrics.Snapshot snapshot = metrics.getSnapshot(ExtendedFile.EFileOperation.WALK);
+            long p50 = snapshot.getPercentile(50);
+            assertTrue(p50 >= TimeUnit.MICROSECONDS.toNanos(500) && p50 <= TimeUnit.MICROSECONDS.toNanos(563), String.valueOf(p50));
+            assertEquals(TimeUnit.MICROSECONDS.toNanos(1000), snapshot.getPercentile(100));
+            assertEquals(TimeUnit.MICROSECONDS.toNanos(1000), snapshot.getMaxNanos());
+            assertEquals(TimeUnit.MICROSECONDS.toNanos(1001) / 2.0, snapshot.getMeanNanos(), 1);
+            assertEquals(0, metrics.getSnapshot(ExtendedFile.EFileOperation.DELETE).getPercentile(99));
+            assertThrows(IllegalArgumentException.class, () -> snapshot.getPercentile(101));
+
+            // 구간의 상한은 구간에 속하는 값보다 크거나 같고, 다음 구간의 값보다 작음
+            for (long value : new long[] { 0, 15, 16, 17, 1000, 123456789, Long.MAX_VALUE }) {
+                int bucket = InMemoryFileMetrics.bucket(value);
+                assertTrue(InMemoryFileMetrics.bucketUpperBound(bucket) >= value);
+                assertTrue(bucket == 0 || InMemoryFileMetrics.bucketUpperBound(bucket - 1) < value);
+            }
+        }
+
+        @Test
+        @DisplayName("여러 구현체에 전달")
+        void test_metrics_compose() throws IOException, URISyntaxException {
+            InMemoryFileMetrics first = new InMemoryFileMetrics();
+            InMemoryFileMetrics second = new InMemoryFileMetrics();
+            FileMetrics failing = (operation, hash, bytes, elapsedNanos, error) -> {
+                throw new IllegalStateException("지표 기록 실패");
+            };
+
+            ExtendedFile.setDefaultMetrics(FileMetrics.compose(first, second, failing));
+            try {
+                assertNotNull(new ExtendedFile(Objects.requireNonNull(textFile).toURI()).getHash(ExtendedFile.EHash.CRC32));
+            } finally {
+                ExtendedFile.setDefaultMetrics(null);
+            }
+
+            assertEquals(1, first.getSnapshot(ExtendedFile.EFileOperation.HASH, ExtendedFile.EHash.CRC32).getCount());
+            assertEquals(1, second.getSnapshot(ExtendedFile.EFileOperation.HASH, ExtendedFile.EHash.CRC32).getCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("watch() 메서드 테스트")
+    class WatchTest {
+
+        @Test
+        @DisplayName("생성, 변경, 삭제 및 새로 생성된 하위 디렉터리 감시")
+        void test_watch() throws IOException, InterruptedException {
+            Path root = Files.createTempDirectory("watch");
+            BlockingQueue<String> changes = new LinkedBlockingQueue<>();
+            ExtendedFile directory = new ExtendedFile(root.toString());
+
+            try (FileWatcher watcher = directory.watch(200, (change, file) -> changes.add(change + " " + file.getName()))) {
+                assertTrue(watcher.isOpen());
+                assertEquals(directory.getAbsolutePath(), watcher.getRoot().getAbsolutePath());
+
+                Files.write(root.resolve("a.txt"), new byte[10]);
+                assertEquals(Collections.singleton("CREATE a.txt"), take(changes, 1));
+
+                Files.write(root.resolve("a.txt"), new byte[20], StandardOpenOption.APPEND);
+                assertEquals(Collections.singleton("MODIFY a.txt"), take(changes, 1));
+
+                // 감시 대상으로 등록하기 전에 생성된 내부 항목도 전달되어야 함
+                Files.write(Files.createDirectories(root.resolve("one/two")).resolve("b.txt"), new byte[10]);
+                assertEquals(new HashSet<>(Arrays.asList("CREATE one", "CREATE two", "CREATE b.txt")), take(changes, 3));
+
+                Files.write(root.resolve("one/two/c.txt"), new byte[10]);
+                assertEquals(Collections.singleton("CREATE c.txt"), take(changes, 1));
+
+                Files.delete(root.resolve("a.txt"));
+                assertEquals(Collections.singleton("DELETE a.txt"), take(changes, 1));
+            }
+
+            assertNull(changes.poll(500, TimeUnit.MILLISECONDS));
+            new ExtendedFile(root.toString()).rm(true);
+        }
+
+        @Test
+        @DisplayName("같은 경로의 연속된 변경은 하나로 합쳐서 전달")
+        void test_watch_debounce() throws IOException, InterruptedException {
+            Path root = Files.createTempDirectory("watch");
+            BlockingQueue<String> changes = new LinkedBlockingQueue<>();
+
+            try (FileWatcher watcher = new ExtendedFile(root.toString()).watch(500, (change, file) -> changes.add(change + " " + file.getName()))) {
+                // 생성 후 변경은 생성, 생성 후 삭제는 전달하지 않음
+                Files.write(root.resolve("a.txt"), new byte[10]);
+                Files.write(root.resolve("a.txt"), new byte[10], StandardOpenOption.APPEND);
+                Files.write(root.resolve("b.txt"), new byte[10]);
+                Files.delete(root.resolve("b.txt"));
+
+                assertEquals(Collections.singleton("CREATE a.txt"), take(changes, 1));
+                assertNull(changes.poll(1, TimeUnit.SECONDS));
+
+                // 많은 변경이 한꺼번에 발생해도 모두 전달해야 함
+                for (int i = 0; i < 1000; i++) {
+                    Files.write(root.resolve("many_" + i + ".txt"), new byte[1]);
+                }
+
+                assertEquals(1000, take(changes, 1000).size());
+            }
+
+            new ExtendedFile(root.toString()).rm(true);
+        }
+
+        @Test
+        @DisplayName("변경이 계속되는 경로도 최대 시간이 지나면 전달")
+        void test_watch_maxDelay() throws IOException, InterruptedException {
+            Path root = Files.createTempDirectory("watch");
+            BlockingQueue<String> changes = new LinkedBlockingQueue<>();
+
+            try (FileWatcher watcher = new ExtendedFile(root.toString()).watch(100, (change, file) -> changes.add(change + " " + file.getName()))) {
+                Files.write(root.resolve("a.txt"), new byte[10]);
+                assertEquals(Collections.singleton("CREATE a.txt"), take(changes, 1));
+
+                // debounce 시간보다 짧은 간격으로 계속 변경해도, debounce 시간의 10배가 지나면 전달되어야 함
+                String change = null;
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+                while (change == null && System.nanoTime() - deadline < 0) {
+                    Files.write(root.resolve("a.txt"), new byte[1], StandardOpenOption.APPEND);
+                    change = changes.poll(20, TimeUnit.MILLISECONDS);
+                }
+                assertEquals("MODIFY a.txt", change);
+            }
+
+            new ExtendedFile(root.toString()).rm(true);
+        }
+
+        @Test
+        @DisplayName("운영체제가 변경을 모두 전달하지 못하면(OVERFLOW) 디렉터리를 다시 읽어들여 전달")
+        void test_watch_overflow() throws IOException, InterruptedException {
+            Path root = Files.createTempDirectory("watch");
+            BlockingQueue<String> changes = new LinkedBlockingQueue<>();
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch released = new CountDownLatch(1);
+
+            // block.txt의 생성을 전달받는 동안 감시 스레드를 멈춰두면, 그동안 발생한 변경이 WatchKey에 쌓임
+            FileChangeListener listener = (change, file) -> {
+                if ("block.txt".equals(file.getName())) {
+                    entered.countDown();
+                    try {
+                        released.await(30, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                changes.add(change + " " + file.getName());
+            };
+
+            Set<String> expected = new HashSet<>();
+            for (int i = 0; i < 100; i++) {
+                Files.write(root.resolve("old_" + i + ".txt"), new byte[1]);
+                expected.add("DELETE old_" + i + ".txt");
+            }
+
+            try (FileWatcher watcher = new ExtendedFile(root.toString()).watch(200, listener)) {
+                Files.write(root.resolve("block.txt"), new byte[1]);
+                assertTrue(entered.await(30, TimeUnit.SECONDS));
+
+                // WatchKey 하나에 쌓을 수 있는 변경(512개)보다 많은 변경을 발생시켜서 OVERFLOW를 유도
+                for (int i = 0; i < 1000; i++) {
+                    Files.write(root.resolve("many_" + i + ".txt"), new byte[1]);
+                    expected.add("CREATE many_" + i + ".txt");
+                }
+                for (int i = 0; i < 100; i++) {
+                    Files.delete(root.resolve("old_" + i + ".txt"));
+                }
+                released.countDown();
+
+                expected.add("CREATE block.txt");
+                assertEquals(expected, take(changes, expected.size()));
+                assertNull(changes.poll(1, TimeUnit.SECONDS));
+            }
+
+            new ExtendedFile(root.toString()).rm(true);
+        }
+
+        @Test
+        @DisplayName("디렉터리가 아니면 IOException 발생")
+        void test_watch_notDirectory() throws URISyntaxException {
+            ExtendedFile file = new ExtendedFile(Objects.requireNonNull(textFile).toURI());
+
+            assertThrows(IOException.class, () -> file.watch((change, changed) -> { }));
+            assertThrows(IllegalArgumentException.class, () -> new ExtendedFile(file.getParent()).watch(-1, (change, changed) -> { }));
+        }
+
+        // 변경을 count개 전달받아서 집합으로 반환 (전달 순서는 운영체제에 따라 다를 수 있음)
+        private Set<String> take(BlockingQueue<String> changes, int count) throws InterruptedException {
+            Set<String> result = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                String change = changes.poll(30, TimeUnit.SECONDS);
+                assertNotNull(change);
+                result.add(change);
+            }
+
+            return result;
+        }
+    }
+
+    @Nested
+    @DisplayName("getChunks(), getChunkStatistics() 메서드 테스트")
+    class ChunkTest {
+
+        @Test
+        @DisplayName("내용 기준의 조각 경계와 조각마다의 해시 코드")
+        void test_getChunks() throws IOException, NoSuchAlgorithmException {
+            Path root = Files.createTempDirectory("chunk");
+            byte[] content = new byte[1024 * 1024];
+            new Random(1).nextBytes(content);
+
+            // 앞부분에 데이터를 끼워넣은 파일
+            byte[] shifted = new byte[content.length + 100];
+            System.arraycopy(content, 0, shifted, 100, content.length);
+
+            try {
+                ExtendedFile file = new ExtendedFile(Files.write(root.resolve("a.bin"), content).toString());
+                ExtendedFile shiftedFile = new ExtendedFile(Files.write(root.resolve("b.bin"), shifted).toString());
+
+                List<Chunk> chunks = file.getChunks(ExtendedFile.EHash.SHA256, 4096);
+                long offset = 0;
+                for (int i = 0; i < chunks.size(); i++) {
+                    Chunk chunk = chunks.get(i);
+                    assertEquals(offset, chunk.getOffset());
+                    assertTrue(chunk.getLength() <= 4096 * 8);
+                    assertTrue(chunk.getLength() >= 1024 || i == chunks.size() - 1);
+                    offset += chunk.getLength();
+                }
+                assertEquals(content.length, offset);
+
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                digest.update(content, (int) chunks.get(1).getOffset(), chunks.get(1).getLength());
+                assertEquals(HEXCodecUtils.encode(digest.digest()), chunks.get(1).getHash());
+
+                // 같은 내용이면 항상 같은 경계를 반환해야 함
+                assertEquals(chunks.toString(), file.getChunks(ExtendedFile.EHash.SHA256, 4096).toString());
+
+                // 앞부분이 바뀌어도 나머지 조각은 그대로 유지되어야 함
+                Set<String> hashes = new HashSet<>();
+                shiftedFile.getChunks(ExtendedFile.EHash.SHA256, 4096).forEach(chunk -> hashes.add(chunk.getHash()));
+                long shared = chunks.stream().filter(chunk -> hashes.contains(chunk.getHash())).count();
+                assertTrue(shared >= chunks.size() - 2, shared + " / " + chunks.size());
+
+                ChunkStatistics statistics = new ExtendedFile(root.toString()).getChunkStatistics(ExtendedFile.EHash.SHA256, 4096, new ForkJoinPool(2));
+                assertEquals(2, statistics.getFiles());
+                assertEquals(content.length + shifted.length, statistics.getTotalBytes());
+                assertTrue(statistics.getUniqueBytes() < content.length + 4096 * 8 * 2);
+                assertEquals(statistics.getTotalBytes() - statistics.getUniqueBytes(), statistics.getDuplicateBytes());
+                assertTrue(statistics.getDedupRatio() > 1.5);
+                assertTrue(statistics.getUniqueChunks() < statistics.getTotalChunks());
+
+                assertTrue(new ExtendedFile(Files.write(root.resolve("empty.bin"), new byte[0]).toString()).getChunks(ExtendedFile.EHash.MD5).isEmpty());
+                assertThrows(IllegalArgumentException.class, () -> file.getChunks(ExtendedFile.EHash.SHA256, 1000));
+                assertThrows(IllegalArgumentException.class, () -> file.getChunks(ExtendedFile.EHash.SHA256, 128));
+
+                // 짧은 해시 코드는 충돌로 통계가 부풀려지므로 사용할 수 없음
+                ExtendedFile directory = new ExtendedFile(root.toString());
+                assertThrows(IllegalArgumentException.class, () -> directory.getChunkStatistics(ExtendedFile.EHash.CRC32));
+                assertThrows(IllegalArgumentException.class, () -> directory.getChunkStatistics(ExtendedFile.EHash.MD5));
+            } finally {
+                new ExtendedFile(root.toString()).rm(true);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("TieredMimeTypeDetector 테스트")
+    class TieredMimeTest {
+        private final byte[] png = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 0 };
+
+        @Test
+        @DisplayName("확장자, 시그니처, 대체 판별기 순서로 판별")
+        void test_detectWithTier() throws IOException, URISyntaxException {
+            Path root = Files.createTempDirectory("mime");
+            AtomicInteger fallbacks = new AtomicInteger();
+            TieredMimeTypeDetector detector = new TieredMimeTypeDetector(false, f -> {
+                fallbacks.incrementAndGet();
+                return "application/octet-stream";
+            });
+
+            try {
+                TieredMimeTypeDetector.Detection detection = detector.detectWithTier(Files.write(root.resolve("image.PNG"), png).toFile());
+                assertEquals("image/png", detection.getMimeType());
+                assertEquals(ExtendedFile.EMimeTypeTier.EXTENSION, detection.getTier());
+
+                detection = detector.detectWithTier(Files.write(root.resolve("image"), png).toFile());
+                assertEquals("image/png", detection.getMimeType());
+                assertEquals(ExtendedFile.EMimeTypeTier.MAGIC, detection.getTier());
+
+                assertEquals("application/gzip", detector.detect(new File(root.toFile(), "archive.tar.gz")));
+                assertEquals("application/octet-stream", detector.detect(Files.write(root.resolve("data.bin"), new byte[] { 1, 2, 3 }).toFile()));
+                assertEquals(1, fallbacks.get());
+
+                // 기본 모드는 파일을 읽지 않고 확장자를 그대로 믿음
+                assertEquals("application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+                             detector.detect(new File(Objects.requireNonNull(notWordFile).toURI())));
+
+                assertEquals(3, detector.getHits(ExtendedFile.EMimeTypeTier.EXTENSION));
+                assertEquals(1, detector.getHits(ExtendedFile.EMimeTypeTier.MAGIC));
+                assertEquals(1, detector.getHits(ExtendedFile.EMimeTypeTier.FALLBACK));
+
+                detector.resetHits();
+                assertEquals(0, detector.getHits(ExtendedFile.EMimeTypeTier.EXTENSION));
+            } finally {
+                new ExtendedFile(root.toString()).rm(true);
+            }
+        }
+
+        @Test
+        @DisplayName("엄격 모드는 시그니처와 맞지 않는 확장자를 무시")
+        void test_detectWithTier_strict() throws IOException, URISyntaxException {
+            Path root = Files.createTempDirectory("mime");
+            TieredMimeTypeDetector detector = new TieredMimeTypeDetector(true);
+            assertTrue(detector.isStrict());
+
+            try {
+                TieredMimeTypeDetector.Detection detection = detector.detectWithTier(Files.write(root.resolve("photo.jpg"), png).toFile());
+                assertEquals("image/png", detection.getMimeType());
+                assertEquals(ExtendedFile.EMimeTypeTier.MAGIC, detection.getTier());
+
+                detection = detector.detectWithTier(Files.write(root.resolve("note.txt"), "extended-file".getBytes()).toFile());
+                assertEquals("text/plain", detection.getMimeType());
+                assertEquals(ExtendedFile.EMimeTypeTier.EXTENSION, detection.getTier());
+
+                detection = detector.detectWithTier(Files.write(root.resolve("binary.txt"), new byte[] { 'a', 0, 'b' }).toFile());
+                assertEquals(ExtendedFile.EMimeTypeTier.FALLBACK, detection.getTier());
+
+                detection = detector.detectWithTier(new File(Objects.requireNonNull(notWordFile).toURI()));
+                assertEquals(ExtendedFile.EMimeTypeTier.FALLBACK, detection.getTier());
+                assertFalse(detection.getMimeType().startsWith("application/vnd.openxmlformats-officedocument.wordprocessingml.document"));
+
+                detection = detector.detectWithTier(new File(Objects.requireNonNull(wordFile).toURI()));
+                assertEquals("application/vnd.openxmlformats-officedocument.wordprocessingml.document", detection.getMimeType());
+                assertEquals(ExtendedFile.EMimeTypeTier.EXTENSION, detection.getTier());
+            } finally {
+                new ExtendedFile(root.toString()).rm(true);
+            }
+        }
+
+        @Test
+        @DisplayName("isImage(), isText(), isAudio(), isVideo()는 최상위 유형을 알 수 있는 단계에서 판별")
+        void test_isMediaType() throws IOException {
+            Path root = Files.createTempDirectory("mime");
+            AtomicInteger fallbacks = new AtomicInteger();
+            TieredMimeTypeDetector detector = new TieredMimeTypeDetector(true, f -> {
+                fallbacks.incrementAndGet();
+                return "application/octet-stream";
+            });
+
+            try {
+                ExtendedFile zip = new ExtendedFile(Files.write(root.resolve("archive"), new byte[] { 'P', 'K', 3, 4, 0, 0 }).toString());
+                zip.setMimeTypeDetector(detector);
+                assertFalse(zip.isImage());
+                assertFalse(zip.isText());
+                assertEquals(0, fallbacks.get());
+
+                // 전체 MIME type은 컨테이너의 세부 형식을 알아야 하므로 대체 판별기가 판별
+                assertEquals("application/octet-stream", zip.getMimeType());
+                assertEquals(1, fallbacks.get());
+
+                ExtendedFile wave = new ExtendedFile(Files.write(root.resolve("sound"), "RIFF\0\0\0\0WAVEfmt ".getBytes()).toString());
+                wave.setMimeTypeDetector(detector);
+                assertTrue(wave.isAudio());
+
+                ExtendedFile movie = new ExtendedFile(Files.write(root.resolve("movie.mp4"), "\0\0\0\u0018ftypisom".getBytes()).toString());
+                movie.setMimeTypeDetector(detector);
+                assertTrue(movie.isVideo());
+                assertFalse(movie.isAudio());
+                assertEquals(1, fallbacks.get());
+            } finally {
+                new ExtendedFile(root.toString()).rm(true);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("getTreeHash() 메서드 테스트")
+    class TreeHashTest {
+
+        @Test
+        @DisplayName("조각의 해시 코드로 루트 해시 코드를 구성")
+        void test_getTreeHash() throws IOException, NoSuchAlgorithmException {
+            Path path = Files.createTempFile("tree", ".bin");
+            try {
+                byte[] content = new byte[250];
+                for (int i = 0; i < content.length; i++) {
+                    content[i] = (byte) i;
+                }
+                Files.write(path, content);
+
+                // 100 byte 조각 3개: root = H(0x01 || H(0x01 || L0 || L1) || L2)
+                byte[] l0 = digest(new byte[] { 0 }, Arrays.copyOfRange(content, 0, 100));
+                byte[] l1 = digest(new byte[] { 0 }, Arrays.copyOfRange(content, 100, 200));
+                byte[] l2 = digest(new byte[] { 0 }, Arrays.copyOfRange(content, 200, 250));
+                byte[] root = digest(new byte[] { 1 }, digest(new byte[] { 1 }, l0, l1), l2);
+
+                ExtendedFile file = new ExtendedFile(path.toString());
+                TreeHash treeHash = file.getTreeHash(ExtendedFile.EHash.SHA256, 100);
+                assertEquals(HEXCodecUtils.encode(root), treeHash.getRoot());
+                assertEquals(Arrays.asList(HEXCodecUtils.encode(l0), HEXCodecUtils.encode(l1), HEXCodecUtils.encode(l2)), treeHash.getChunkHashes());
+                assertEquals(250, treeHash.getLength());
+                assertEquals(200, treeHash.getChunkOffset(2));
+
+                ForkJoinPool pool = new ForkJoinPool(2);
+                try {
+                    assertEquals(treeHash.getRoot(), file.getTreeHash(ExtendedFile.EHash.SHA256, 100, pool).getRoot());
+                } finally {
+                    pool.shutdown();
+                }
+
+                // 두 번째 조각만 바꾸면 두 번째 조각만 다름
+                content[150] = 0;
+                Files.write(path, content);
+                TreeHash changed = file.getTreeHash(ExtendedFile.EHash.SHA256, 100);
+                assertNotEquals(treeHash.getRoot(), changed.getRoot());
+                assertEquals(Arrays.asList(1), treeHash.diff(changed));
+
+                assertThrows(IllegalArgumentException.class, () -> file.getTreeHash(ExtendedFile.EHash.SHA256, 0));
+                assertThrows(IllegalArgumentException.class, () -> treeHash.diff(file.getTreeHash(ExtendedFile.EHash.SHA256, 50)));
+            } finally {
+                Files.delete(path);
+            }
+        }
+
+        @Test
+        @DisplayName("빈 파일은 하나의 빈 조각으로 계산")
+        void test_getTreeHash_empty() throws IOException, NoSuchAlgorithmException {
+            Path path = Files.createTempFile("tree", ".bin");
+            try {
+                TreeHash treeHash = new ExtendedFile(path.toString()).getTreeHash(ExtendedFile.EHash.SHA256, 1024);
+                assertEquals(1, treeHash.getChunkHashes().size());
+                assertEquals(HEXCodecUtils.encode(digest(new byte[] { 0 })), treeHash.getRoot());
+            } finally {
+                Files.delete(path);
+            }
+        }
+
+        private byte[] digest(byte[]... parts) throws NoSuchAlgorithmException {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (byte[] part : parts) {
+                digest.update(part);
+            }
+
+            return digest.digest();
+        }
+    }
+
+    @Nested
+    @DisplayName("hashAll() 메서드 테스트")
+    class HashAllTest {
+
+        @Test
+        @DisplayName("Stream - 모든 파일의 해시 코드를 반환")
+        void test_hashAll() throws IOException, URISyntaxException {
+            ExtendedFile directory = new ExtendedFile(Objects.requireNonNull(directoryFile).toURI());
+            List<ExtendedFile> files = directory.walkFiles().stream().filter(File::isFile).collect(Collectors.toList());
+
+            Map<ExtendedFile, String> result;
+            try (Stream<Map.Entry<ExtendedFile, String>> stream = ExtendedFile.hashAll(files, ExtendedFile.EHash.SHA256, 4, 2)) {
+                result = stream.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            }
+
+            assertEquals(files.size(), result.size());
+            for (ExtendedFile file : files) {
+                assertEquals(file.getHash(), result.get(file));
+            }
+
+            try (Stream<Map.Entry<ExtendedFile, String>> stream = directory.hashTree(ExtendedFile.EHash.SHA256)) {
+                assertEquals(result, stream.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+            }
+        }
+
+        @Test
+        @DisplayName("HashListener - 읽을 수 없는 파일은 onFailure로 전달")
+        void test_hashAll_listener() throws IOException, URISyntaxException {
+            ExtendedFile file = new ExtendedFile(Objects.requireNonNull(textFile).toURI());
+            File missing = new File(file.getParentFile(), "not_exists_file");
+            AtomicInteger successes = new AtomicInteger();
+            AtomicInteger failures = new AtomicInteger();
+
+            ExtendedFile.hashAll(Arrays.asList(file, missing), ExtendedFile.EHash.SHA256, 2, 1, new HashListener() {
+                @Override
+                public void onSuccess(ExtendedFile f, String hash) {
+                    successes.incrementAndGet();
+                }
+
+                @Override
+                public void onFailure(ExtendedFile f, IOException e) {
+                    failures.incrementAndGet();
+                }
+            });
+
+            assertEquals(1, successes.get());
+            assertEquals(1, failures.get());
+
+            try (Stream<Map.Entry<ExtendedFile, String>> stream = ExtendedFile.hashAll(Arrays.asList(file, missing), ExtendedFile.EHash.SHA256, 1)) {
+                assertThrows(UncheckedIOException.class, () -> stream.forEach(entry -> { }));
+            }
+
+            assertThrows(IllegalArgumentException.class, () -> ExtendedFile.hashAll(Arrays.asList(file), ExtendedFile.EHash.SHA256, 0));
+        }
+
+        @Test
+        @DisplayName("검사되지 않는 예외 - 결과를 기다리는 쪽이 멈추지 않고 실패로 전달")
+        void test_hashAll_unchecked() throws IOException, URISyntaxException {
+            ExtendedFile file = new ExtendedFile(Objects.requireNonNull(textFile).toURI());
+            ExtendedFile broken = new ExtendedFile(file.getPath()) {
+                @Override
+                String getHash(EHash hash, EReadMode readMode, Semaphore permits) {
+                    throw new IllegalStateException("broken");
+                }
+            };
+
+            try (Stream<Map.Entry<ExtendedFile, String>> stream = ExtendedFile.hashAll(Arrays.asList(file, broken), ExtendedFile.EHash.SHA256, 2)) {
+                UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> stream.forEach(entry -> { }));
+                assertInstanceOf(IllegalStateException.class, e.getCause().getCause());
+            }
+
+            AtomicInteger failures = new AtomicInteger();
+            ExtendedFile.hashAll(Arrays.asList(file, broken), ExtendedFile.EHash.SHA256, 2, 1, new HashListener() {
+                @Override
+                public void onSuccess(ExtendedFile f, String hash) {
+                    // 성공은 무시
+                }
+
+                @Override
+                public void onFailure(ExtendedFile f, IOException e) {
+                    failures.incrementAndGet();
+                }
+            });
+            assertEquals(1, failures.get());
+
+            // listener가 던진 예외는 모든 파일의 생성이 끝난 후에 다시 던져짐
+            AtomicInteger calls = new AtomicInteger();
+            assertThrows(IllegalStateException.class, () -> ExtendedFile.hashAll(Arrays.asList(file, file, file), ExtendedFile.EHash.SHA256, 1, 1, (f, hash) -> {
+                calls.incrementAndGet();
+                throw new IllegalStateException("listener");
+            }));
+            assertEquals(3, calls.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("findDuplicates() 메서드 테스트")
+    class FindDuplicatesTest {
+
+        @Test
+        @DisplayName("내용이 같은 파일끼리 묶어서 반환")
+        void test_findDuplicates() throws IOException {
+            Path directory = Files.createTempDirectory("duplicates");
+            try {
+                Files.write(directory.resolve("a.txt"), "same".getBytes());
+                Files.write(directory.resolve("b.txt"), "same".getBytes());
+                Files.write(directory.resolve("c.txt"), "diff".getBytes());
+                Files.createFile(directory.resolve("empty1"));
+                Files.createFile(directory.resolve("empty2"));
+
+                // 앞부분과 뒷부분은 같고 가운데만 다른 파일 (부분 해시 코드는 같음)
+                byte[] content = new byte[DuplicateFinder.PARTIAL_SIZE * 4];
+                Files.write(directory.resolve("large1.bin"), content);
+                Files.write(directory.resolve("large3.bin"), content);
+                content[DuplicateFinder.PARTIAL_SIZE * 2] = 1;
+                Files.write(directory.resolve("large2.bin"), content);
+
+                ExtendedFile root = new ExtendedFile(directory.toString());
+                for (boolean verify : new boolean[] { false, true }) {
+                    List<List<String>> groups = root.findDuplicates(ExtendedFile.EHash.SHA256, verify).stream()
+                        .map(group -> group.stream().map(File::getName).sorted().collect(Collectors.toList()))
+                        .sorted(Comparator.comparing(group -> group.get(0)))
+                        .collect(Collectors.toList());
+
+                    assertEquals(Arrays.asList(
+                        Arrays.asList("a.txt", "b.txt"),
+                        Arrays.asList("empty1", "empty2"),
+                        Arrays.asList("large1.bin", "large3.bin")
+                    ), groups);
+                }
+
+                assertTrue(ExtendedFile.findDuplicates(Arrays.asList(new File(directory.toFile(), "c.txt")), ExtendedFile.EHash.CRC32, true).isEmpty());
+            } finally {
+                new ExtendedFile(directory.toString()).rm(true);
+            }
+        }
+
+        @Test
+        @DisplayName("부분 해시 코드가 파일 전체를 포함하면 전체 해시 코드를 다시 계산하지 않음")
+        void test_findDuplicates_small() throws IOException {
+            Path directory = Files.createTempDirectory("duplicates");
+            InMemoryFileMetrics metrics = new InMemoryFileMetrics();
+            ExtendedFile.setDefaultMetrics(metrics);
+            try {
+                byte[] content = new byte[DuplicateFinder.PARTIAL_SIZE * 2];
+                Files.write(directory.resolve("small1.bin"), content);
+                Files.write(directory.resolve("small2.bin"), content);
+                content[DuplicateFinder.PARTIAL_SIZE] = 1;
+                Files.write(directory.resolve("small3.bin"), content);
+
+                List<List<ExtendedFile>> groups = new ExtendedFile(directory.toString()).findDuplicates(ExtendedFile.EHash.SHA256, false);
+                assertEquals(1, groups.size());
+                assertEquals(2, groups.get(0).size());
+                assertEquals(0, metrics.getSnapshot(ExtendedFile.EFileOperation.HASH).getCount());
+
+                // PARTIAL_SIZE의 2배보다 큰 파일은 부분 해시 코드가 같으면 전체 해시 코드를 계산
+                byte[] large = new byte[DuplicateFinder.PARTIAL_SIZE * 2 + 1];
+                Files.write(directory.resolve("large1.bin"), large);
+                Files.write(directory.resolve("large2.bin"), large);
+                assertEquals(2, new ExtendedFile(directory.toString()).findDuplicates(ExtendedFile.EHash.SHA256, false).size());
+                assertEquals(2, metrics.getSnapshot(ExtendedFile.EFileOperation.HASH).getCount());
+            } finally {
+                ExtendedFile.setDefaultMetrics(null);
+                new ExtendedFile(directory.toString()).rm(true);
+            }
+        }
     }
 
     @Nested
@@ -173,6 +1538,71 @@ class ExtendedFileTest {
             ExtendedFile file2 = new ExtendedFile(Objects.requireNonNull(textFileDifferent).toURI());
             assertFalse(file.matchesDeep(file2));
         }
+
+        @Test
+        @DisplayName("UTF-8로 해석할 수 없는 바이너리 파일이 다른 경우")
+        void test_matchesDeep_binary() throws IOException {
+            Path source = Files.createTempFile("deep", ".bin");
+            Path target = Files.createTempFile("deep", ".bin");
+            try {
+                Files.write(source, new byte[] { 'a', (byte) 0xFF, 'b' });
+                Files.write(target, new byte[] { 'a', (byte) 0xFE, 'b' });
+
+                ExtendedFile file = new ExtendedFile(source.toString());
+                assertFalse(file.matchesDeep(target.toFile()));
+                assertEquals(1, file.mismatch(target.toFile()));
+            } finally {
+                Files.delete(source);
+                Files.delete(target);
+            }
+        }
+
+        @Test
+        @DisplayName("메모리 매핑으로 비교하는 큰 파일")
+        void test_matchesDeep_mapped() throws IOException {
+            Path source = Files.createTempFile("deep", ".bin");
+            Path target = Files.createTempFile("deep", ".bin");
+            long size = FileComparator.MAPPED_THRESHOLD + 10;
+            try {
+                try (RandomAccessFile sourceFile = new RandomAccessFile(source.toFile(), "rw");
+                     RandomAccessFile targetFile = new RandomAccessFile(target.toFile(), "rw")) {
+                    sourceFile.setLength(size);
+                    targetFile.setLength(size);
+                }
+
+                ExtendedFile file = new ExtendedFile(source.toString());
+                assertTrue(file.matchesDeep(target.toFile()));
+                assertEquals(-1, file.mismatch(target.toFile()));
+
+                try (RandomAccessFile targetFile = new RandomAccessFile(target.toFile(), "rw")) {
+                    targetFile.seek(size - 3);
+                    targetFile.write(1);
+                }
+
+                assertFalse(file.matchesDeep(target.toFile()));
+                assertEquals(size - 3, file.mismatch(target.toFile()));
+            } finally {
+                Files.delete(source);
+                Files.delete(target);
+            }
+        }
+
+        @Test
+        @DisplayName("mismatch() 메서드 - 한 파일이 다른 파일의 앞부분과 같은 경우")
+        void test_mismatch_prefix() throws IOException, URISyntaxException {
+            ExtendedFile file = new ExtendedFile(Objects.requireNonNull(textFile).toURI());
+            ExtendedFile file2 = new ExtendedFile(Objects.requireNonNull(textFileCopy).toURI());
+            assertEquals(-1, file.mismatch(file2));
+
+            Path target = Files.createTempFile("deep", ".bin");
+            try {
+                byte[] content = Files.readAllBytes(file.toPath());
+                Files.write(target, Arrays.copyOf(content, content.length + 1));
+                assertEquals(content.length, file.mismatch(target.toFile()));
+            } finally {
+                Files.delete(target);
+            }
+        }
     }
 
     @Nested
@@ -210,6 +1640,58 @@ class ExtendedFileTest {
             assertNotNull(file.getSize(false));
             assertTrue("2400000".equals(file.getSize(false)) || "2500000".equals(file.getSize(false)));
         }
+
+        @Test
+        @DisplayName("getDiskUsage() 메서드 - 경로 내부의 크기 합계와 하위 항목별 집계")
+        void test_getDiskUsage() throws IOException {
+            Path root = Files.createTempDirectory("disk_usage");
+            Files.write(root.resolve("a.bin"), new byte[100]);
+            Files.write(Files.createDirectories(root.resolve("one/two")).resolve("b.bin"), new byte[2000]);
+            Files.write(root.resolve("one/c.bin"), new byte[300]);
+            Files.createDirectory(root.resolve("empty"));
+
+            ExtendedFile directory = new ExtendedFile(root.toString());
+            try {
+                DiskUsage usage = directory.getDiskUsage();
+                assertEquals(2400, usage.getBytes());
+                assertEquals(3, usage.getFiles());
+                assertEquals(4, usage.getDirectories());
+                assertEquals(0, usage.getInaccessible());
+                assertEquals("2400", usage.getSize(false));
+                assertEquals(ExtendedFile.formatSize(2400, true), usage.getSize());
+                assertTrue(usage.getChildren().isEmpty());
+
+                // 크기가 큰 순서로 바로 아래 하위 항목만 집계해야 함
+                DiskUsage breakdown = directory.getDiskUsage(true, new ForkJoinPool(2));
+                assertEquals(usage.getBytes(), breakdown.getBytes());
+                assertEquals(3, breakdown.getChildren().size());
+                assertEquals("one", breakdown.getChildren().get(0).getFile().getName());
+                assertEquals(2300, breakdown.getChildren().get(0).getBytes());
+                assertEquals(2, breakdown.getChildren().get(0).getDirectories());
+                assertTrue(breakdown.getChildren().get(0).getChildren().isEmpty());
+                assertEquals("a.bin", breakdown.getChildren().get(1).getFile().getName());
+                assertEquals(0, breakdown.getChildren().get(2).getBytes());
+
+                // 파일 목록을 탐색해서 더한 크기와 같아야 함
+                long walked = directory.walkFiles().stream().filter(File::isFile).mapToLong(File::length).sum();
+                assertEquals(walked, usage.getBytes());
+
+                DiskUsage file = new ExtendedFile(root.resolve("a.bin").toString()).getDiskUsage();
+                assertEquals(100, file.getBytes());
+                assertEquals(1, file.getFiles());
+                assertEquals(0, file.getDirectories());
+
+                DiskUsage missing = new ExtendedFile("not_exists_path").getDiskUsage();
+                assertEquals(0, missing.getBytes());
+                assertEquals(0, missing.getFiles() + missing.getDirectories() + missing.getInaccessible());
+
+                // getSize(true)와 같은 단위를 사용하므로, 1TB 이상도 GB로 표시
+                assertEquals(String.format("%.2f GB", 1.5), ExtendedFile.formatSize(1536L * 1024 * 1024, true));
+                assertEquals(String.format("%.2f GB", 3072.0), ExtendedFile.formatSize(3L * 1024 * 1024 * 1024 * 1024, true));
+            } finally {
+                directory.rm(true);
+            }
+        }
     }
 
     @Test
@@ -278,6 +1760,75 @@ class ExtendedFileTest {
             assertTrue(file.rm(true));
         }
 
+        @Test
+        @Order(5)
+        @DisplayName("재귀 삭제 결과 반환")
+        void test_rmRecursively() throws IOException {
+            Path root = Files.createTempDirectory("rm");
+            Files.write(root.resolve("a.txt"), new byte[10]);
+            Path inner = Files.createDirectories(root.resolve("one/two"));
+            Files.write(inner.resolve("b.txt"), new byte[20]);
+            Files.write(root.resolve("one/c.txt"), new byte[30]);
+
+            DeleteResult result = new ExtendedFile(root.toString()).rmRecursively(ExtendedFile.EErrorPolicy.CONTINUE);
+            assertTrue(result.isSuccess());
+            assertEquals(3, result.getDeletedFiles());
+            assertEquals(3, result.getDeletedDirectories());
+            assertEquals(60, result.getBytesFreed());
+            assertFalse(Files.exists(root));
+        }
+
+        @Test
+        @Order(6)
+        @DisplayName("재귀 삭제 - 존재하지 않는 경로")
+        void test_rmRecursively_notExists() {
+            ExtendedFile file = new ExtendedFile("./src/test/resources/not_exists_directory");
+            DeleteResult result = file.rmRecursively(ExtendedFile.EErrorPolicy.FAIL_FAST);
+            assertFalse(result.isSuccess());
+            assertTrue(result.getFailures().containsKey(file.toPath()));
+            assertFalse(file.rm(true));
+        }
+
+        @Test
+        @Order(7)
+        @DisplayName("재귀 삭제 - 심볼릭 링크는 따라가지 않음")
+        void test_rmRecursively_symbolicLink() throws IOException {
+            Path target = Files.createTempDirectory("rm-target");
+            Path root = Files.createTempDirectory("rm");
+            try {
+                Files.write(target.resolve("keep.txt"), new byte[10]);
+                try {
+                    Files.createSymbolicLink(root.resolve("link"), target);
+                } catch (UnsupportedOperationException | IOException e) {
+                    return;
+                }
+
+                assertTrue(new ExtendedFile(root.toString()).rm(true));
+                assertTrue(Files.exists(target.resolve("keep.txt")));
+            } finally {
+                new ExtendedFile(target.toString()).rm(true);
+            }
+        }
+
+        @Test
+        @Order(8)
+        @DisplayName("재귀 삭제 - 취소된 경우 실패로 반환")
+        void test_rmRecursively_cancelled() throws IOException {
+            Path root = Files.createTempDirectory("rm");
+            Files.write(Files.createDirectories(root.resolve("one")).resolve("a.txt"), new byte[10]);
+
+            DeleteResult result = FileRemover.remove(root, ExtendedFile.EErrorPolicy.CONTINUE, ForkJoinPool.commonPool(), () -> true);
+            assertTrue(result.isCancelled());
+            assertFalse(result.isSuccess());
+            assertTrue(result.getFailures().isEmpty());
+            assertTrue(Files.exists(root.resolve("one/a.txt")));
+
+            result = new ExtendedFile(root.toString()).rmRecursively(ExtendedFile.EErrorPolicy.CONTINUE);
+            assertFalse(result.isCancelled());
+            assertTrue(result.isSuccess());
+            assertFalse(Files.exists(root));
+        }
+
         private void createTestFile() throws IOException {
             Files.createFile(Paths.get("./src/test/resources/delete_test_file"));
             ExtendedFile testFile = new ExtendedFile("./src/test/resources/delete_test_file");
@@ -485,5 +2036,133 @@ class ExtendedFileTest {
             System.out.println("\n=== listFilesRecursively(0) 결과 (루트만) ===");
             files.forEach(f -> System.out.println(f.getAbsolutePath()));
         }
+
+        @Test
+        @DisplayName("walkFilesParallel() 메서드 - 순차 탐색과 같은 결과 및 순서")
+        void test_walkFilesParallel() throws URISyntaxException {
+            ExtendedFile directory = new ExtendedFile(Objects.requireNonNull(directoryFile).toURI());
+
+            assertEquals(directory.walkFiles(), directory.walkFilesParallel());
+            assertEquals(directory.walkFiles(1), directory.walkFilesParallel(1));
+            assertEquals(directory.walkFiles(2), directory.walkFilesParallel(2, new ForkJoinPool(2)));
+            assertEquals(directory.walkFiles(0), directory.walkFilesParallel(0));
+
+            ExtendedFile file = new ExtendedFile(Objects.requireNonNull(textFile).toURI());
+            assertEquals(file.walkFiles(), file.walkFilesParallel());
+        }
+
+        @Test
+        @DisplayName("탐색 결과 - 탐색 도중에 읽어들인 속성 보관")
+        void test_walkFiles_snapshot() throws URISyntaxException, IOException {
+            ExtendedFile directory = new ExtendedFile(Objects.requireNonNull(directoryFile).toURI());
+
+            for (ExtendedFile file : directory.walkFilesParallel()) {
+                FileSnapshot snapshot = file.getSnapshot();
+                assertNotNull(snapshot);
+                assertEquals(new File(file.getPath()).isDirectory(), snapshot.isDirectory());
+                assertEquals(new File(file.getPath()).isFile(), snapshot.isRegularFile());
+                assertEquals(file.isDirectory(), snapshot.isDirectory());
+
+                if (file.isFile()) {
+                    assertEquals(new File(file.getPath()).length(), file.length());
+                    assertEquals(String.valueOf(snapshot.getSize()), file.getSize(false));
+                    assertEquals("txt", file.getExtension());
+                } else {
+                    assertEquals("", file.getExtension());
+                }
+            }
+
+            ExtendedFile file = new ExtendedFile(Objects.requireNonNull(textFile).toURI());
+            assertNull(file.getSnapshot());
+            assertEquals(file.length(), file.refreshSnapshot().getSize());
+            assertNotNull(file.getSnapshot());
+
+            file.clearSnapshot();
+            assertNull(file.getSnapshot());
+        }
+
+        @Test
+        @DisplayName("streamFiles() 메서드 - 순차 탐색과 같은 결과 및 순서")
+        void test_streamFiles() throws URISyntaxException {
+            ExtendedFile directory = new ExtendedFile(Objects.requireNonNull(directoryFile).toURI());
+
+            for (int depth = -1; depth <= 3; depth++) {
+                try (Stream<ExtendedFile> stream = directory.streamFiles(depth)) {
+                    assertEquals(directory.walkFiles(depth), stream.collect(Collectors.toList()));
+                }
+            }
+
+            try (Stream<ExtendedFile> stream = directory.streamFiles()) {
+                assertEquals(directory.walkFiles(), stream.collect(Collectors.toList()));
+            }
+
+            // 도중에 닫아도 열려 있는 디렉터리가 정리되어야 함
+            try (Stream<ExtendedFile> stream = directory.streamFiles()) {
+                assertTrue(stream.findFirst().isPresent());
+            }
+
+            ExtendedFile file = new ExtendedFile(Objects.requireNonNull(textFile).toURI());
+            try (Stream<ExtendedFile> stream = file.streamFiles()) {
+                assertEquals(file.walkFiles(), stream.collect(Collectors.toList()));
+            }
+
+            try (Stream<ExtendedFile> stream = new ExtendedFile("not_exists_path").streamFiles()) {
+                assertEquals(0, stream.count());
+            }
+        }
+
+        @Test
+        @DisplayName("walkFiles(WalkOptions) 메서드 - 탐색 도중에 조건 적용 및 디렉터리 제외")
+        void test_walkFiles_options() throws IOException {
+            Path root = Files.createTempDirectory("walk_options");
+            Files.write(root.resolve("a.txt"), new byte[10]);
+            Files.write(root.resolve("b.TXT"), new byte[100]);
+            Files.write(root.resolve("c.tar.gz"), new byte[1000]);
+            Files.write(Files.createDirectories(root.resolve("src/main")).resolve("d.txt"), new byte[10]);
+            Files.write(Files.createDirectories(root.resolve(".git/objects")).resolve("e.txt"), new byte[10]);
+            Files.setLastModifiedTime(root.resolve("a.txt"), FileTime.fromMillis(1_000_000L));
+
+            ExtendedFile directory = new ExtendedFile(root.toString());
+            try {
+                assertEquals(directory.walkFiles(), directory.walkFiles(WalkOptions.defaults()));
+                assertEquals(directory.walkFiles(1), directory.walkFiles(WalkOptions.defaults().maxDepth(1)));
+
+                assertEquals(Arrays.asList("a.txt", "b.TXT", "d.txt", "e.txt"), names(directory.walkFiles(WalkOptions.defaults().extensions("txt").includeDirectories(false))));
+                assertEquals(Collections.singletonList("c.tar.gz"), names(directory.walkFiles(WalkOptions.defaults().extensions("tar.gz").includeDirectories(false))));
+                assertEquals(Arrays.asList("b.TXT", "c.tar.gz"), names(directory.walkFiles(WalkOptions.defaults().size(100, 1000).includeDirectories(false))));
+                assertEquals(Collections.singletonList("a.txt"), names(directory.walkFiles(WalkOptions.defaults().modified(0, 2_000_000L).includeDirectories(false))));
+                assertEquals(Collections.singletonList("d.txt"), names(directory.walkFiles(WalkOptions.defaults().glob("src/**/*.txt").includeDirectories(false))));
+                assertEquals(Arrays.asList("a.txt", "d.txt", "e.txt"), names(directory.walkFiles(WalkOptions.defaults().glob("*.txt").includeDirectories(false))));
+
+                // 제외한 디렉터리는 결과에 포함되지 않고 내부도 탐색하지 않아야 함
+                WalkOptions pruned = WalkOptions.defaults().pruneNames(".git");
+                List<ExtendedFile> files = directory.walkFiles(pruned);
+                List<String> names = names(files);
+                assertFalse(names.contains(".git"));
+                assertFalse(names.contains("objects"));
+                assertFalse(names.contains("e.txt"));
+                assertTrue(names.contains("d.txt"));
+                assertEquals(directory.getAbsolutePath(), files.get(files.size() - 1).getAbsolutePath());
+
+                // 병렬 탐색과 Stream은 순차 탐색과 같은 결과를 반환해야 함
+                WalkOptions options = pruned.extensions("txt", "gz");
+                assertEquals(directory.walkFiles(options), directory.walkFilesParallel(options, new ForkJoinPool(2)));
+                try (Stream<ExtendedFile> stream = directory.streamFiles(options)) {
+                    assertEquals(directory.walkFiles(options), stream.collect(Collectors.toList()));
+                }
+
+                assertThrows(IllegalArgumentException.class, () -> WalkOptions.defaults().maxDepth(-2));
+                assertThrows(IllegalArgumentException.class, () -> WalkOptions.defaults().size(10, 1));
+                assertThrows(IllegalArgumentException.class, () -> WalkOptions.defaults().modified(2, 1));
+                assertThrows(IllegalArgumentException.class, () -> WalkOptions.defaults().extensions());
+            } finally {
+                directory.rm(true);
+            }
+        }
+
+        // 탐색 결과의 파일명 목록을 이름순으로 반환 (디렉터리 목록 순서는 파일 시스템마다 다름)
+        private List<String> names(List<ExtendedFile> files) {
+            return files.stream().map(File::getName).sorted().collect(Collectors.toList());
+        }
     }
 }
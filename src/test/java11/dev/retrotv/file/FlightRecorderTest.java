@@ -0,0 +1,83 @@
+package dev.retrotv.file;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Multi-Release JAR의 META-INF/versions/11 아래에 있는 [FlightRecorder]를 테스트합니다. (testJava11, testJava21 태스크에서 실행)
+ */
+class FlightRecorderTest {
+    private static final List<String> EVENTS = Arrays.asList(
+        "dev.retrotv.file.Hash", "dev.retrotv.file.MimeType", "dev.retrotv.file.Compare", "dev.retrotv.file.Walk", "dev.retrotv.file.Delete");
+
+    @Test
+    @DisplayName("활성화된 이벤트가 없으면 이벤트 객체를 생성하지 않음")
+    void test_flightRecorder_disabled() {
+        assertNull(FlightRecorder.begin(ExtendedFile.EFileOperation.HASH));
+    }
+
+    @Test
+    @DisplayName("파일 작업마다 JFR 이벤트 기록")
+    void test_flightRecorder() throws IOException {
+        Path root = Files.createTempDirectory("jfr");
+        Path file = Files.write(root.resolve("a.txt"), new byte[1024]);
+        Path dump = Files.createTempFile("jfr", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            for (String event : EVENTS) {
+                recording.enable(event).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+
+            // 기본 클래스(Java 8)는 항상 null을 반환하므로, 이벤트 객체가 생성되면 버전별 클래스가 사용된 것
+            assertNotNull(FlightRecorder.begin(ExtendedFile.EFileOperation.HASH));
+
+            ExtendedFile extendedFile = new ExtendedFile(file.toString());
+            extendedFile.getHash(ExtendedFile.EHash.SHA256);
+            extendedFile.getMimeType();
+            assertTrue(extendedFile.matches(new ExtendedFile(file.toString())));
+            assertEquals(2, new ExtendedFile(root.toString()).walkFiles().size());
+            assertTrue(new ExtendedFile(root.toString()).rm(true));
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        Map<String, RecordedEvent> recorded = new HashMap<>();
+        try {
+            for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+                recorded.putIfAbsent(event.getEventType().getName(), event);
+            }
+        } finally {
+            Files.delete(dump);
+        }
+
+        assertEquals(EVENTS.size(), recorded.size());
+        for (String event : EVENTS) {
+            assertNull(recorded.get(event).getString("error"), event);
+        }
+
+        RecordedEvent hash = recorded.get("dev.retrotv.file.Hash");
+        assertEquals(file.toString(), hash.getString("path"));
+        assertEquals("SHA256", hash.getString("algorithm"));
+        assertEquals(1024, hash.getLong("bytes"));
+        assertEquals(1024, recorded.get("dev.retrotv.file.Compare").getLong("bytes"));
+        assertEquals(2, recorded.get("dev.retrotv.file.Walk").getLong("entries"));
+        assertEquals(1024, recorded.get("dev.retrotv.file.Delete").getLong("bytes"));
+        assertEquals(2, recorded.get("dev.retrotv.file.Delete").getLong("entries"));
+    }
+}
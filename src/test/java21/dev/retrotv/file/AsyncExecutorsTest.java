@@ -0,0 +1,61 @@
+package dev.retrotv.file;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Multi-Release JAR의 META-INF/versions/21 아래에 있는 [AsyncExecutors]를 테스트합니다. (testJava21 태스크에서 실행)
+ */
+class AsyncExecutorsTest {
+
+    @Test
+    @DisplayName("기본 Executor는 작업마다 가상 스레드를 생성")
+    void test_asyncExecutors_virtual() throws InterruptedException, ExecutionException, TimeoutException {
+        // 기본 클래스(Java 8)는 플랫폼 데몬 스레드를 사용하므로, 가상 스레드이면 버전별 클래스가 사용된 것
+        Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, ExtendedFile.getDefaultAsyncExecutor()).get(10, TimeUnit.SECONDS);
+        assertTrue(thread.isVirtual());
+        assertTrue(thread.getName().startsWith("extended-file-async-"));
+    }
+
+    @Test
+    @DisplayName("가상 스레드에서 비동기 메서드 실행 및 취소")
+    void test_asyncExecutors_async() throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        Path root = Files.createTempDirectory("async");
+        Path file = Files.write(root.resolve("a.txt"), new byte[1024]);
+        ExtendedFile extendedFile = new ExtendedFile(file.toString());
+
+        assertEquals(extendedFile.getHash(ExtendedFile.EHash.SHA256), extendedFile.getHashAsync(ExtendedFile.EHash.SHA256).get(10, TimeUnit.SECONDS));
+        assertTrue(extendedFile.matchesAsync(new ExtendedFile(file.toString())).get(10, TimeUnit.SECONDS));
+
+        // 가상 스레드에서 실행 중인 작업도 cancel(true)로 중단되어야 함
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<Void> future = AsyncTask.submit(ExtendedFile.getDefaultAsyncExecutor(), cancelled -> {
+            assertTrue(Thread.currentThread().isVirtual());
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        });
+
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        assertTrue(future.cancel(true));
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+
+        assertTrue(new ExtendedFile(root.toString()).rm(true));
+    }
+}